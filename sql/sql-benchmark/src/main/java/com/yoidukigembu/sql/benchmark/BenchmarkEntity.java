@@ -0,0 +1,26 @@
+package com.yoidukigembu.sql.benchmark;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * ベンチマーク用のエンティティ
+ *
+ */
+@Table(name = "bench_item", schema = "bench")
+public class BenchmarkEntity {
+
+	@Id
+	@Column(name = "id")
+	private Long id;
+	
+	@Column(name = "name")
+	private String name;
+	
+	@Column(name = "status")
+	private Integer status;
+	
+	@Column(name = "created_at")
+	private java.sql.Timestamp createdAt;
+}
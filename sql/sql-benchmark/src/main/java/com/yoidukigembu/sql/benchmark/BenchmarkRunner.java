@@ -0,0 +1,33 @@
+package com.yoidukigembu.sql.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ベンチマークの実行<br>
+ * 常に GC プロファイラを有効にし、結果を JSON で出力する。
+ * JMH のコマンドライン引数 (-p, -f, -wi 等) はそのまま指定できる。
+ *
+ */
+public class BenchmarkRunner {
+
+	/** 結果の出力先 */
+	private static final String RESULT_FILE = "jmh-result.json";
+	
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(System.getProperty("jmh.result", RESULT_FILE))
+				.build();
+		
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,86 @@
+package com.yoidukigembu.sql.benchmark;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * JMH の JSON 結果をベースラインと比較して表示<br>
+ * 使い方: {@code java -cp benchmarks.jar com.yoidukigembu.sql.benchmark.CompareResults baseline.json current.json}
+ *
+ */
+public class CompareResults {
+	
+	/** GC プロファイラの bytes/op */
+	private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("usage: CompareResults <baseline.json> <current.json>");
+			System.exit(1);
+		}
+		
+		Map<String, double[]> baseline = load(args[0]);
+		Map<String, double[]> current = load(args[1]);
+		
+		System.out.println(String.format("%-90s %14s %14s %8s %12s %12s",
+				"benchmark", "base ops/s", "ops/s", "ratio", "base B/op", "B/op"));
+		for (Map.Entry<String, double[]> entry : current.entrySet()) {
+			double[] now = entry.getValue();
+			double[] base = baseline.get(entry.getKey());
+			if (base == null) {
+				System.out.println(String.format("%-90s %14s %14.0f %8s %12s %12.0f",
+						entry.getKey(), "-", now[0], "-", "-", now[1]));
+			} else {
+				System.out.println(String.format("%-90s %14.0f %14.0f %8.2f %12.0f %12.0f",
+						entry.getKey(), base[0], now[0], now[0] / base[0], base[1], now[1]));
+			}
+		}
+	}
+	
+	/**
+	 * 結果の読み込み
+	 * @return ベンチマーク名とパラメータをキーとした [スコア, bytes/op]
+	 */
+	private static Map<String, double[]> load(String file) throws IOException {
+		Map<String, double[]> map = new TreeMap<>();
+		try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+			JsonArray results = JsonParser.parseReader(reader).getAsJsonArray();
+			for (JsonElement element : results) {
+				JsonObject result = element.getAsJsonObject();
+				
+				double alloc = Double.NaN;
+				JsonObject secondary = result.getAsJsonObject("secondaryMetrics");
+				if (secondary != null && secondary.has(ALLOC_NORM)) {
+					alloc = secondary.getAsJsonObject(ALLOC_NORM).get("score").getAsDouble();
+				}
+				
+				double score = result.getAsJsonObject("primaryMetric").get("score").getAsDouble();
+				map.put(key(result), new double[] {score, alloc});
+			}
+		}
+		return map;
+	}
+	
+	private static String key(JsonObject result) {
+		String name = result.get("benchmark").getAsString();
+		name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+		
+		Map<String, String> params = new LinkedHashMap<>();
+		JsonObject obj = result.getAsJsonObject("params");
+		if (obj != null) {
+			obj.entrySet().forEach(e -> params.put(e.getKey(), e.getValue().getAsString()));
+		}
+		return params.isEmpty() ? name : name + params;
+	}
+}
@@ -0,0 +1,63 @@
+package com.yoidukigembu.sql.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.yoidukigembu.sql.where.BasicWhere;
+import com.yoidukigembu.sql.where.Where;
+
+/**
+ * ベンチマークで共通に利用するデータ
+ *
+ */
+final class Fixtures {
+
+	private Fixtures() {}
+	
+	/**
+	 * 値のリストを作成
+	 * @param size 要素数
+	 */
+	static List<Long> ids(int size) {
+		List<Long> list = new ArrayList<>(size);
+		for (long i = 0; i < size; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+	
+	/**
+	 * 指定数の条件を持つWHEREを作成<br>
+	 * =, >=, <, LIKE, IS NULL, IN を順に繰り返す。
+	 * @param alias エイリアス
+	 * @param predicates 条件数
+	 * @param seed 値の種
+	 */
+	static Where where(String alias, int predicates, long seed) {
+		Where where = new BasicWhere();
+		for (int i = 0; i < predicates; i++) {
+			String column = "c" + i;
+			switch (i % 6) {
+			case 0:
+				where.eq(alias, column, seed + i);
+				break;
+			case 1:
+				where.ge(alias, column, seed);
+				break;
+			case 2:
+				where.lt(alias, column, seed + 100);
+				break;
+			case 3:
+				where.contains(alias, column, "name");
+				break;
+			case 4:
+				where.isNull(alias, column);
+				break;
+			default:
+				where.in(alias, column, ids(3));
+				break;
+			}
+		}
+		return where;
+	}
+}
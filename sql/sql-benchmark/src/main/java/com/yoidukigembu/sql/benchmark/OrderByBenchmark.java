@@ -0,0 +1,58 @@
+package com.yoidukigembu.sql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.yoidukigembu.sql.orderBy.OrderBy;
+
+/**
+ * OrderBy.getOrder のベンチマーク
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderByBenchmark {
+
+	/** ORDER BY のカラム数 */
+	@Param({"1", "3", "10"})
+	public int columns;
+	
+	/** エイリアスの有無 */
+	@Param({"true", "false"})
+	public boolean alias;
+	
+	private OrderBy orderBy;
+	
+	@Setup
+	public void setup() {
+		String aliasName = alias ? "b" : null;
+		orderBy = new OrderBy();
+		for (int i = 0; i < columns; i++) {
+			if (i % 2 == 0) {
+				orderBy.asc(aliasName, "c" + i);
+			} else {
+				orderBy.desc(aliasName, "c" + i);
+			}
+		}
+	}
+	
+	@Benchmark
+	public String getOrder() {
+		return orderBy.getOrder().toString();
+	}
+}
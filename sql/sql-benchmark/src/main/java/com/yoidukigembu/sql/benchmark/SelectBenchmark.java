@@ -0,0 +1,82 @@
+package com.yoidukigembu.sql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.yoidukigembu.sql.cache.QueryTemplateCache;
+import com.yoidukigembu.sql.orderBy.OrderBy;
+import com.yoidukigembu.sql.select.Select;
+
+/**
+ * Select.generate / generateCount のベンチマーク<br>
+ * リクエストごとに Select を組み立てて SQL を生成する、実際の利用に近い形で計測する。
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SelectBenchmark {
+
+	/** WHERE の条件数 */
+	@Param({"1", "5", "30"})
+	public int predicates;
+	
+	/** エイリアスの有無 */
+	@Param({"true", "false"})
+	public boolean alias;
+	
+	/** テンプレートキャッシュの有無 */
+	@Param({"true", "false"})
+	public boolean templateCache;
+	
+	private String aliasName;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		aliasName = alias ? "b" : null;
+		QueryTemplateCache.getDefault().setEnabled(templateCache);
+		QueryTemplateCache.getDefault().clear();
+	}
+	
+	@Benchmark
+	public void page(Blackhole bh) {
+		Select.from(BenchmarkEntity.class, aliasName)
+			.columns("id", "name", "status", "created_at")
+			.where(Fixtures.where(aliasName, predicates, 1L))
+			.orderBy(new OrderBy().desc(aliasName, "created_at").asc(aliasName, "id"))
+			.limit(50)
+			.offset(100)
+			.generate((sql, params) -> {
+				bh.consume(sql);
+				bh.consume(params);
+				return null;
+			});
+	}
+	
+	@Benchmark
+	public void count(Blackhole bh) {
+		Select.from(BenchmarkEntity.class, aliasName)
+			.where(Fixtures.where(aliasName, predicates, 1L))
+			.generateCount((sql, params) -> {
+				bh.consume(sql);
+				bh.consume(params);
+				return 0L;
+			});
+	}
+}
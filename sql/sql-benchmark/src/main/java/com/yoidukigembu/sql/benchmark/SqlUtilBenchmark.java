@@ -0,0 +1,47 @@
+package com.yoidukigembu.sql.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.yoidukigembu.sql.util.SqlUtil;
+
+/**
+ * SqlUtil.createQuestions のベンチマーク
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SqlUtilBenchmark {
+
+	/** IN の要素数 */
+	@Param({"1", "10", "100", "1000", "10000"})
+	public int size;
+	
+	private List<Long> values;
+	
+	@Setup
+	public void setup() {
+		values = Fixtures.ids(size);
+	}
+	
+	@Benchmark
+	public String createQuestions() {
+		return SqlUtil.createQuestions(values);
+	}
+}
@@ -0,0 +1,80 @@
+package com.yoidukigembu.sql.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.yoidukigembu.sql.cache.QueryTemplateCache;
+import com.yoidukigembu.sql.where.BasicWhere;
+import com.yoidukigembu.sql.where.Where;
+
+/**
+ * BasicWhere.build のベンチマーク
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WhereBenchmark {
+
+	/** WHERE の条件数 */
+	@Param({"1", "5", "30"})
+	public int predicates;
+	
+	/** IN の要素数 */
+	@Param({"1", "100", "10000"})
+	public int inSize;
+	
+	/** テンプレートキャッシュの有無 */
+	@Param({"true", "false"})
+	public boolean templateCache;
+	
+	private Where where;
+	
+	private Where inWhere;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		QueryTemplateCache.getDefault().setEnabled(templateCache);
+		QueryTemplateCache.getDefault().clear();
+		
+		where = Fixtures.where(null, predicates, 1L);
+		
+		List<Long> ids = Fixtures.ids(inSize);
+		inWhere = new BasicWhere()
+				.eq("status", 1)
+				.in("id", ids);
+	}
+	
+	@Benchmark
+	public void build(Blackhole bh) {
+		where.build((query, params) -> {
+			bh.consume(query);
+			bh.consume(params);
+		});
+	}
+	
+	@Benchmark
+	public void buildIn(Blackhole bh) {
+		inWhere.build((query, params) -> {
+			bh.consume(query);
+			bh.consume(params);
+		});
+	}
+}
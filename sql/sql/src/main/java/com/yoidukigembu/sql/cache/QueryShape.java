@@ -0,0 +1,190 @@
+package com.yoidukigembu.sql.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * クエリの形状 (バインド値を除いた構造)<br>
+ * テーブル、カラム、WHERE条件のタイプ等が同一であれば等価となる。<br>
+ * 要素から64ビットのフィンガープリントを求める。要素ごとのハッシュは
+ * 文字列、列挙、数値、真偽値、形状の場合は仕様で決まる値を使うため、プロセスをまたいで同じ値になる。
+ * フィンガープリントが同じでも要素が異なれば等価とはならない。
+ *
+ */
+public final class QueryShape {
+
+	/** フィンガープリントの計算の初期値 */
+	private static final long SEED = 0x27d4eb2f165667c5L;
+
+	/** 要素をまぜる乗数 1 */
+	private static final long PRIME1 = 0x9e3779b185ebca87L;
+
+	/** 要素をまぜる乗数 2 */
+	private static final long PRIME2 = 0xc2b2ae3d27d4eb4fL;
+
+	/** 形状を構成する要素 */
+	private final Object[] parts;
+
+	/** フィンガープリント */
+	private final long fingerprint;
+
+	public QueryShape(List<Object> parts) {
+		this.parts = parts.toArray();
+		long state = SEED;
+		for (Object part : this.parts) {
+			state = fold(state, part);
+		}
+		this.fingerprint = finish(state);
+	}
+
+	private QueryShape(Object[] parts, long fingerprint) {
+		this.parts = parts;
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * フィンガープリントを取得 (64ビット)
+	 */
+	public long getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * フィンガープリントを16進数で取得 (16桁)
+	 */
+	public String getFingerprintHex() {
+		return String.format("%016x", fingerprint);
+	}
+
+	/**
+	 * 要素をフィンガープリントの計算途中の値にまぜる
+	 * @param state 計算途中の値
+	 * @param part 要素
+	 * @return 計算途中の値
+	 */
+	private static long fold(long state, Object part) {
+		state ^= partHash(part) * PRIME1;
+		return Long.rotateLeft(state, 31) * PRIME2;
+	}
+
+	/**
+	 * 要素のハッシュ (種類ごとに上位ビットを分ける)
+	 */
+	private static long partHash(Object part) {
+		if (part == null) {
+			return 0;
+		}
+		if (part instanceof QueryShape) {
+			return ((QueryShape) part).fingerprint;
+		}
+		if (part instanceof String) {
+			return (1L << 32) | (((String) part).hashCode() & 0xffffffffL);
+		}
+		if (part instanceof Enum) {
+			return (2L << 32) | (((Enum<?>) part).name().hashCode() & 0xffffffffL);
+		}
+		if (part instanceof Integer || part instanceof Long || part instanceof Short) {
+			return ((Number) part).longValue() * PRIME2 + 3;
+		}
+		if (part instanceof Boolean) {
+			return (Boolean) part ? 5 : 4;
+		}
+		return (6L << 32) | (part.hashCode() & 0xffffffffL);
+	}
+
+	/**
+	 * 計算途中の値からフィンガープリントを求める
+	 */
+	private static long finish(long state) {
+		state ^= state >>> 33;
+		state *= 0xff51afd7ed558ccdL;
+		state ^= state >>> 33;
+		state *= 0xc4ceb9fe1a85ec53L;
+		return state ^ (state >>> 33);
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (fingerprint ^ (fingerprint >>> 32));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof QueryShape)) {
+			return false;
+		}
+		QueryShape other = (QueryShape) obj;
+		return fingerprint == other.fingerprint && Arrays.equals(parts, other.parts);
+	}
+
+	@Override
+	public String toString() {
+		return getFingerprintHex() + Arrays.toString(parts);
+	}
+
+	/**
+	 * 形状を要素の追加ごとに組み立てる<br>
+	 * フィンガープリントは追加時に計算するため、{@link #build()} で要素を走査しない。
+	 * スレッドセーフではない。
+	 */
+	public static final class Builder {
+
+		/** 要素 */
+		private final List<Object> parts;
+
+		/** フィンガープリントの計算途中の値 */
+		private long state = SEED;
+
+		public Builder() {
+			this(16);
+		}
+
+		/**
+		 * @param capacity 要素数の見込み
+		 */
+		public Builder(int capacity) {
+			this.parts = new ArrayList<>(capacity);
+		}
+
+		/**
+		 * 要素を追加
+		 * @param part 要素 (null可。形状を指定した場合は入れ子になる)
+		 * @return 自身
+		 */
+		public Builder add(Object part) {
+			parts.add(part);
+			state = fold(state, part);
+			return this;
+		}
+
+		/**
+		 * 要素を追加
+		 * @param parts 要素
+		 * @return 自身
+		 */
+		public Builder addAll(Iterable<?> parts) {
+			for (Object part : parts) {
+				add(part);
+			}
+			return this;
+		}
+
+		/**
+		 * 追加した要素の数
+		 */
+		public int size() {
+			return parts.size();
+		}
+
+		/**
+		 * 形状を作成 (以降の追加は作成した形状に影響しない)
+		 */
+		public QueryShape build() {
+			return new QueryShape(parts.toArray(), finish(state));
+		}
+	}
+}
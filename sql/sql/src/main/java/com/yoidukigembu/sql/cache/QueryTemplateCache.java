@@ -0,0 +1,242 @@
+package com.yoidukigembu.sql.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * クエリ形状ごとに生成済みSQL文を保持するキャッシュ<br>
+ * 取得はロックを取らない。最大保持数を超えた場合は、前回の破棄以降に参照されていないものから破棄する
+ * (CLOCK による近似的な LRU)。破棄の間は一時的に最大保持数を超えることがある。
+ *
+ */
+public class QueryTemplateCache {
+	
+	/** デフォルトの最大保持数 */
+	public static final int DEFAULT_MAX_SIZE = 1024;
+	
+	/** デフォルトのキャッシュ */
+	private static final QueryTemplateCache DEFAULT = new QueryTemplateCache(DEFAULT_MAX_SIZE);
+	
+	/** 形状とSQL文のマップ */
+	private final ConcurrentMap<QueryShape, Entry> templateMap = new ConcurrentHashMap<>();
+	
+	/** 破棄中か (破棄は1スレッドのみが行う) */
+	private final AtomicBoolean evicting = new AtomicBoolean();
+	
+	/** 最大保持数 */
+	private volatile int maxSize;
+	
+	/** 有効フラグ */
+	private volatile boolean enabled = true;
+	
+	/** ヒット数 */
+	private final LongAdder hitCount = new LongAdder();
+	
+	/** ミス数 */
+	private final LongAdder missCount = new LongAdder();
+	
+	public QueryTemplateCache(int maxSize) {
+		setMaxSize(maxSize);
+	}
+	
+	/**
+	 * デフォルトのキャッシュを取得
+	 */
+	public static QueryTemplateCache getDefault() {
+		return DEFAULT;
+	}
+	
+	/**
+	 * SQL文を取得
+	 * @param shape クエリ形状
+	 * @return SQL文。存在しない場合はnull
+	 */
+	public String get(QueryShape shape) {
+		Template template = getTemplate(shape);
+		return template == null ? null : template.getSql();
+	}
+	
+	/**
+	 * SQL文と生成時の値の数を取得<br>
+	 * 値の数は、同じ形状で値リストを作る際の初期容量に使う。
+	 * @param shape クエリ形状
+	 * @return 存在しない場合はnull
+	 */
+	public Template getTemplate(QueryShape shape) {
+		Entry entry = templateMap.get(shape);
+		if (entry == null) {
+			missCount.increment();
+			return null;
+		}
+		
+		hitCount.increment();
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+		return entry.template;
+	}
+	
+	/**
+	 * SQL文を登録 (値の数は不明)
+	 * @param shape クエリ形状
+	 * @param sql SQL文
+	 */
+	public void put(QueryShape shape, String sql) {
+		put(shape, sql, -1);
+	}
+	
+	/**
+	 * SQL文を登録
+	 * @param shape クエリ形状
+	 * @param sql SQL文
+	 * @param paramCount 生成時の値の数 (不明な場合は -1)
+	 */
+	public void put(QueryShape shape, String sql, int paramCount) {
+		templateMap.put(shape, new Entry(new Template(sql, paramCount)));
+		if (templateMap.size() > maxSize) {
+			evict(shape);
+		}
+	}
+	
+	/**
+	 * 最大保持数まで破棄<br>
+	 * 参照済みのものは参照フラグを落として残し、参照されていないものを破棄する。
+	 * 他のスレッドが破棄中の場合は何もしない。
+	 * @param added 登録したクエリ形状 (破棄しない)
+	 */
+	private void evict(QueryShape added) {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		
+		try {
+			while (templateMap.size() > maxSize) {
+				Iterator<Map.Entry<QueryShape, Entry>> it = templateMap.entrySet().iterator();
+				while (it.hasNext() && templateMap.size() > maxSize) {
+					Map.Entry<QueryShape, Entry> next = it.next();
+					Entry entry = next.getValue();
+					if (next.getKey().equals(added)) {
+						continue;
+					}
+					if (entry.referenced) {
+						entry.referenced = false;
+					} else {
+						it.remove();
+					}
+				}
+			}
+		} finally {
+			evicting.set(false);
+		}
+	}
+	
+	/**
+	 * キャッシュをクリア
+	 */
+	public void clear() {
+		templateMap.clear();
+		hitCount.reset();
+		missCount.reset();
+	}
+	
+	/**
+	 * 保持しているSQL文の数
+	 */
+	public int size() {
+		return templateMap.size();
+	}
+	
+	public int getMaxSize() {
+		return maxSize;
+	}
+	
+	/**
+	 * 最大保持数を設定<br>
+	 * 超過分は次回の登録時に破棄される。
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(String.format("maxSize must be positive. maxSize:[%d]", maxSize));
+		}
+		this.maxSize = maxSize;
+	}
+	
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+	
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+	
+	public long getMissCount() {
+		return missCount.sum();
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("QueryTemplateCache[size=%d, maxSize=%d, hit=%d, miss=%d]",
+				size(), maxSize, getHitCount(), getMissCount());
+	}
+	
+	/**
+	 * 保持しているSQL文と参照フラグ
+	 */
+	private static final class Entry {
+		
+		/** SQL文 */
+		private final Template template;
+		
+		/** 前回の破棄以降に参照されたか */
+		private volatile boolean referenced;
+		
+		private Entry(Template template) {
+			this.template = template;
+		}
+	}
+	
+	/**
+	 * 生成済みのSQL文 (不変)
+	 */
+	public static final class Template {
+		
+		/** SQL文 */
+		private final String sql;
+		
+		/** 生成時の値の数 (不明な場合は -1) */
+		private final int paramCount;
+		
+		private Template(String sql, int paramCount) {
+			this.sql = sql;
+			this.paramCount = paramCount;
+		}
+		
+		public String getSql() {
+			return sql;
+		}
+		
+		/**
+		 * 生成時の値の数を取得
+		 * @return 不明な場合は -1
+		 */
+		public int getParamCount() {
+			return paramCount;
+		}
+		
+		/**
+		 * 値リストの初期容量を取得
+		 * @param defaultCapacity 値の数が不明な場合の初期容量
+		 */
+		public int paramCapacity(int defaultCapacity) {
+			return paramCount < 0 ? defaultCapacity : paramCount;
+		}
+	}
+}
@@ -0,0 +1,394 @@
+package com.yoidukigembu.sql.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.yoidukigembu.sql.meta.EntityMetaRegistry;
+
+/**
+ * セレクトの結果を保持するキャッシュ<br>
+ * SQL文と値リストをキーに結果を保持する。取得はロックを取らない。
+ * 最大バイト数を超えた場合は、無効化済みの結果と、前回の破棄以降に参照されていない結果から破棄する
+ * (CLOCK による近似的な LRU)。破棄の間は一時的に最大バイト数を超えることがある。
+ * 有効期限 (TTL) を指定したテーブルのセレクトのみを対象とし、未指定のテーブルは常にデータベースから取得する。
+ * 結果はテーブル名 (スキーマ付き) ごとに管理し、Insert / Update / Delete の実行時にそのテーブルの結果を無効にする。<br>
+ * 無効化はテーブルごとの世代番号を進めるのみで、古い世代の結果は参照時または破棄時に削除する。
+ * 同じプロセス以外からの更新は検知しないため、TTL はその遅延を許容できる長さにすること。<br>
+ * セレクトの行は {@link com.yoidukigembu.sql.jdbc.CopyableRowMapper} で変換した結果のみを保持し、
+ * 呼び出し元にはリストと行のコピーを返す (エンティティの RowMapper はエンティティをコピーする)。
+ * それ以外の RowMapper は常にデータベースから取得する。変更できない値に変換する RowMapper は
+ * {@link com.yoidukigembu.sql.jdbc.RowMapper#immutable(com.yoidukigembu.sql.jdbc.RowMapper)} で対象にできる。<br>
+ * キーには RowMapper も含むため、呼び出しごとに作成する RowMapper ではヒットしない。エンティティの RowMapper か、共有した RowMapper を使うこと。
+ *
+ */
+public class ResultCache {
+
+	/** デフォルトの最大バイト数 */
+	public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	/** デフォルトの1行あたりの見積もりバイト数 */
+	public static final int DEFAULT_ROW_BYTES = 256;
+
+	/** 結果1つあたりの固定の見積もりバイト数 (キー、エントリ、マップの管理領域) */
+	private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+	/** 値1つあたりの見積もりバイト数 */
+	private static final int PARAM_BYTES = 16;
+
+	/** デフォルトのキャッシュ */
+	private static final ResultCache DEFAULT = new ResultCache(DEFAULT_MAX_BYTES);
+
+	/** キーと結果のマップ */
+	private final ConcurrentMap<Key, Entry> resultMap = new ConcurrentHashMap<>();
+
+	/** テーブルごとの有効期限 (ナノ秒) */
+	private final ConcurrentMap<String, Long> ttlMap = new ConcurrentHashMap<>();
+
+	/** テーブルごとの世代番号 */
+	private final ConcurrentMap<String, AtomicLong> generationMap = new ConcurrentHashMap<>();
+
+	/** 保持している結果の見積もりバイト数 (resultMap から削除・置換できたものだけを差し引く) */
+	private final AtomicLong bytes = new AtomicLong();
+
+	/** 破棄中か (破棄は1スレッドのみが行う) */
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	/** 最大バイト数 */
+	private volatile long maxBytes;
+
+	/** 1行あたりの見積もりバイト数 */
+	private volatile int rowBytes = DEFAULT_ROW_BYTES;
+
+	/** 有効フラグ */
+	private volatile boolean enabled = true;
+
+	/** ヒット数 */
+	private final LongAdder hitCount = new LongAdder();
+
+	/** ミス数 */
+	private final LongAdder missCount = new LongAdder();
+
+	public ResultCache(long maxBytes) {
+		setMaxBytes(maxBytes);
+	}
+
+	/**
+	 * デフォルトのキャッシュを取得
+	 */
+	public static ResultCache getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * エンティティのテーブルの有効期限を設定
+	 * @param entityClass エンティティクラス
+	 * @param ttl 有効期限 (null または 0 以下の場合はキャッシュしない)
+	 */
+	public void setTtl(Class<?> entityClass, Duration ttl) {
+		setTtl(EntityMetaRegistry.get(entityClass).getQualifiedName(), ttl);
+	}
+
+	/**
+	 * テーブルの有効期限を設定
+	 * @param qualifiedTableName スキーマ付きのテーブル名
+	 * @param ttl 有効期限 (null または 0 以下の場合はキャッシュしない)
+	 */
+	public void setTtl(String qualifiedTableName, Duration ttl) {
+		if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+			ttlMap.remove(qualifiedTableName);
+			invalidate(qualifiedTableName);
+			return;
+		}
+		ttlMap.put(qualifiedTableName, ttl.toNanos());
+	}
+
+	/**
+	 * テーブルの有効期限を取得
+	 * @param qualifiedTableName スキーマ付きのテーブル名
+	 * @return 未指定の場合は空
+	 */
+	public Optional<Duration> getTtl(String qualifiedTableName) {
+		return Optional.ofNullable(ttlMap.get(qualifiedTableName)).map(Duration::ofNanos);
+	}
+
+	/**
+	 * テーブルの結果をキャッシュするかどうか
+	 * @param qualifiedTableName スキーマ付きのテーブル名
+	 */
+	public boolean isCacheable(String qualifiedTableName) {
+		return enabled && ttlMap.containsKey(qualifiedTableName);
+	}
+
+	/**
+	 * 結果を取得<br>
+	 * 保持していない場合、または有効期限切れ・無効化済みの場合は loader で取得して保持する。
+	 * キャッシュ対象外のテーブルの場合は loader の結果をそのまま返す。
+	 * @param qualifiedTableName 結果を取得するテーブル名 (スキーマ付き)
+	 * @param sql SQL文
+	 * @param params 値リスト
+	 * @param variant 同じSQL文で結果の型が異なる場合の区別 (RowMapper など)
+	 * @param rows 結果の行数
+	 * @param loader データベースからの取得
+	 * @return 結果
+	 */
+	public <V> V get(String qualifiedTableName, String sql, List<Object> params, Object variant,
+			RowCounter<V> rows, Supplier<V> loader) {
+		Long ttl = ttlMap.get(qualifiedTableName);
+		if (!enabled || ttl == null) {
+			return loader.get();
+		}
+
+		Key key = new Key(sql, params, variant);
+		long generation = generation(qualifiedTableName).get();
+		long now = System.nanoTime();
+		Entry entry = resultMap.get(key);
+		if (entry != null) {
+			if (entry.generation == generation && now - entry.expiresAt < 0) {
+				hitCount.increment();
+				if (!entry.referenced) {
+					entry.referenced = true;
+				}
+				@SuppressWarnings("unchecked")
+				V value = (V) entry.value;
+				return value;
+			}
+			remove(key, entry);
+		}
+
+		missCount.increment();
+		V value = loader.get();
+
+		long size = ENTRY_OVERHEAD_BYTES + sql.length() * 2L + params.size() * (long) PARAM_BYTES
+				+ rows.count(value) * (long) rowBytes;
+		if (size > maxBytes) {
+			return value;
+		}
+
+		// 取得中に無効化された場合は保持しない
+		// (判定後に無効化された場合も、世代番号が異なるため参照時に削除される)
+		if (generation(qualifiedTableName).get() != generation) {
+			return value;
+		}
+
+		Entry old = resultMap.put(key, new Entry(qualifiedTableName, generation, now + ttl, value, size));
+		long total = bytes.addAndGet(old == null ? size : size - old.size);
+		if (total > maxBytes) {
+			evict(key);
+		}
+		return value;
+	}
+
+	/**
+	 * テーブルの結果を無効にする
+	 * @param qualifiedTableName スキーマ付きのテーブル名
+	 */
+	public void invalidate(String qualifiedTableName) {
+		generation(qualifiedTableName).incrementAndGet();
+	}
+
+	/**
+	 * キャッシュをクリア
+	 */
+	public void clear() {
+		for (AtomicLong generation : generationMap.values()) {
+			generation.incrementAndGet();
+		}
+		for (Map.Entry<Key, Entry> entry : resultMap.entrySet()) {
+			remove(entry.getKey(), entry.getValue());
+		}
+		hitCount.reset();
+		missCount.reset();
+	}
+
+	/**
+	 * 保持している結果の数 (無効化済みで未削除のものを含む)
+	 */
+	public int size() {
+		return resultMap.size();
+	}
+
+	/**
+	 * 保持している結果の見積もりバイト数
+	 */
+	public long getBytes() {
+		return bytes.get();
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * 最大バイト数を設定<br>
+	 * 超過分は次回の登録時に破棄される。
+	 */
+	public void setMaxBytes(long maxBytes) {
+		if (maxBytes < 1) {
+			throw new IllegalArgumentException(String.format("maxBytes must be positive. maxBytes:[%d]", maxBytes));
+		}
+		this.maxBytes = maxBytes;
+	}
+
+	public int getRowBytes() {
+		return rowBytes;
+	}
+
+	/**
+	 * 1行あたりの見積もりバイト数を設定 (最大バイト数の判定に使用)
+	 */
+	public void setRowBytes(int rowBytes) {
+		if (rowBytes < 1) {
+			throw new IllegalArgumentException(String.format("rowBytes must be positive. rowBytes:[%d]", rowBytes));
+		}
+		this.rowBytes = rowBytes;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ResultCache[size=%d, bytes=%d, maxBytes=%d, hit=%d, miss=%d]",
+				size(), getBytes(), maxBytes, getHitCount(), getMissCount());
+	}
+
+	private AtomicLong generation(String qualifiedTableName) {
+		return generationMap.computeIfAbsent(qualifiedTableName, k -> new AtomicLong());
+	}
+
+	/**
+	 * 最大バイト数を超えた分を破棄<br>
+	 * 無効化済みの結果を先に破棄する。その後は参照済みの結果の参照フラグを落として残し、
+	 * 参照されていない結果を破棄する。他のスレッドが破棄中の場合は何もしない。
+	 * @param added 登録した結果のキー (破棄しない)
+	 */
+	private void evict(Key added) {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			for (Map.Entry<Key, Entry> entry : resultMap.entrySet()) {
+				Entry value = entry.getValue();
+				if (generation(value.table).get() != value.generation) {
+					remove(entry.getKey(), value);
+				}
+			}
+
+			while (bytes.get() > maxBytes && resultMap.size() > 1) {
+				Iterator<Map.Entry<Key, Entry>> it = resultMap.entrySet().iterator();
+				while (bytes.get() > maxBytes && it.hasNext()) {
+					Map.Entry<Key, Entry> entry = it.next();
+					Entry value = entry.getValue();
+					if (entry.getKey().equals(added)) {
+						continue;
+					}
+					if (value.referenced) {
+						value.referenced = false;
+					} else {
+						remove(entry.getKey(), value);
+					}
+				}
+			}
+		} finally {
+			evicting.set(false);
+		}
+	}
+
+	/**
+	 * 結果を削除 (他のスレッドが削除・置換済みの場合は何もしない)
+	 */
+	private void remove(Key key, Entry entry) {
+		if (resultMap.remove(key, entry)) {
+			bytes.addAndGet(-entry.size);
+		}
+	}
+
+	/**
+	 * 結果の行数の取得
+	 */
+	@FunctionalInterface
+	public interface RowCounter<V> {
+		public int count(V value);
+	}
+
+	/**
+	 * 結果のキー
+	 */
+	private static final class Key {
+		private final Object[] parts;
+		private final int hash;
+
+		private Key(String sql, List<Object> params, Object variant) {
+			List<Object> list = new ArrayList<>(params.size() + 2);
+			list.add(sql);
+			list.add(variant);
+			list.addAll(params);
+			this.parts = list.toArray();
+			this.hash = Arrays.hashCode(parts);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash && Arrays.equals(parts, other.parts);
+		}
+	}
+
+	/**
+	 * 保持している結果
+	 */
+	private static final class Entry {
+		private final String table;
+		private final long generation;
+		private final long expiresAt;
+		private final Object value;
+		private final long size;
+
+		/** 前回の破棄以降に参照されたか */
+		private volatile boolean referenced;
+
+		private Entry(String table, long generation, long expiresAt, Object value, long size) {
+			this.table = table;
+			this.generation = generation;
+			this.expiresAt = expiresAt;
+			this.value = value;
+			this.size = size;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.yoidukigembu.sql.delete;
+
+import javax.sql.DataSource;
+
+import com.yoidukigembu.sql.delete.impl.DeleteImpl;
+import com.yoidukigembu.sql.dialect.Dialect;
+import com.yoidukigembu.sql.enums.ChunkMode;
+import com.yoidukigembu.sql.jdbc.JdbcSession;
+import com.yoidukigembu.sql.jdbc.QueryExecutor;
+import com.yoidukigembu.sql.meta.EntityMetaRegistry;
+import com.yoidukigembu.sql.select.Select.QueryGenerator;
+import com.yoidukigembu.sql.where.Where;
+
+/**
+ * デリート
+ *
+ */
+public interface Delete<T> {
+
+	public static <T> Delete<T> from(Class<T> entityClass) {
+		return new DeleteImpl<>(entityClass, EntityMetaRegistry.get(entityClass));
+	}
+
+	/**
+	 * 条件を指定
+	 */
+	public Delete<T> where(Where where);
+
+	/**
+	 * ダイアレクトを指定 (未指定の場合は {@link Dialect#getDefault()})
+	 */
+	public Delete<T> dialect(Dialect dialect);
+
+	/**
+	 * SQL文を生成
+	 */
+	public <RESULT> RESULT generate(QueryGenerator<RESULT> generator);
+
+	/**
+	 * デリートを実行
+	 * @param dataSource DataSource
+	 * @return 削除件数
+	 */
+	public default int execute(DataSource dataSource) {
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			return execute(session);
+		}
+	}
+
+	/**
+	 * デリートを実行
+	 * @param session セッション
+	 * @return 削除件数
+	 */
+	public default int execute(JdbcSession session) {
+		return generate((sql, params) -> QueryExecutor.update(session, sql, params));
+	}
+
+	/**
+	 * 主キーのキーセットで分割してデリートを実行
+	 * @see #executeInChunks(DataSource, int, ChunkMode)
+	 */
+	public default int executeInChunks(DataSource dataSource, int chunkSize) {
+		return executeInChunks(dataSource, chunkSize, ChunkMode.KEYSET);
+	}
+
+	/**
+	 * 分割してデリートを実行<br>
+	 * 1回の SQL 文で削除する件数を chunkSize 以下に抑え、分割ごとにコミットする。
+	 * 大量の行を削除する場合に、ロックの保持時間や UNDO ログの量を抑える。<br>
+	 * {@link ChunkMode#KEYSET} は {@code @Id} が1つのエンティティのみ、
+	 * {@link ChunkMode#LIMIT} は DELETE ... LIMIT に対応したデータベース ({@link Dialect#supportsDeleteLimit()}) のみ使用できる。
+	 * @param dataSource DataSource
+	 * @param chunkSize 1回の SQL 文で削除する最大件数
+	 * @param mode 分割の方法
+	 * @return 削除件数
+	 */
+	public int executeInChunks(DataSource dataSource, int chunkSize, ChunkMode mode);
+}
@@ -0,0 +1,176 @@
+package com.yoidukigembu.sql.delete.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import com.yoidukigembu.sql.cache.ResultCache;
+import com.yoidukigembu.sql.delete.Delete;
+import com.yoidukigembu.sql.dialect.Dialect;
+import com.yoidukigembu.sql.enums.ChunkMode;
+import com.yoidukigembu.sql.exception.EntityException;
+import com.yoidukigembu.sql.exception.SqlExecutionException;
+import com.yoidukigembu.sql.jdbc.JdbcSession;
+import com.yoidukigembu.sql.jdbc.QueryExecutor;
+import com.yoidukigembu.sql.meta.ColumnMeta;
+import com.yoidukigembu.sql.meta.TableMeta;
+import com.yoidukigembu.sql.orderBy.OrderBy;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.select.Select.QueryGenerator;
+import com.yoidukigembu.sql.util.SqlUtil;
+import com.yoidukigembu.sql.where.Where;
+
+public class DeleteImpl<T> implements Delete<T> {
+
+	/** エンティティクラス */
+	private final Class<T> entityClass;
+
+	/** テーブル情報 */
+	private final TableMeta tableMeta;
+
+	/** 検索条件 */
+	private Optional<Where> where = Optional.empty();
+
+	/** ダイアレクト (未指定の場合はデフォルト) */
+	private Optional<Dialect> dialect = Optional.empty();
+
+	public DeleteImpl(Class<T> entityClass, TableMeta tableMeta) {
+		this.entityClass = entityClass;
+		this.tableMeta = tableMeta;
+	}
+
+	@Override
+	public Delete<T> where(Where where) {
+		this.where = Optional.ofNullable(where);
+		return this;
+	}
+
+	@Override
+	public Delete<T> dialect(Dialect dialect) {
+		this.dialect = Optional.ofNullable(dialect);
+		return this;
+	}
+
+	/**
+	 * ダイアレクトを取得
+	 * @return 未指定の場合はデフォルト
+	 */
+	private Dialect getDialect() {
+		return dialect.orElseGet(Dialect::getDefault);
+	}
+
+	@Override
+	public <RESULT> RESULT generate(QueryGenerator<RESULT> generator) {
+		List<Object> params = new ArrayList<>();
+		StringBuilder sql = new StringBuilder(128)
+				.append("DELETE FROM ")
+				.append(tableMeta.getQualifiedName());
+
+		where.ifPresent(w -> {
+			sql.append(" WHERE ");
+			w.appendTo(sql, params, getDialect());
+		});
+
+		return generator.generate(sql.toString(), params);
+	}
+
+	@Override
+	public int executeInChunks(DataSource dataSource, int chunkSize, ChunkMode mode) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be greater than 0. chunkSize:" + chunkSize);
+		}
+
+		if (mode == ChunkMode.LIMIT && !getDialect().supportsDeleteLimit()) {
+			throw new SqlExecutionException(String.format("DELETE ... LIMIT is not supported. dialect:[%s]", getDialect()));
+		}
+
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			return mode == ChunkMode.LIMIT
+					? executeWithLimit(session, chunkSize)
+					: executeWithKeyset(session, chunkSize);
+		} finally {
+			ResultCache.getDefault().invalidate(tableMeta.getQualifiedName());
+		}
+	}
+
+	@Override
+	public int execute(JdbcSession session) {
+		try {
+			return Delete.super.execute(session);
+		} finally {
+			ResultCache.getDefault().invalidate(tableMeta.getQualifiedName());
+		}
+	}
+
+	/**
+	 * DELETE ... LIMIT を削除件数が chunkSize 未満になるまで繰り返す
+	 */
+	private int executeWithLimit(JdbcSession session, int chunkSize) {
+		int count = 0;
+		while (true) {
+			int deleted = generate((sql, params) ->
+					QueryExecutor.update(session, sql + " LIMIT " + chunkSize, params));
+			session.commit();
+			count += deleted;
+			if (deleted < chunkSize) {
+				return count;
+			}
+		}
+	}
+
+	/**
+	 * 主キーを chunkSize 件ずつ主キー順に取得し、主キーの IN で削除する
+	 */
+	private int executeWithKeyset(JdbcSession session, int chunkSize) {
+		ColumnMeta id = idColumn();
+		int count = 0;
+		Optional<Object> last = Optional.empty();
+		while (true) {
+			Select<T> select = Select.from(entityClass)
+					.columns(id.getColumnName())
+					.orderBy(new OrderBy(id.getColumnName()))
+					.limit(chunkSize)
+					.dialect(getDialect());
+			where.ifPresent(select::where);
+			last.ifPresent(select::after);
+
+			// 内部の主キーの取得は結果キャッシュを使わない (更新で無効になるため保持しても参照されない)
+			List<Object> ids = select.generate((sql, params) -> 
+					QueryExecutor.list(session, sql, params, (rs, rowNum) -> rs.getObject(1)));
+			if (ids.isEmpty()) {
+				return count;
+			}
+
+			List<Object> params = new ArrayList<>(ids.size() + 8);
+			StringBuilder sql = new StringBuilder(128 + ids.size() * 3)
+					.append("DELETE FROM ")
+					.append(tableMeta.getQualifiedName())
+					.append(" WHERE ");
+			where.ifPresent(w -> w.appendAndTo(sql, params, getDialect()));
+			sql.append(id.getColumnName())
+				.append(" IN (");
+			SqlUtil.appendQuestions(sql, ids.size())
+				.append(')');
+			params.addAll(ids);
+
+			count += QueryExecutor.update(session, sql.toString(), params);
+			session.commit();
+
+			if (ids.size() < chunkSize) {
+				return count;
+			}
+			last = Optional.of(ids.get(ids.size() - 1));
+		}
+	}
+
+	private ColumnMeta idColumn() {
+		List<ColumnMeta> idList = tableMeta.getIdList();
+		if (idList.size() != 1) {
+			throw new EntityException(String.format("keyset chunking requires exactly one @Id column. class:[%s]",
+					entityClass.getName()));
+		}
+		return idList.get(0);
+	}
+}
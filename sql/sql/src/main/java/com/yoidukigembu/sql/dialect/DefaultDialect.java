@@ -0,0 +1,21 @@
+package com.yoidukigembu.sql.dialect;
+
+/**
+ * デフォルトのダイアレクトの保持 ({@link Dialect#getDefault()})
+ *
+ */
+final class DefaultDialect {
+
+	/** デフォルトのダイアレクト */
+	private static volatile Dialect dialect = StandardDialect.GENERIC;
+
+	private DefaultDialect() {}
+
+	static Dialect get() {
+		return dialect;
+	}
+
+	static void set(Dialect dialect) {
+		DefaultDialect.dialect = dialect == null ? StandardDialect.GENERIC : dialect;
+	}
+}
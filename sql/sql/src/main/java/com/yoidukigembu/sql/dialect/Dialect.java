@@ -0,0 +1,86 @@
+package com.yoidukigembu.sql.dialect;
+
+import java.util.Optional;
+
+import com.yoidukigembu.sql.util.SqlUtil;
+import com.yoidukigembu.sql.where.enums.WhereType;
+
+/**
+ * データベースごとのSQL文の差異<br>
+ * Select / Where / Delete はSQL文の生成時にこのインターフェースを経由する。
+ * デフォルトの実装は {@link StandardDialect#GENERIC} と同じSQL文を生成するため、
+ * 独自のデータベースに対応する場合は差異のあるメソッドのみを実装する。<br>
+ * 実装はスレッドセーフで、SQL文のテンプレートのキャッシュキーに含めるため
+ * 同じSQL文を生成するインスタンスは等価 (equals) である必要がある。
+ *
+ */
+public interface Dialect {
+
+	/**
+	 * デフォルトのダイアレクトを取得
+	 */
+	public static Dialect getDefault() {
+		return DefaultDialect.get();
+	}
+
+	/**
+	 * デフォルトのダイアレクトを設定
+	 * @param dialect ダイアレクト (nullの場合は {@link StandardDialect#GENERIC})
+	 */
+	public static void setDefault(Dialect dialect) {
+		DefaultDialect.set(dialect);
+	}
+
+	/**
+	 * limit / offset を追加
+	 * @param sql SQL文
+	 * @param limit limit
+	 * @param offset offset
+	 */
+	public default void appendLimitOffset(StringBuilder sql, Optional<Integer> limit, Optional<Integer> offset) {
+		limit.ifPresent(l -> sql.append(" LIMIT ").append(l));
+		offset.ifPresent(o -> sql.append(" OFFSET ").append(o));
+	}
+
+	/**
+	 * IN / NOT IN の値を配列1つでバインドできるか<br>
+	 * true の場合、値の型に {@link #arrayTypeName(Class)} がある IN は
+	 * {@link #appendArrayIn} で生成し、値の数によらずプレースホルダは1つになる。
+	 */
+	public default boolean supportsArrayIn() {
+		return false;
+	}
+
+	/**
+	 * 配列の要素の型名を取得 (Connection#createArrayOf に指定する型名)
+	 * @param type 要素のクラス
+	 * @return 型名。配列にできない型の場合は null
+	 */
+	public default String arrayTypeName(Class<?> type) {
+		return null;
+	}
+
+	/**
+	 * 配列1つをバインドする IN / NOT IN を追加 (col = ANY(?) / NOT (col = ANY(?)))<br>
+	 * NOT IN は H2 が ALL(?) に対応していないため、NOT で否定する。
+	 * @param sql SQL文
+	 * @param type {@link WhereType#IN} か {@link WhereType#NOT_IN}
+	 * @param alias エイリアス (null可)
+	 * @param column カラム名
+	 */
+	public default void appendArrayIn(StringBuilder sql, WhereType type, String alias, String column) {
+		if (type == WhereType.NOT_IN) {
+			sql.append("NOT (");
+			SqlUtil.appendAlias(sql, alias, column).append(" = ANY(?))");
+			return;
+		}
+		SqlUtil.appendAlias(sql, alias, column).append(" = ANY(?)");
+	}
+
+	/**
+	 * DELETE ... LIMIT n に対応しているか
+	 */
+	public default boolean supportsDeleteLimit() {
+		return true;
+	}
+}
@@ -0,0 +1,89 @@
+package com.yoidukigembu.sql.dialect;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 標準のダイアレクト
+ *
+ */
+public enum StandardDialect implements Dialect {
+
+	/** LIMIT n OFFSET m (従来のSQL文) */
+	GENERIC,
+
+	/** OFFSET m ROWS FETCH FIRST n ROWS ONLY (SQL:2008) */
+	ANSI {
+		@Override
+		public void appendLimitOffset(StringBuilder sql, Optional<Integer> limit, Optional<Integer> offset) {
+			offset.ifPresent(o -> sql.append(" OFFSET ").append(o).append(" ROWS"));
+			limit.ifPresent(l -> sql.append(" FETCH FIRST ").append(l).append(" ROWS ONLY"));
+		}
+
+		@Override
+		public boolean supportsDeleteLimit() {
+			return false;
+		}
+	},
+
+	/** PostgreSQL (IN は col = ANY(?) で配列をバインド) */
+	POSTGRESQL {
+		@Override
+		public boolean supportsArrayIn() {
+			return true;
+		}
+
+		@Override
+		public String arrayTypeName(Class<?> type) {
+			return type == Double.class ? "float8" : ARRAY_TYPE_MAP.get(type);
+		}
+
+		@Override
+		public boolean supportsDeleteLimit() {
+			return false;
+		}
+	},
+
+	/** MySQL (offset のみの場合も LIMIT が必要) */
+	MYSQL {
+		@Override
+		public void appendLimitOffset(StringBuilder sql, Optional<Integer> limit, Optional<Integer> offset) {
+			if (!limit.isPresent() && offset.isPresent()) {
+				sql.append(" LIMIT ").append(MYSQL_MAX_LIMIT);
+			}
+			super.appendLimitOffset(sql, limit, offset);
+		}
+	},
+
+	/** H2 (IN は col = ANY(?) で配列をバインド) */
+	H2 {
+		@Override
+		public boolean supportsArrayIn() {
+			return true;
+		}
+
+		@Override
+		public String arrayTypeName(Class<?> type) {
+			return ARRAY_TYPE_MAP.get(type);
+		}
+	},
+	;
+
+	/** MySQL で limit を指定しない場合の上限 (公式ドキュメントの推奨値) */
+	private static final String MYSQL_MAX_LIMIT = "18446744073709551615";
+
+	/** 配列の要素の型名 */
+	private static final Map<Class<?>, String> ARRAY_TYPE_MAP = new HashMap<>();
+
+	static {
+		ARRAY_TYPE_MAP.put(String.class, "VARCHAR");
+		ARRAY_TYPE_MAP.put(Long.class, "BIGINT");
+		ARRAY_TYPE_MAP.put(Integer.class, "INTEGER");
+		ARRAY_TYPE_MAP.put(Short.class, "SMALLINT");
+		ARRAY_TYPE_MAP.put(BigDecimal.class, "NUMERIC");
+		ARRAY_TYPE_MAP.put(Double.class, "DOUBLE PRECISION");
+		ARRAY_TYPE_MAP.put(Boolean.class, "BOOLEAN");
+	}
+}
@@ -0,0 +1,14 @@
+package com.yoidukigembu.sql.enums;
+
+/**
+ * 分割実行の方法
+ *
+ */
+public enum ChunkMode {
+
+	/** 主キーのキーセットで対象の主キーを取得し、主キーの IN で実行 */
+	KEYSET,
+	/** LIMIT 付きの SQL 文を対象がなくなるまで繰り返し実行 (LIMIT に対応したデータベースのみ) */
+	LIMIT
+	;
+}
@@ -0,0 +1,16 @@
+package com.yoidukigembu.sql.enums;
+
+/**
+ * クエリの種類 (メトリクス、JFR イベントの区別)
+ *
+ */
+public enum QueryKind {
+
+	/** 行を取得するセレクト */
+	SELECT,
+	/** 件数を取得するセレクト (SELECT COUNT(*) ...) */
+	COUNT,
+	/** WHERE文のみ ({@link com.yoidukigembu.sql.where.Where#build}) */
+	WHERE
+	;
+}
@@ -0,0 +1,18 @@
+package com.yoidukigembu.sql.exception;
+
+public class EntityException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = -3140577258716853602L;
+	
+	public EntityException(String msg) {
+		super(msg);
+	}
+
+	public EntityException(String msg, Throwable cause) {
+		super(msg, cause);
+	}
+
+}
@@ -0,0 +1,14 @@
+package com.yoidukigembu.sql.exception;
+
+public class SelectException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = -5307764384211840923L;
+	
+	public SelectException(String msg) {
+		super(msg);
+	}
+
+}
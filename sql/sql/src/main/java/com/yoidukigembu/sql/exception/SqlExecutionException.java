@@ -0,0 +1,18 @@
+package com.yoidukigembu.sql.exception;
+
+public class SqlExecutionException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 4471254036880917753L;
+	
+	public SqlExecutionException(String msg) {
+		super(msg);
+	}
+	
+	public SqlExecutionException(String msg, Throwable cause) {
+		super(msg, cause);
+	}
+
+}
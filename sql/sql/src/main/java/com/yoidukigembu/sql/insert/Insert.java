@@ -0,0 +1,87 @@
+package com.yoidukigembu.sql.insert;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import com.yoidukigembu.sql.insert.impl.InsertImpl;
+import com.yoidukigembu.sql.jdbc.JdbcSession;
+import com.yoidukigembu.sql.meta.EntityMetaRegistry;
+import com.yoidukigembu.sql.select.Select.QueryGenerator;
+
+/**
+ * インサート<br>
+ * エンティティの {@code @Table} / {@code @Column} の情報から INSERT 文を生成する。
+ * 複数行を1つの SQL 文にまとめる VALUES (...), (...) と、
+ * 同じ SQL 文を addBatch でまとめて実行するバッチの両方を指定できる。
+ *
+ */
+public interface Insert<T> {
+
+	/** デフォルトの1つの SQL 文にまとめる行数 */
+	public static final int DEFAULT_ROWS_PER_STATEMENT = 100;
+
+	/** デフォルトの1回のバッチにまとめる SQL 文の数 */
+	public static final int DEFAULT_STATEMENTS_PER_BATCH = 10;
+
+	public static <T> Insert<T> into(Class<T> entityClass) {
+		return new InsertImpl<>(EntityMetaRegistry.get(entityClass));
+	}
+
+	/**
+	 * インサート対象のカラムを指定 (省略した場合はすべてのカラム)
+	 */
+	public Insert<T> columns(String... columns);
+
+	/**
+	 * インサート対象のカラムを指定 (省略した場合はすべてのカラム)
+	 */
+	public Insert<T> columns(List<String> columns);
+
+	/**
+	 * 1つの SQL 文にまとめる行数を指定<br>
+	 * 行数 × カラム数がデータベースのバインド変数の上限を超えないように指定すること。
+	 * @param rows 行数 (1以上)
+	 */
+	public Insert<T> rowsPerStatement(int rows);
+
+	/**
+	 * 1回のバッチ (executeBatch) にまとめる SQL 文の数を指定
+	 * @param statements SQL 文の数 (1以上。1の場合はバッチを使わない)
+	 */
+	public Insert<T> statementsPerBatch(int statements);
+
+	/**
+	 * SQL文を生成<br>
+	 * rowsPerStatement ごとに区切った SQL 文ごとに generator を呼び出す。
+	 * @param entities インサートするエンティティ
+	 * @param generator SQL文ごとの処理
+	 * @return SQL文ごとの結果
+	 */
+	public <RESULT> Stream<RESULT> generateEach(Collection<? extends T> entities, QueryGenerator<RESULT> generator);
+
+	/**
+	 * インサートを実行
+	 * @param dataSource DataSource
+	 * @param entities インサートするエンティティ
+	 * @return インサートした件数
+	 */
+	public default int execute(DataSource dataSource, Collection<? extends T> entities) {
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			return execute(session, entities);
+		}
+	}
+
+	/**
+	 * インサートを実行<br>
+	 * 同じ行数の SQL 文は statementsPerBatch ごとにバッチで実行し、
+	 * 端数の行の SQL 文のみ単独で実行する。
+	 * トランザクションは呼び出し元で制御すること。
+	 * @param session セッション
+	 * @param entities インサートするエンティティ
+	 * @return インサートした件数
+	 */
+	public int execute(JdbcSession session, Collection<? extends T> entities);
+}
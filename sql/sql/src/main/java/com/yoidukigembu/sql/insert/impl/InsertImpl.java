@@ -0,0 +1,247 @@
+package com.yoidukigembu.sql.insert.impl;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.cache.QueryTemplateCache;
+import com.yoidukigembu.sql.cache.ResultCache;
+import com.yoidukigembu.sql.exception.EntityException;
+import com.yoidukigembu.sql.insert.Insert;
+import com.yoidukigembu.sql.jdbc.JdbcSession;
+import com.yoidukigembu.sql.jdbc.QueryExecutor;
+import com.yoidukigembu.sql.meta.ColumnMeta;
+import com.yoidukigembu.sql.meta.EntityAccessor;
+import com.yoidukigembu.sql.meta.TableMeta;
+import com.yoidukigembu.sql.select.Select.QueryGenerator;
+import com.yoidukigembu.sql.util.SqlUtil;
+
+public class InsertImpl<T> implements Insert<T> {
+
+	/** テーブル情報 */
+	private final TableMeta tableMeta;
+
+	/** インサートするカラムリスト */
+	private List<ColumnMeta> columnList;
+
+	/** 1つの SQL 文にまとめる行数 */
+	private int rowsPerStatement = DEFAULT_ROWS_PER_STATEMENT;
+
+	/** 1回のバッチにまとめる SQL 文の数 */
+	private int statementsPerBatch = DEFAULT_STATEMENTS_PER_BATCH;
+
+	public InsertImpl(TableMeta tableMeta) {
+		this.tableMeta = tableMeta;
+		this.columnList = tableMeta.getColumnList();
+	}
+
+	public TableMeta getTableMeta() {
+		return tableMeta;
+	}
+
+	@Override
+	public Insert<T> columns(String... columns) {
+		return columns(Arrays.asList(columns));
+	}
+
+	@Override
+	public Insert<T> columns(List<String> columns) {
+		List<ColumnMeta> list = new ArrayList<>(columns.size());
+		for (String column : columns) {
+			list.add(tableMeta.getColumn(column).orElseThrow(() ->
+					new EntityException(String.format("column is not present. table:[%s] column:[%s]",
+							tableMeta.getQualifiedName(), column))));
+		}
+		this.columnList = list;
+		return this;
+	}
+
+	@Override
+	public Insert<T> rowsPerStatement(int rows) {
+		if (rows < 1) {
+			throw new IllegalArgumentException("rowsPerStatement must be greater than 0. rows:" + rows);
+		}
+		this.rowsPerStatement = rows;
+		return this;
+	}
+
+	@Override
+	public Insert<T> statementsPerBatch(int statements) {
+		if (statements < 1) {
+			throw new IllegalArgumentException("statementsPerBatch must be greater than 0. statements:" + statements);
+		}
+		this.statementsPerBatch = statements;
+		return this;
+	}
+
+	@Override
+	public <RESULT> Stream<RESULT> generateEach(Collection<? extends T> entities, QueryGenerator<RESULT> generator) {
+		List<? extends T> list = new ArrayList<>(entities);
+		List<Function<Object, Object>> getterList = getterList();
+		int statements = (list.size() + rowsPerStatement - 1) / rowsPerStatement;
+
+		return IntStream.range(0, statements)
+				.mapToObj(i -> {
+					List<? extends T> rows = list.subList(i * rowsPerStatement,
+							Math.min((i + 1) * rowsPerStatement, list.size()));
+					return generator.generate(sql(rows.size()), params(rows, getterList));
+				});
+	}
+
+	@Override
+	public int execute(JdbcSession session, Collection<? extends T> entities) {
+		List<? extends T> list = new ArrayList<>(entities);
+		if (list.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			return executeRows(session, list);
+		} finally {
+			ResultCache.getDefault().invalidate(tableMeta.getQualifiedName());
+		}
+	}
+
+	/**
+	 * インサートを実行
+	 * @return インサートした件数
+	 */
+	private int executeRows(JdbcSession session, List<? extends T> list) {
+
+		List<Function<Object, Object>> getterList = getterList();
+		int count = 0;
+		int index = 0;
+
+		// rowsPerStatement 行の SQL 文は同じ SQL 文のため、まとめてバッチで実行する
+		if (list.size() >= rowsPerStatement) {
+			String sql = sql(rowsPerStatement);
+			List<List<Object>> batch = new ArrayList<>(statementsPerBatch);
+			for (; index + rowsPerStatement <= list.size(); index += rowsPerStatement) {
+				List<Object> params = params(list.subList(index, index + rowsPerStatement), getterList);
+				if (statementsPerBatch == 1) {
+					count += QueryExecutor.update(session, sql, params);
+					continue;
+				}
+
+				batch.add(params);
+				if (batch.size() == statementsPerBatch) {
+					count += executeBatch(session, sql, batch);
+					batch.clear();
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				count += executeBatch(session, sql, batch);
+			}
+		}
+
+		// 端数の行
+		if (index < list.size()) {
+			List<? extends T> rows = list.subList(index, list.size());
+			count += QueryExecutor.update(session, sql(rows.size()), params(rows, getterList));
+		}
+
+		return count;
+	}
+
+	/**
+	 * バッチの実行
+	 * @return インサートした件数
+	 */
+	private int executeBatch(JdbcSession session, String sql, List<List<Object>> batch) {
+		int count = 0;
+		for (int result : QueryExecutor.batch(session, sql, batch)) {
+			if (result >= 0) {
+				count += result;
+			} else if (result == Statement.SUCCESS_NO_INFO) {
+				count += rowsPerStatement;
+			}
+		}
+		return count;
+	}
+
+	private List<Function<Object, Object>> getterList() {
+		EntityAccessor accessor = EntityAccessor.get(tableMeta.getEntityClass());
+		List<Function<Object, Object>> getterList = new ArrayList<>(columnList.size());
+		for (ColumnMeta column : columnList) {
+			getterList.add(accessor.getGetter(column));
+		}
+		return getterList;
+	}
+
+	/**
+	 * 値リストの作成 (行ごとにカラムの順)
+	 */
+	private List<Object> params(List<? extends T> rows, List<Function<Object, Object>> getterList) {
+		List<Object> params = new ArrayList<>(rows.size() * getterList.size());
+		for (T entity : rows) {
+			for (Function<Object, Object> getter : getterList) {
+				params.add(getter.apply(entity));
+			}
+		}
+		return params;
+	}
+
+	/**
+	 * 行数分の INSERT 文を取得
+	 * @param rows 行数
+	 */
+	private String sql(int rows) {
+		QueryTemplateCache cache = QueryTemplateCache.getDefault();
+		if (!cache.isEnabled()) {
+			return render(rows);
+		}
+
+		List<Object> parts = new ArrayList<>(columnList.size() + 3);
+		parts.add("INSERT");
+		parts.add(tableMeta.getQualifiedName());
+		for (ColumnMeta column : columnList) {
+			parts.add(column.getColumnName());
+		}
+		parts.add(rows);
+
+		QueryShape shape = new QueryShape(parts);
+		String sql = cache.get(shape);
+		if (sql == null) {
+			sql = render(rows);
+			cache.put(shape, sql);
+		}
+		return sql;
+	}
+
+	/**
+	 * INSERT 文の生成
+	 * @param rows 行数
+	 */
+	private String render(int rows) {
+		StringBuilder sql = new StringBuilder(64 + columnList.size() * rows * 3)
+				.append("INSERT INTO ")
+				.append(tableMeta.getQualifiedName())
+				.append(" (");
+
+		int index = 0;
+		for (ColumnMeta column : columnList) {
+			if (index++ > 0) {
+				sql.append(", ");
+			}
+			sql.append(column.getColumnName());
+		}
+
+		sql.append(") VALUES ");
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append('(');
+			SqlUtil.appendQuestions(sql, columnList.size());
+			sql.append(')');
+		}
+		return sql.toString();
+	}
+}
@@ -0,0 +1,130 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ResultSet から型に応じた getter で値を取得<br>
+ * 値が NULL の場合は null を返す。
+ *
+ */
+@FunctionalInterface
+interface ColumnReader {
+	
+	/**
+	 * 値を取得
+	 * @param rs ResultSet
+	 * @param index カラムのインデックス (1始まり)
+	 * @return 値。NULL の場合は null
+	 */
+	Object read(ResultSet rs, int index) throws SQLException;
+	
+	/**
+	 * 型に応じた ColumnReader を取得
+	 * @param type フィールドの型
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static ColumnReader of(Class<?> type) {
+		ColumnReader reader = Readers.READER_MAP.get(type);
+		if (reader != null) {
+			return reader;
+		}
+		
+		if (type.isEnum()) {
+			Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+			return (rs, i) -> {
+				String value = rs.getString(i);
+				return value == null ? null : Enum.valueOf(enumType, value);
+			};
+		}
+		
+		if (java.util.Date.class.isAssignableFrom(type)) {
+			return Readers.READER_MAP.get(Timestamp.class);
+		}
+		
+		return (rs, i) -> rs.getObject(i, type);
+	}
+	
+	/**
+	 * 型ごとの ColumnReader
+	 */
+	final class Readers {
+		
+		private static final Map<Class<?>, ColumnReader> READER_MAP = new HashMap<>();
+		
+		static {
+			ColumnReader longReader = (rs, i) -> {
+				long value = rs.getLong(i);
+				return rs.wasNull() ? null : value;
+			};
+			ColumnReader intReader = (rs, i) -> {
+				int value = rs.getInt(i);
+				return rs.wasNull() ? null : value;
+			};
+			ColumnReader shortReader = (rs, i) -> {
+				short value = rs.getShort(i);
+				return rs.wasNull() ? null : value;
+			};
+			ColumnReader byteReader = (rs, i) -> {
+				byte value = rs.getByte(i);
+				return rs.wasNull() ? null : value;
+			};
+			ColumnReader booleanReader = (rs, i) -> {
+				boolean value = rs.getBoolean(i);
+				return rs.wasNull() ? null : value;
+			};
+			ColumnReader doubleReader = (rs, i) -> {
+				double value = rs.getDouble(i);
+				return rs.wasNull() ? null : value;
+			};
+			ColumnReader floatReader = (rs, i) -> {
+				float value = rs.getFloat(i);
+				return rs.wasNull() ? null : value;
+			};
+			
+			READER_MAP.put(long.class, longReader);
+			READER_MAP.put(Long.class, longReader);
+			READER_MAP.put(int.class, intReader);
+			READER_MAP.put(Integer.class, intReader);
+			READER_MAP.put(short.class, shortReader);
+			READER_MAP.put(Short.class, shortReader);
+			READER_MAP.put(byte.class, byteReader);
+			READER_MAP.put(Byte.class, byteReader);
+			READER_MAP.put(boolean.class, booleanReader);
+			READER_MAP.put(Boolean.class, booleanReader);
+			READER_MAP.put(double.class, doubleReader);
+			READER_MAP.put(Double.class, doubleReader);
+			READER_MAP.put(float.class, floatReader);
+			READER_MAP.put(Float.class, floatReader);
+			READER_MAP.put(String.class, ResultSet::getString);
+			READER_MAP.put(BigDecimal.class, ResultSet::getBigDecimal);
+			READER_MAP.put(byte[].class, ResultSet::getBytes);
+			READER_MAP.put(Timestamp.class, ResultSet::getTimestamp);
+			READER_MAP.put(Date.class, ResultSet::getDate);
+			READER_MAP.put(Time.class, ResultSet::getTime);
+			READER_MAP.put(LocalDateTime.class, (rs, i) -> {
+				Timestamp value = rs.getTimestamp(i);
+				return value == null ? null : value.toLocalDateTime();
+			});
+			READER_MAP.put(LocalDate.class, (rs, i) -> {
+				Date value = rs.getDate(i);
+				return value == null ? null : value.toLocalDate();
+			});
+			READER_MAP.put(LocalTime.class, (rs, i) -> {
+				Time value = rs.getTime(i);
+				return value == null ? null : value.toLocalTime();
+			});
+		}
+		
+		private Readers() {}
+	}
+}
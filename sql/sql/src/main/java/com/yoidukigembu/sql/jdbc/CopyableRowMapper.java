@@ -0,0 +1,18 @@
+package com.yoidukigembu.sql.jdbc;
+
+/**
+ * 変換したオブジェクトのコピーを作成できる RowMapper<br>
+ * 結果キャッシュ ({@link com.yoidukigembu.sql.cache.ResultCache}) はこの RowMapper の結果のみを保持し、
+ * 呼び出し元には {@link #copy(Object)} で作成したコピーを返す。
+ * 呼び出し元での変更は保持している結果や他の呼び出し元に影響しない。
+ *
+ */
+public interface CopyableRowMapper<T> extends RowMapper<T> {
+
+	/**
+	 * 変換したオブジェクトのコピーを作成
+	 * @param row 変換したオブジェクト (null 以外)
+	 * @return コピー。変更できないオブジェクトの場合は row をそのまま返してよい
+	 */
+	public T copy(T row);
+}
@@ -0,0 +1,223 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.yoidukigembu.sql.meta.ColumnMeta;
+import com.yoidukigembu.sql.meta.EntityAccessor;
+import com.yoidukigembu.sql.meta.TableMeta;
+
+/**
+ * ResultSet の1行をエンティティに変換<br>
+ * セレクトするカラムのリストごとに、カラムのインデックスと setter の対応を事前に作成しておき、
+ * 行ごとのカラム名での検索を行わない。<br>
+ * 結果キャッシュから返すエンティティは {@link #copy(Object)} でコピーする。
+ *
+ */
+public final class EntityRowMapper<T> implements CopyableRowMapper<T> {
+	
+	/** エンティティクラスごとの、カラムリストと RowMapper のマップ */
+	private static final ClassValue<ConcurrentMap<List<String>, EntityRowMapper<?>>> MAPPERS = 
+			new ClassValue<ConcurrentMap<List<String>, EntityRowMapper<?>>>() {
+		@Override
+		protected ConcurrentMap<List<String>, EntityRowMapper<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+	
+	/** テーブル情報 */
+	private final TableMeta meta;
+	
+	/** アクセサ */
+	private final EntityAccessor accessor;
+	
+	/** カラム名 (大文字小文字を区別しない) とカラム情報のマップ */
+	private final Map<String, ColumnMeta> columnMap;
+	
+	/** セレクトするカラムから作成した対応 (SELECT * の場合は null) */
+	private final Binding binding;
+	
+	/** SELECT * の場合に、最後に変換した ResultSet の対応 */
+	private volatile ResultSetBinding lastBinding;
+	
+	/** コピーに使うカラムごとの getter */
+	private final Function<Object, Object>[] copyGetters;
+	
+	/** コピーに使うカラムごとの setter */
+	private final BiConsumer<Object, Object>[] copySetters;
+	
+	private EntityRowMapper(TableMeta meta, List<String> columnList) {
+		this.meta = meta;
+		this.accessor = EntityAccessor.get(meta.getEntityClass());
+		this.columnMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		meta.getColumnList().forEach(c -> columnMap.put(c.getColumnName(), c));
+		this.binding = columnList.isEmpty() ? null : createBinding(columnList);
+		
+		List<ColumnMeta> allColumns = meta.getColumnList();
+		this.copyGetters = newGetters(allColumns.size());
+		this.copySetters = newSetters(allColumns.size());
+		for (int i = 0; i < allColumns.size(); i++) {
+			copyGetters[i] = accessor.getGetter(allColumns.get(i));
+			copySetters[i] = accessor.getSetter(allColumns.get(i));
+		}
+	}
+	
+	/**
+	 * RowMapper を取得
+	 * @param meta テーブル情報
+	 * @param columnList セレクトするカラムのリスト (空の場合は SELECT *)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> EntityRowMapper<T> of(TableMeta meta, List<String> columnList) {
+		ConcurrentMap<List<String>, EntityRowMapper<?>> map = MAPPERS.get(meta.getEntityClass());
+		EntityRowMapper<?> mapper = map.get(columnList);
+		if (mapper == null) {
+			List<String> key = Collections.unmodifiableList(new ArrayList<>(columnList));
+			mapper = map.computeIfAbsent(key, k -> new EntityRowMapper<>(meta, k));
+		}
+		return (EntityRowMapper<T>) mapper;
+	}
+	
+	public TableMeta getMeta() {
+		return meta;
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public T map(ResultSet rs, int rowNum) throws SQLException {
+		Binding b = binding != null ? binding : resolve(rs);
+		
+		Object entity = accessor.newInstance();
+		for (int i = 0; i < b.indexes.length; i++) {
+			Object value = b.readers[i].read(rs, b.indexes[i]);
+			if (value != null) {
+				b.setters[i].accept(entity, value);
+			}
+		}
+		return (T) entity;
+	}
+	
+	/**
+	 * エンティティのコピーを作成<br>
+	 * すべてのカラムの値を getter / setter でコピーする。カラムの値のオブジェクト自体は共有する。
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T copy(T row) {
+		Object entity = accessor.newInstance();
+		for (int i = 0; i < copyGetters.length; i++) {
+			Object value = copyGetters[i].apply(row);
+			if (value != null) {
+				copySetters[i].accept(entity, value);
+			}
+		}
+		return (T) entity;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object>[] newGetters(int size) {
+		return (Function<Object, Object>[]) new Function<?, ?>[size];
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object>[] newSetters(int size) {
+		return (BiConsumer<Object, Object>[]) new BiConsumer<?, ?>[size];
+	}
+	
+	/**
+	 * SELECT * の場合に ResultSet のメタデータから対応を作成<br>
+	 * 同じ ResultSet の2行目以降は作成済みの対応を使う。
+	 */
+	private Binding resolve(ResultSet rs) throws SQLException {
+		ResultSetBinding last = lastBinding;
+		if (last != null && last.rs == rs) {
+			return last.binding;
+		}
+		
+		ResultSetMetaData metaData = rs.getMetaData();
+		List<String> labelList = new ArrayList<>(metaData.getColumnCount());
+		for (int i = 1; i <= metaData.getColumnCount(); i++) {
+			labelList.add(metaData.getColumnLabel(i));
+		}
+		
+		Binding resolved = of(meta, labelList).binding;
+		lastBinding = new ResultSetBinding(rs, resolved);
+		return resolved;
+	}
+	
+	/**
+	 * カラムのリストから対応を作成<br>
+	 * エンティティにないカラム (式など) は無視する。
+	 */
+	private Binding createBinding(List<String> columnList) {
+		List<Integer> indexList = new ArrayList<>();
+		List<ColumnMeta> metaList = new ArrayList<>();
+		for (int i = 0; i < columnList.size(); i++) {
+			Optional<ColumnMeta> column = findColumn(columnList.get(i));
+			if (column.isPresent()) {
+				metaList.add(column.get());
+				indexList.add(i + 1);
+			}
+		}
+		
+		Binding b = new Binding(metaList.size());
+		for (int i = 0; i < metaList.size(); i++) {
+			ColumnMeta column = metaList.get(i);
+			b.indexes[i] = indexList.get(i);
+			b.readers[i] = ColumnReader.of(column.getType());
+			b.setters[i] = accessor.getSetter(column);
+		}
+		return b;
+	}
+	
+	/**
+	 * カラム名からカラム情報を検索 (エイリアス付きの場合はエイリアスを除く)
+	 */
+	private Optional<ColumnMeta> findColumn(String column) {
+		ColumnMeta c = columnMap.get(column);
+		if (c == null && column.indexOf('.') >= 0) {
+			c = columnMap.get(column.substring(column.lastIndexOf('.') + 1));
+		}
+		return Optional.ofNullable(c);
+	}
+	
+	/**
+	 * カラムのインデックスと setter の対応
+	 */
+	private static final class Binding {
+		private final int[] indexes;
+		private final ColumnReader[] readers;
+		private final BiConsumer<Object, Object>[] setters;
+		
+		@SuppressWarnings("unchecked")
+		private Binding(int size) {
+			this.indexes = new int[size];
+			this.readers = new ColumnReader[size];
+			this.setters = (BiConsumer<Object, Object>[]) new BiConsumer<?, ?>[size];
+		}
+	}
+	
+	/**
+	 * ResultSet と対応の組
+	 */
+	private static final class ResultSetBinding {
+		private final ResultSet rs;
+		private final Binding binding;
+		
+		private ResultSetBinding(ResultSet rs, Binding binding) {
+			this.rs = rs;
+			this.binding = binding;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.yoidukigembu.sql.exception.SqlExecutionException;
+
+/**
+ * 1つのコネクション上で PreparedStatement を使い回すセッション<br>
+ * 同じSQL文は再度 prepare せずに、パラメータをクリアして再利用する。
+ * スレッドセーフではない。
+ *
+ */
+public class JdbcSession implements AutoCloseable {
+	
+	/** デフォルトの PreparedStatement の最大保持数 */
+	public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+	
+	/** コネクション */
+	private final Connection connection;
+	
+	/** コネクションをこのセッションで閉じるか */
+	private final boolean ownConnection;
+	
+	/** SQL文と PreparedStatement のマップ */
+	private final Map<String, PreparedStatement> statementMap;
+	
+	/** PreparedStatement の最大保持数 */
+	private final int statementCacheSize;
+	
+	/**
+	 * DataSource からコネクションを取得してセッションを開始<br>
+	 * コネクションは {@link #close()} で閉じる。
+	 * @param dataSource DataSource
+	 */
+	public JdbcSession(DataSource dataSource) {
+		this(getConnection(dataSource), true, DEFAULT_STATEMENT_CACHE_SIZE);
+	}
+	
+	/**
+	 * 既存のコネクションでセッションを開始<br>
+	 * コネクションは {@link #close()} で閉じない。
+	 * @param connection コネクション
+	 */
+	public JdbcSession(Connection connection) {
+		this(connection, false, DEFAULT_STATEMENT_CACHE_SIZE);
+	}
+	
+	public JdbcSession(Connection connection, boolean ownConnection, int statementCacheSize) {
+		this.connection = connection;
+		this.ownConnection = ownConnection;
+		this.statementCacheSize = statementCacheSize;
+		this.statementMap = new LinkedHashMap<>(16, 0.75f, true);
+	}
+	
+	public Connection getConnection() {
+		return connection;
+	}
+	
+	/**
+	 * PreparedStatement を取得<br>
+	 * 同じSQL文の PreparedStatement がある場合はパラメータをクリアして返す。
+	 * 返した PreparedStatement はセッションが閉じるので、呼び出し側で閉じないこと。
+	 * @param sql SQL文
+	 */
+	public PreparedStatement prepare(String sql) throws SQLException {
+		PreparedStatement ps = statementMap.get(sql);
+		if (ps != null && !ps.isClosed()) {
+			ps.clearParameters();
+			return ps;
+		}
+		
+		ps = connection.prepareStatement(sql);
+		statementMap.put(sql, ps);
+		evict();
+		return ps;
+	}
+	
+	/**
+	 * コミット<br>
+	 * オートコミットの場合は何もしない。
+	 */
+	public void commit() {
+		try {
+			if (!connection.getAutoCommit()) {
+				connection.commit();
+			}
+		} catch (SQLException e) {
+			throw new SqlExecutionException("failed to commit.", e);
+		}
+	}
+	
+	/**
+	 * 最大保持数を超えた PreparedStatement を閉じる
+	 */
+	private void evict() throws SQLException {
+		Iterator<PreparedStatement> it = statementMap.values().iterator();
+		while (statementMap.size() > statementCacheSize && it.hasNext()) {
+			PreparedStatement ps = it.next();
+			it.remove();
+			ps.close();
+		}
+	}
+
+	@Override
+	public void close() {
+		SQLException exception = null;
+		for (PreparedStatement ps : statementMap.values()) {
+			try {
+				ps.close();
+			} catch (SQLException e) {
+				exception = e;
+			}
+		}
+		statementMap.clear();
+		
+		if (ownConnection) {
+			try {
+				connection.close();
+			} catch (SQLException e) {
+				exception = e;
+			}
+		}
+		
+		if (exception != null) {
+			throw new SqlExecutionException("failed to close session.", exception);
+		}
+	}
+	
+	private static Connection getConnection(DataSource dataSource) {
+		try {
+			return dataSource.getConnection();
+		} catch (SQLException e) {
+			throw new SqlExecutionException("failed to get connection.", e);
+		}
+	}
+}
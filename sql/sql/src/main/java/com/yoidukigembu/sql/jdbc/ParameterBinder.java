@@ -0,0 +1,116 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PreparedStatement に値をバインド<br>
+ * 値の型ごとに setLong / setString などの専用のメソッドを使い、setObject での型判定を避ける。
+ *
+ */
+public class ParameterBinder {
+	
+	/** 型ごとのバインド処理 (判定順) */
+	private static final Map<Class<?>, Setter> SETTER_MAP = new LinkedHashMap<>();
+	
+	static {
+		SETTER_MAP.put(String.class, (ps, i, v) -> ps.setString(i, (String) v));
+		SETTER_MAP.put(Long.class, (ps, i, v) -> ps.setLong(i, (Long) v));
+		SETTER_MAP.put(Integer.class, (ps, i, v) -> ps.setInt(i, (Integer) v));
+		SETTER_MAP.put(Short.class, (ps, i, v) -> ps.setShort(i, (Short) v));
+		SETTER_MAP.put(Byte.class, (ps, i, v) -> ps.setByte(i, (Byte) v));
+		SETTER_MAP.put(Boolean.class, (ps, i, v) -> ps.setBoolean(i, (Boolean) v));
+		SETTER_MAP.put(Double.class, (ps, i, v) -> ps.setDouble(i, (Double) v));
+		SETTER_MAP.put(Float.class, (ps, i, v) -> ps.setFloat(i, (Float) v));
+		SETTER_MAP.put(Character.class, (ps, i, v) -> ps.setString(i, v.toString()));
+		SETTER_MAP.put(BigDecimal.class, (ps, i, v) -> ps.setBigDecimal(i, (BigDecimal) v));
+		SETTER_MAP.put(BigInteger.class, (ps, i, v) -> ps.setBigDecimal(i, new BigDecimal((BigInteger) v)));
+		SETTER_MAP.put(byte[].class, (ps, i, v) -> ps.setBytes(i, (byte[]) v));
+		SETTER_MAP.put(Timestamp.class, (ps, i, v) -> ps.setTimestamp(i, (Timestamp) v));
+		SETTER_MAP.put(java.sql.Date.class, (ps, i, v) -> ps.setDate(i, (java.sql.Date) v));
+		SETTER_MAP.put(Time.class, (ps, i, v) -> ps.setTime(i, (Time) v));
+		SETTER_MAP.put(java.util.Date.class, (ps, i, v) -> ps.setTimestamp(i, new Timestamp(((java.util.Date) v).getTime())));
+		SETTER_MAP.put(LocalDate.class, (ps, i, v) -> ps.setDate(i, java.sql.Date.valueOf((LocalDate) v)));
+		SETTER_MAP.put(LocalDateTime.class, (ps, i, v) -> ps.setTimestamp(i, Timestamp.valueOf((LocalDateTime) v)));
+		SETTER_MAP.put(LocalTime.class, (ps, i, v) -> ps.setTime(i, Time.valueOf((LocalTime) v)));
+		SETTER_MAP.put(Enum.class, (ps, i, v) -> ps.setString(i, ((Enum<?>) v).name()));
+		SETTER_MAP.put(SqlArray.class, (ps, i, v) -> {
+			SqlArray array = (SqlArray) v;
+			ps.setArray(i, ps.getConnection().createArrayOf(array.getTypeName(), array.values()));
+		});
+	}
+	
+	/** 汎用のバインド処理 */
+	private static final Setter OBJECT_SETTER = (ps, i, v) -> ps.setObject(i, v);
+	
+	/** クラスごとのバインド処理 */
+	private static final ClassValue<Setter> SETTERS = new ClassValue<Setter>() {
+		@Override
+		protected Setter computeValue(Class<?> type) {
+			Setter setter = SETTER_MAP.get(type);
+			if (setter != null) {
+				return setter;
+			}
+			
+			for (Map.Entry<Class<?>, Setter> entry : SETTER_MAP.entrySet()) {
+				if (entry.getKey().isAssignableFrom(type)) {
+					return entry.getValue();
+				}
+			}
+			return OBJECT_SETTER;
+		}
+	};
+
+	private ParameterBinder() {}
+	
+	/**
+	 * 値をバインド
+	 * @param ps PreparedStatement
+	 * @param params 値リスト
+	 */
+	public static void bind(PreparedStatement ps, List<Object> params) throws SQLException {
+		if (params instanceof ParameterSink) {
+			// 型ごとの setLong / setInt などを直接呼ぶ
+			((ParameterSink) params).bindTo(ps);
+			return;
+		}
+		
+		int index = 1;
+		for (Object param : params) {
+			bind(ps, index++, param);
+		}
+	}
+	
+	/**
+	 * 値をバインド
+	 * @param ps PreparedStatement
+	 * @param index インデックス (1始まり)
+	 * @param value 値
+	 */
+	public static void bind(PreparedStatement ps, int index, Object value) throws SQLException {
+		if (value == null) {
+			ps.setNull(index, Types.NULL);
+			return;
+		}
+		SETTERS.get(value.getClass()).set(ps, index, value);
+	}
+	
+	/**
+	 * 型ごとのバインド処理
+	 */
+	@FunctionalInterface
+	private interface Setter {
+		void set(PreparedStatement ps, int index, Object value) throws SQLException;
+	}
+}
@@ -0,0 +1,347 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * 値リスト (long / int / short / byte / double / boolean をボクシングせずに保持)<br>
+ * 値の型を位置ごとに保持し、{@link #bindTo(PreparedStatement)} で setLong / setInt / setShort などを直接呼ぶ。
+ * List&lt;Object&gt; として値リストを受け取る箇所にそのまま渡せる。
+ * {@link #get(int)} はその時点でボクシングするため、値を読む処理の多い用途には向かない。<br>
+ * {@link #set(int, Object)} / {@link #add(int, Object)} / {@link #remove(int)} も値の型ごとに保持したまま変更する。<br>
+ * {@link #clear()} して再利用できる。スレッドセーフではない。
+ *
+ */
+public final class ParameterSink extends AbstractList<Object> implements RandomAccess {
+
+	/** デフォルトの初期容量 */
+	private static final int DEFAULT_CAPACITY = 10;
+
+	/** 値の型: オブジェクト */
+	private static final byte OBJECT = 0;
+
+	/** 値の型: 文字列 */
+	private static final byte STRING = 1;
+
+	/** 値の型: long */
+	private static final byte LONG = 2;
+
+	/** 値の型: int */
+	private static final byte INT = 3;
+
+	/** 値の型: double (ビット列で保持) */
+	private static final byte DOUBLE = 4;
+
+	/** 値の型: boolean (0 / 1 で保持) */
+	private static final byte BOOLEAN = 5;
+
+	/** 値の型: short */
+	private static final byte SHORT = 6;
+
+	/** 値の型: byte */
+	private static final byte BYTE = 7;
+
+	/** 位置ごとの値の型 */
+	private byte[] types;
+
+	/** 位置ごとのプリミティブの値 */
+	private long[] primitives;
+
+	/** 位置ごとのオブジェクトの値 (プリミティブの位置は null) */
+	private Object[] objects;
+
+	/** 値の数 */
+	private int size;
+
+	public ParameterSink() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity 初期容量
+	 */
+	public ParameterSink(int capacity) {
+		int c = Math.max(capacity, 1);
+		this.types = new byte[c];
+		this.primitives = new long[c];
+		this.objects = new Object[c];
+	}
+
+	/**
+	 * long の値を追加
+	 * @return 自身
+	 */
+	public ParameterSink addLong(long value) {
+		int index = next(LONG);
+		primitives[index] = value;
+		return this;
+	}
+
+	/**
+	 * int の値を追加
+	 * @return 自身
+	 */
+	public ParameterSink addInt(int value) {
+		int index = next(INT);
+		primitives[index] = value;
+		return this;
+	}
+
+	/**
+	 * short の値を追加
+	 * @return 自身
+	 */
+	public ParameterSink addShort(short value) {
+		int index = next(SHORT);
+		primitives[index] = value;
+		return this;
+	}
+
+	/**
+	 * byte の値を追加
+	 * @return 自身
+	 */
+	public ParameterSink addByte(byte value) {
+		int index = next(BYTE);
+		primitives[index] = value;
+		return this;
+	}
+
+	/**
+	 * double の値を追加
+	 * @return 自身
+	 */
+	public ParameterSink addDouble(double value) {
+		int index = next(DOUBLE);
+		primitives[index] = Double.doubleToRawLongBits(value);
+		return this;
+	}
+
+	/**
+	 * boolean の値を追加
+	 * @return 自身
+	 */
+	public ParameterSink addBoolean(boolean value) {
+		int index = next(BOOLEAN);
+		primitives[index] = value ? 1 : 0;
+		return this;
+	}
+
+	/**
+	 * 文字列の値を追加
+	 * @param value 値 (nullの場合は NULL をバインドする)
+	 * @return 自身
+	 */
+	public ParameterSink addString(String value) {
+		int index = next(value == null ? OBJECT : STRING);
+		objects[index] = value;
+		return this;
+	}
+
+	/**
+	 * 値を追加<br>
+	 * Long / Integer / Short / Byte / Double / Boolean / String は型ごとの位置として保持する。
+	 */
+	@Override
+	public boolean add(Object value) {
+		store(next(OBJECT), value);
+		return true;
+	}
+
+	/**
+	 * 指定した位置に値を追加 (以降の値は後ろにずらす)
+	 */
+	@Override
+	public void add(int index, Object value) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException(String.format("index:[%d] size:[%d]", index, size));
+		}
+
+		ensureCapacity(size + 1);
+		int moved = size - index;
+		System.arraycopy(types, index, types, index + 1, moved);
+		System.arraycopy(primitives, index, primitives, index + 1, moved);
+		System.arraycopy(objects, index, objects, index + 1, moved);
+		size++;
+		modCount++;
+		store(index, value);
+	}
+
+	/**
+	 * 値を置き換え
+	 * @return 置き換える前の値
+	 */
+	@Override
+	public Object set(int index, Object value) {
+		Object old = get(index);
+		store(index, value);
+		return old;
+	}
+
+	/**
+	 * 値を削除 (以降の値は前にずらす)
+	 * @return 削除した値
+	 */
+	@Override
+	public Object remove(int index) {
+		Object old = get(index);
+		int moved = size - index - 1;
+		System.arraycopy(types, index + 1, types, index, moved);
+		System.arraycopy(primitives, index + 1, primitives, index, moved);
+		System.arraycopy(objects, index + 1, objects, index, moved);
+		objects[--size] = null;
+		modCount++;
+		return old;
+	}
+
+	/**
+	 * 値を取得 (プリミティブの値はボクシングする)
+	 */
+	@Override
+	public Object get(int index) {
+		checkIndex(index);
+
+		switch (types[index]) {
+		case LONG:
+			return primitives[index];
+		case INT:
+			return (int) primitives[index];
+		case SHORT:
+			return (short) primitives[index];
+		case BYTE:
+			return (byte) primitives[index];
+		case DOUBLE:
+			return Double.longBitsToDouble(primitives[index]);
+		case BOOLEAN:
+			return primitives[index] != 0;
+		default:
+			return objects[index];
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 値をすべて削除 (容量はそのまま)
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(objects, 0, size, null);
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * 容量を確保
+	 * @param capacity 必要な容量
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity <= types.length) {
+			return;
+		}
+
+		int newCapacity = Math.max(capacity, types.length * 2);
+		types = Arrays.copyOf(types, newCapacity);
+		primitives = Arrays.copyOf(primitives, newCapacity);
+		objects = Arrays.copyOf(objects, newCapacity);
+	}
+
+	/**
+	 * 値をバインド (1番目の値をインデックス 1 にバインドする)
+	 * @param ps PreparedStatement
+	 */
+	public void bindTo(PreparedStatement ps) throws SQLException {
+		for (int i = 0; i < size; i++) {
+			int index = i + 1;
+			switch (types[i]) {
+			case LONG:
+				ps.setLong(index, primitives[i]);
+				break;
+			case INT:
+				ps.setInt(index, (int) primitives[i]);
+				break;
+			case SHORT:
+				ps.setShort(index, (short) primitives[i]);
+				break;
+			case BYTE:
+				ps.setByte(index, (byte) primitives[i]);
+				break;
+			case DOUBLE:
+				ps.setDouble(index, Double.longBitsToDouble(primitives[i]));
+				break;
+			case BOOLEAN:
+				ps.setBoolean(index, primitives[i] != 0);
+				break;
+			case STRING:
+				ps.setString(index, (String) objects[i]);
+				break;
+			default:
+				ParameterBinder.bind(ps, index, objects[i]);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * 位置に値を格納
+	 * @param index 位置
+	 * @param value 値
+	 */
+	private void store(int index, Object value) {
+		byte type;
+		long primitive = 0L;
+		Object object = null;
+		if (value instanceof String) {
+			type = STRING;
+			object = value;
+		} else if (value instanceof Long) {
+			type = LONG;
+			primitive = (Long) value;
+		} else if (value instanceof Integer) {
+			type = INT;
+			primitive = (Integer) value;
+		} else if (value instanceof Short) {
+			type = SHORT;
+			primitive = (Short) value;
+		} else if (value instanceof Byte) {
+			type = BYTE;
+			primitive = (Byte) value;
+		} else if (value instanceof Double) {
+			type = DOUBLE;
+			primitive = Double.doubleToRawLongBits((Double) value);
+		} else if (value instanceof Boolean) {
+			type = BOOLEAN;
+			primitive = (Boolean) value ? 1 : 0;
+		} else {
+			type = OBJECT;
+			object = value;
+		}
+		types[index] = type;
+		primitives[index] = primitive;
+		objects[index] = object;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("index:[%d] size:[%d]", index, size));
+		}
+	}
+
+	/**
+	 * 次の位置を確保 (配列を作り直すため、配列の参照は呼び出し後に取得すること)
+	 * @param type 値の型
+	 * @return 位置
+	 */
+	private int next(byte type) {
+		ensureCapacity(size + 1);
+		types[size] = type;
+		modCount++;
+		return size++;
+	}
+}
@@ -0,0 +1,138 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.yoidukigembu.sql.exception.SqlExecutionException;
+
+/**
+ * SQL文の実行<br>
+ * prepare / バインド / 取得 を1か所で行う。
+ *
+ */
+public class QueryExecutor {
+
+	private QueryExecutor() {}
+	
+	/**
+	 * 全行を取得
+	 * @param session セッション
+	 * @param sql SQL文
+	 * @param params 値リスト
+	 * @param mapper 行の変換
+	 * @return 変換した行のリスト
+	 */
+	public static <R> List<R> list(JdbcSession session, String sql, List<Object> params, RowMapper<R> mapper) {
+		try {
+			PreparedStatement ps = session.prepare(sql);
+			ParameterBinder.bind(ps, params);
+			try (ResultSet rs = ps.executeQuery()) {
+				List<R> list = new ArrayList<>();
+				int rowNum = 0;
+				while (rs.next()) {
+					list.add(mapper.map(rs, rowNum++));
+				}
+				return list;
+			}
+		} catch (SQLException e) {
+			throw exception(sql, e);
+		}
+	}
+	
+	/**
+	 * 1行を取得
+	 * @param session セッション
+	 * @param sql SQL文
+	 * @param params 値リスト
+	 * @param mapper 行の変換
+	 * @return 変換した行。0件の場合は空
+	 * @throws SqlExecutionException 2行以上ある場合
+	 */
+	public static <R> Optional<R> one(JdbcSession session, String sql, List<Object> params, RowMapper<R> mapper) {
+		try {
+			PreparedStatement ps = session.prepare(sql);
+			ParameterBinder.bind(ps, params);
+			ps.setMaxRows(2);
+			try (ResultSet rs = ps.executeQuery()) {
+				if (!rs.next()) {
+					return Optional.empty();
+				}
+				
+				R result = mapper.map(rs, 0);
+				if (rs.next()) {
+					throw new SqlExecutionException(String.format("more than one row returned. sql:[%s]", sql));
+				}
+				return Optional.ofNullable(result);
+			} finally {
+				ps.setMaxRows(0);
+			}
+		} catch (SQLException e) {
+			throw exception(sql, e);
+		}
+	}
+	
+	/**
+	 * 件数を取得
+	 * @param session セッション
+	 * @param sql SQL文 (1行1列で件数を返すもの)
+	 * @param params 値リスト
+	 * @return 件数
+	 */
+	public static long count(JdbcSession session, String sql, List<Object> params) {
+		try {
+			PreparedStatement ps = session.prepare(sql);
+			ParameterBinder.bind(ps, params);
+			try (ResultSet rs = ps.executeQuery()) {
+				return rs.next() ? rs.getLong(1) : 0L;
+			}
+		} catch (SQLException e) {
+			throw exception(sql, e);
+		}
+	}
+	
+	/**
+	 * 更新系SQL文を実行
+	 * @param session セッション
+	 * @param sql SQL文
+	 * @param params 値リスト
+	 * @return 更新件数
+	 */
+	public static int update(JdbcSession session, String sql, List<Object> params) {
+		try {
+			PreparedStatement ps = session.prepare(sql);
+			ParameterBinder.bind(ps, params);
+			return ps.executeUpdate();
+		} catch (SQLException e) {
+			throw exception(sql, e);
+		}
+	}
+	
+	/**
+	 * 更新系SQL文をバッチで実行<br>
+	 * 値リストごとに addBatch し、1回の executeBatch で実行する。
+	 * @param session セッション
+	 * @param sql SQL文
+	 * @param paramsList 値リストのリスト
+	 * @return 値リストごとの更新件数 ({@link java.sql.Statement#SUCCESS_NO_INFO} の場合あり)
+	 */
+	public static int[] batch(JdbcSession session, String sql, List<List<Object>> paramsList) {
+		try {
+			PreparedStatement ps = session.prepare(sql);
+			for (List<Object> params : paramsList) {
+				ParameterBinder.bind(ps, params);
+				ps.addBatch();
+			}
+			return ps.executeBatch();
+		} catch (SQLException e) {
+			throw exception(sql, e);
+		}
+	}
+	
+	private static SqlExecutionException exception(String sql, SQLException e) {
+		return new SqlExecutionException(String.format("failed to execute sql. sql:[%s]", sql), e);
+	}
+}
@@ -0,0 +1,172 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
+
+import com.yoidukigembu.sql.exception.SqlExecutionException;
+
+/**
+ * 前方参照のみ・読み取り専用のカーソルで結果を1行ずつ取得するストリーム<br>
+ * 全件をメモリに保持しないため、件数に関わらずメモリ使用量は一定となる。
+ * ストリームを閉じる (または最後まで読む) と ResultSet / Statement / Connection を閉じる。
+ *
+ */
+public class ResultStream<R> extends Spliterators.AbstractSpliterator<R> implements AutoCloseable {
+	
+	/** デフォルトのフェッチサイズ */
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+	
+	/** SQL文 */
+	private final String sql;
+	
+	/** 行の変換 */
+	private final RowMapper<R> mapper;
+	
+	/** コネクション */
+	private final Connection connection;
+	
+	/** 開始時の自動コミット */
+	private final boolean autoCommit;
+	
+	/** 開始時の読み取り専用 */
+	private final boolean readOnly;
+	
+	/** PreparedStatement */
+	private PreparedStatement ps;
+	
+	/** ResultSet */
+	private ResultSet rs;
+	
+	/** 行番号 */
+	private int rowNum;
+	
+	/** 閉じたか */
+	private boolean closed;
+	
+	private ResultStream(Connection connection, String sql, RowMapper<R> mapper) throws SQLException {
+		super(Long.MAX_VALUE, Spliterator.ORDERED);
+		this.connection = connection;
+		this.sql = sql;
+		this.mapper = mapper;
+		this.autoCommit = connection.getAutoCommit();
+		this.readOnly = connection.isReadOnly();
+	}
+	
+	/**
+	 * ストリームを開く
+	 * @param dataSource DataSource
+	 * @param sql SQL文
+	 * @param params 値リスト
+	 * @param mapper 行の変換
+	 * @param fetchSize フェッチサイズ
+	 * @return 結果のストリーム。使用後は必ず閉じること
+	 */
+	public static <R> Stream<R> open(DataSource dataSource, String sql, List<Object> params, RowMapper<R> mapper, int fetchSize) {
+		Connection connection;
+		try {
+			connection = dataSource.getConnection();
+		} catch (SQLException e) {
+			throw new SqlExecutionException("failed to get connection.", e);
+		}
+		
+		ResultStream<R> resultStream = null;
+		try {
+			resultStream = new ResultStream<>(connection, sql, mapper);
+			resultStream.execute(params, fetchSize);
+			return StreamSupport.stream(resultStream, false).onClose(resultStream::close);
+		} catch (SQLException | RuntimeException e) {
+			if (resultStream != null) {
+				resultStream.close();
+			} else {
+				closeQuietly(connection);
+			}
+			
+			if (e instanceof RuntimeException) {
+				throw (RuntimeException) e;
+			}
+			throw new SqlExecutionException(String.format("failed to execute sql. sql:[%s]", sql), e);
+		}
+	}
+	
+	/**
+	 * SQL文の実行
+	 */
+	private void execute(List<Object> params, int fetchSize) throws SQLException {
+		// ドライバによっては (PostgreSQL など) 自動コミットが無効でないとカーソルで取得しない
+		if (autoCommit) {
+			connection.setAutoCommit(false);
+		}
+		if (!readOnly) {
+			connection.setReadOnly(true);
+		}
+		
+		ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		ps.setFetchSize(fetchSize);
+		ParameterBinder.bind(ps, params);
+		rs = ps.executeQuery();
+		rs.setFetchSize(fetchSize);
+	}
+	
+	@Override
+	public boolean tryAdvance(Consumer<? super R> action) {
+		if (closed) {
+			return false;
+		}
+		
+		try {
+			if (!rs.next()) {
+				close();
+				return false;
+			}
+			action.accept(mapper.map(rs, rowNum++));
+			return true;
+		} catch (SQLException e) {
+			close();
+			throw new SqlExecutionException(String.format("failed to fetch row. sql:[%s]", sql), e);
+		}
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		
+		closeQuietly(rs);
+		closeQuietly(ps);
+		try {
+			if (!readOnly) {
+				connection.setReadOnly(false);
+			}
+			if (autoCommit) {
+				connection.rollback();
+				connection.setAutoCommit(true);
+			}
+		} catch (SQLException e) {
+			// コネクションを閉じるため無視
+		}
+		closeQuietly(connection);
+	}
+	
+	private static void closeQuietly(AutoCloseable closeable) {
+		if (closeable == null) {
+			return;
+		}
+		try {
+			closeable.close();
+		} catch (Exception e) {
+			// 閉じる際の例外は無視
+		}
+	}
+}
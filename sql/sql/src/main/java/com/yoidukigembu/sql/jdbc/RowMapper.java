@@ -0,0 +1,42 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSet の1行をオブジェクトに変換
+ *
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+	/**
+	 * 現在行を変換
+	 * @param rs ResultSet
+	 * @param rowNum 行番号 (0始まり)
+	 * @return 変換したオブジェクト
+	 */
+	public T map(ResultSet rs, int rowNum) throws SQLException;
+	
+	/**
+	 * 変換したオブジェクトが変更できないことを宣言した RowMapper を作成<br>
+	 * 結果キャッシュは {@link CopyableRowMapper} の結果のみを保持するため、
+	 * String / Long などの変更できない値に変換する RowMapper をキャッシュの対象にする場合に使う。
+	 * キャッシュのキーには RowMapper を含むため、作成した RowMapper は共有すること。
+	 * @param mapper 変更できないオブジェクトに変換する RowMapper
+	 * @return コピーせずにそのまま返す RowMapper
+	 */
+	public static <T> CopyableRowMapper<T> immutable(RowMapper<T> mapper) {
+		return new CopyableRowMapper<T>() {
+			@Override
+			public T map(ResultSet rs, int rowNum) throws SQLException {
+				return mapper.map(rs, rowNum);
+			}
+			
+			@Override
+			public T copy(T row) {
+				return row;
+			}
+		};
+	}
+}
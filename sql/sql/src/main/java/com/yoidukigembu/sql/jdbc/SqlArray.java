@@ -0,0 +1,63 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * SQLの配列としてバインドする値<br>
+ * {@link ParameterBinder} で Connection#createArrayOf により java.sql.Array に変換してバインドする。
+ *
+ */
+public final class SqlArray {
+
+	/** 要素の型名 */
+	private final String typeName;
+
+	/** 要素 */
+	private final Object[] values;
+
+	public SqlArray(String typeName, Collection<?> values) {
+		this.typeName = typeName;
+		this.values = values.toArray();
+	}
+
+	public String getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * 要素を取得 (コピー)
+	 */
+	public Object[] getValues() {
+		return values.clone();
+	}
+
+	/**
+	 * Connection#createArrayOf に渡す要素 (コピーしない)
+	 */
+	Object[] values() {
+		return values;
+	}
+
+	@Override
+	public int hashCode() {
+		return typeName.hashCode() * 31 + Arrays.hashCode(values);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof SqlArray)) {
+			return false;
+		}
+		SqlArray other = (SqlArray) obj;
+		return typeName.equals(other.typeName) && Arrays.equals(values, other.values);
+	}
+
+	@Override
+	public String toString() {
+		return typeName + Arrays.toString(values);
+	}
+}
@@ -0,0 +1,57 @@
+package com.yoidukigembu.sql.jfr;
+
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.enums.QueryKind;
+
+/**
+ * クエリのイベントの記録<br>
+ * JFR が使えない環境では何もしない実装を使う。
+ *
+ */
+interface QueryEventRecorder {
+
+	/** 何もしない実装 */
+	QueryEventRecorder NONE = new QueryEventRecorder() {
+		@Override
+		public Object beginBuild() {
+			return null;
+		}
+
+		@Override
+		public void commitBuild(Object event, QueryKind kind, QueryShape shape, int sqlLength, int paramCount) {
+		}
+
+		@Override
+		public Object beginExecution() {
+			return null;
+		}
+
+		@Override
+		public void commitExecution(Object event, QueryKind kind, QueryShape shape, int sqlLength, int paramCount, long rows) {
+		}
+	};
+
+	/**
+	 * SQL文の生成の開始
+	 * @return イベント。記録しない場合は null
+	 */
+	Object beginBuild();
+
+	/**
+	 * SQL文の生成の終了
+	 * @param event {@link #beginBuild()} のイベント
+	 */
+	void commitBuild(Object event, QueryKind kind, QueryShape shape, int sqlLength, int paramCount);
+
+	/**
+	 * 実行の開始
+	 * @return イベント。記録しない場合は null
+	 */
+	Object beginExecution();
+
+	/**
+	 * 実行の終了
+	 * @param event {@link #beginExecution()} のイベント
+	 */
+	void commitExecution(Object event, QueryKind kind, QueryShape shape, int sqlLength, int paramCount, long rows);
+}
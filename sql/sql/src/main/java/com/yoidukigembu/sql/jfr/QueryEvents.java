@@ -0,0 +1,85 @@
+package com.yoidukigembu.sql.jfr;
+
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.enums.QueryKind;
+
+/**
+ * JFR (JDK Flight Recorder) へのクエリのイベントの記録<br>
+ * SQL文の生成 (QueryBuildEvent) と実行 (QueryExecutionEvent) を、
+ * 形状のフィンガープリント ({@link QueryShape#getFingerprint()})、SQL文の長さ、値の数、所要時間とともに記録する。<br>
+ * イベントのクラスは jdk.jfr を参照するため src/main/java11 に置き、JDK 11 以上のビルドでのみコンパイルする。<br>
+ * jdk.jfr が存在しない実行環境 (JFR 非対応の Java 8 など) やイベントのクラスを含まないビルドでは何も記録しない。
+ * 記録の有無は JFR の設定 (イベント名ごとの enabled / threshold) で切り替える。
+ *
+ */
+public final class QueryEvents {
+
+	/** JFR の実装クラス名 (jdk.jfr を参照するため、存在確認後にリフレクションでのみ読み込む) */
+	private static final String JFR_RECORDER = "com.yoidukigembu.sql.jfr.JfrQueryEventRecorder";
+
+	/** イベントの記録 */
+	private static final QueryEventRecorder RECORDER = createRecorder();
+
+	private QueryEvents() {}
+
+	private static QueryEventRecorder createRecorder() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return (QueryEventRecorder) Class.forName(JFR_RECORDER).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return QueryEventRecorder.NONE;
+		}
+	}
+
+	/**
+	 * JFR に記録できる環境かどうか
+	 */
+	public static boolean isAvailable() {
+		return RECORDER != QueryEventRecorder.NONE;
+	}
+
+	/**
+	 * SQL文の生成の開始
+	 * @return イベント。記録しない場合は null
+	 */
+	public static Object beginBuild() {
+		return RECORDER.beginBuild();
+	}
+
+	/**
+	 * SQL文の生成の終了
+	 * @param event {@link #beginBuild()} のイベント (null の場合は何もしない)
+	 * @param kind クエリの種類
+	 * @param shape 形状 (フィンガープリントを記録する)
+	 * @param sqlLength SQL文の長さ
+	 * @param paramCount 値の数
+	 */
+	public static void commitBuild(Object event, QueryKind kind, QueryShape shape, int sqlLength, int paramCount) {
+		if (event != null) {
+			RECORDER.commitBuild(event, kind, shape, sqlLength, paramCount);
+		}
+	}
+
+	/**
+	 * 実行の開始
+	 * @return イベント。記録しない場合は null
+	 */
+	public static Object beginExecution() {
+		return RECORDER.beginExecution();
+	}
+
+	/**
+	 * 実行の終了
+	 * @param event {@link #beginExecution()} のイベント (null の場合は何もしない)
+	 * @param kind クエリの種類
+	 * @param shape 形状 (フィンガープリントを記録する)
+	 * @param sqlLength SQL文の長さ
+	 * @param paramCount 値の数
+	 * @param rows 取得行数
+	 */
+	public static void commitExecution(Object event, QueryKind kind, QueryShape shape, int sqlLength, int paramCount, long rows) {
+		if (event != null) {
+			RECORDER.commitExecution(event, kind, shape, sqlLength, paramCount, rows);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.yoidukigembu.sql.meta;
+
+import java.lang.reflect.Field;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * エンティティのカラム情報
+ *
+ */
+public final class ColumnMeta {
+
+	/** フィールド */
+	private final Field field;
+	
+	/** カラム名 */
+	private final String columnName;
+	
+	/** 主キーか */
+	private final boolean id;
+	
+	ColumnMeta(Field field, String columnName, boolean id) {
+		this.field = field;
+		this.columnName = columnName;
+		this.id = id;
+	}
+	
+	public Field getField() {
+		return field;
+	}
+	
+	public String getFieldName() {
+		return field.getName();
+	}
+	
+	public Class<?> getType() {
+		return field.getType();
+	}
+	
+	public String getColumnName() {
+		return columnName;
+	}
+	
+	public boolean isId() {
+		return id;
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.reflectionToString(this);
+	}
+}
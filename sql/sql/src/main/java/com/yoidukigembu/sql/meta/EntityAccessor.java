@@ -0,0 +1,206 @@
+package com.yoidukigembu.sql.meta;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import com.yoidukigembu.sql.exception.EntityException;
+
+/**
+ * エンティティの生成とフィールドへのアクセス<br>
+ * public なコンストラクタ / getter / setter は LambdaMetafactory で直接呼び出すラムダを生成し、
+ * それ以外はフィールドの MethodHandle を使う。クラスごとに一度だけ作成する。
+ *
+ */
+public final class EntityAccessor {
+	
+	/** クラスごとのアクセサ */
+	private static final ClassValue<EntityAccessor> ACCESSORS = new ClassValue<EntityAccessor>() {
+		@Override
+		protected EntityAccessor computeValue(Class<?> type) {
+			return new EntityAccessor(EntityMetaRegistry.get(type));
+		}
+	};
+	
+	/** コンストラクタ */
+	private final Supplier<Object> constructor;
+	
+	/** カラムごとの getter */
+	private final Map<ColumnMeta, Function<Object, Object>> getterMap = new HashMap<>();
+	
+	/** カラムごとの setter */
+	private final Map<ColumnMeta, BiConsumer<Object, Object>> setterMap = new HashMap<>();
+	
+	private EntityAccessor(TableMeta meta) {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		Class<?> type = meta.getEntityClass();
+		this.constructor = createConstructor(lookup, type);
+		for (ColumnMeta column : meta.getColumnList()) {
+			getterMap.put(column, createGetter(lookup, type, column));
+			setterMap.put(column, createSetter(lookup, type, column));
+		}
+	}
+	
+	/**
+	 * アクセサを取得
+	 * @param entityClass エンティティクラス
+	 */
+	public static EntityAccessor get(Class<?> entityClass) {
+		return ACCESSORS.get(entityClass);
+	}
+	
+	/**
+	 * エンティティを生成
+	 */
+	public Object newInstance() {
+		return constructor.get();
+	}
+	
+	/**
+	 * getter を取得
+	 * @param column カラム
+	 */
+	public Function<Object, Object> getGetter(ColumnMeta column) {
+		return getterMap.get(column);
+	}
+	
+	/**
+	 * setter を取得
+	 * @param column カラム
+	 */
+	public BiConsumer<Object, Object> getSetter(ColumnMeta column) {
+		return setterMap.get(column);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static Supplier<Object> createConstructor(MethodHandles.Lookup lookup, Class<?> type) {
+		Constructor<?> constructor;
+		try {
+			constructor = type.getDeclaredConstructor();
+		} catch (NoSuchMethodException e) {
+			throw new EntityException(String.format("no-arg constructor is not present. class:[%s]", type.getName()), e);
+		}
+		
+		if (isPublic(type) && Modifier.isPublic(constructor.getModifiers())) {
+			try {
+				MethodHandle handle = lookup.unreflectConstructor(constructor);
+				CallSite site = LambdaMetafactory.metafactory(lookup, 
+						"get", 
+						MethodType.methodType(Supplier.class), 
+						MethodType.methodType(Object.class), 
+						handle, 
+						MethodType.methodType(type));
+				return (Supplier<Object>) site.getTarget().invoke();
+			} catch (Throwable e) {
+				// 別のクラスローダーのクラスなど、ラムダを生成できない場合は MethodHandle を使う
+			}
+		}
+		
+		try {
+			constructor.setAccessible(true);
+			MethodHandle handle = lookup.unreflectConstructor(constructor)
+					.asType(MethodType.methodType(Object.class));
+			return () -> {
+				try {
+					return handle.invokeExact();
+				} catch (Throwable e) {
+					throw new EntityException(String.format("failed to create entity. class:[%s]", type.getName()), e);
+				}
+			};
+		} catch (IllegalAccessException | RuntimeException e) {
+			throw new EntityException(String.format("failed to access constructor. class:[%s]", type.getName()), e);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> createGetter(MethodHandles.Lookup lookup, Class<?> type, ColumnMeta column) {
+		Class<?> fieldType = column.getType();
+		if (isPublic(type)) {
+			String prefix = fieldType == boolean.class ? "is" : "get";
+			try {
+				MethodHandle handle = lookup.findVirtual(type, 
+						prefix + StringUtils.capitalize(column.getFieldName()), 
+						MethodType.methodType(fieldType));
+				CallSite site = LambdaMetafactory.metafactory(lookup, 
+						"apply", 
+						MethodType.methodType(Function.class), 
+						MethodType.methodType(Object.class, Object.class), 
+						handle, 
+						MethodType.methodType(ClassUtils.primitiveToWrapper(fieldType), type));
+				return (Function<Object, Object>) site.getTarget().invoke();
+			} catch (Throwable e) {
+				// getter がない場合はフィールドから直接取得する
+			}
+		}
+		
+		try {
+			MethodHandle handle = lookup.unreflectGetter(column.getField())
+					.asType(MethodType.methodType(Object.class, Object.class));
+			return entity -> {
+				try {
+					return handle.invokeExact(entity);
+				} catch (Throwable e) {
+					throw new EntityException(String.format("failed to get field. field:[%s]", column.getField()), e);
+				}
+			};
+		} catch (IllegalAccessException e) {
+			throw new EntityException(String.format("failed to access field. field:[%s]", column.getField()), e);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> createSetter(MethodHandles.Lookup lookup, Class<?> type, ColumnMeta column) {
+		Class<?> fieldType = column.getType();
+		if (isPublic(type)) {
+			try {
+				MethodHandle handle = lookup.findVirtual(type, 
+						"set" + StringUtils.capitalize(column.getFieldName()), 
+						MethodType.methodType(void.class, fieldType));
+				CallSite site = LambdaMetafactory.metafactory(lookup, 
+						"accept", 
+						MethodType.methodType(BiConsumer.class), 
+						MethodType.methodType(void.class, Object.class, Object.class), 
+						handle, 
+						MethodType.methodType(void.class, type, ClassUtils.primitiveToWrapper(fieldType)));
+				return (BiConsumer<Object, Object>) site.getTarget().invoke();
+			} catch (Throwable e) {
+				// setter がない場合はフィールドに直接設定する
+			}
+		}
+		
+		try {
+			MethodHandle handle = lookup.unreflectSetter(column.getField())
+					.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			return (entity, value) -> {
+				try {
+					handle.invokeExact(entity, value);
+				} catch (Throwable e) {
+					throw new EntityException(String.format("failed to set field. field:[%s]", column.getField()), e);
+				}
+			};
+		} catch (IllegalAccessException e) {
+			throw new EntityException(String.format("failed to access field. field:[%s]", column.getField()), e);
+		}
+	}
+	
+	private static boolean isPublic(Class<?> type) {
+		for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+			if (!Modifier.isPublic(c.getModifiers())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,207 @@
+package com.yoidukigembu.sql.meta;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.yoidukigembu.sql.exception.EntityException;
+
+/**
+ * エンティティのメタ情報を保持するレジストリ<br>
+ * アノテーションの解析はクラスごとに一度だけ行う。
+ *
+ */
+public class EntityMetaRegistry {
+	
+	/** クラスごとのテーブル情報 */
+	private static final ClassValue<TableMeta> META = new ClassValue<TableMeta>() {
+		@Override
+		protected TableMeta computeValue(Class<?> type) {
+			return resolve(type);
+		}
+	};
+	
+	private static final String CLASS_SUFFIX = ".class";
+
+	private EntityMetaRegistry() {}
+	
+	/**
+	 * テーブル情報を取得
+	 * @param entityClass エンティティクラス
+	 * @return テーブル情報
+	 * @throws EntityException {@link Table} が付与されていない場合
+	 */
+	public static TableMeta get(Class<?> entityClass) {
+		return META.get(entityClass);
+	}
+	
+	/**
+	 * 指定パッケージ配下の {@link Table} が付与されたクラスを事前に解析
+	 * @param packageNames パッケージ名
+	 * @return 解析したエンティティの数
+	 */
+	public static int preload(String... packageNames) {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if (loader == null) {
+			loader = EntityMetaRegistry.class.getClassLoader();
+		}
+		
+		int count = 0;
+		for (String packageName : packageNames) {
+			for (String className : findClassNames(loader, packageName)) {
+				Class<?> type;
+				try {
+					type = Class.forName(className, false, loader);
+				} catch (ClassNotFoundException | LinkageError e) {
+					continue;
+				}
+				
+				if (type.isAnnotationPresent(Table.class)) {
+					get(type);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * 指定クラスを事前に解析
+	 * @param entityClasses エンティティクラス
+	 */
+	public static void preload(Class<?>... entityClasses) {
+		for (Class<?> entityClass : entityClasses) {
+			get(entityClass);
+		}
+	}
+	
+	/**
+	 * テーブル情報の解析
+	 */
+	private static TableMeta resolve(Class<?> entityClass) {
+		Table table = entityClass.getAnnotation(Table.class);
+		if (table == null) {
+			throw new EntityException(String.format("@Table is not present. class:[%s]", entityClass.getName()));
+		}
+		
+		LinkedList<Class<?>> hierarchy = new LinkedList<>();
+		for (Class<?> c = entityClass; c != null && c != Object.class; c = c.getSuperclass()) {
+			hierarchy.addFirst(c);
+		}
+		
+		List<ColumnMeta> columnList = new ArrayList<>();
+		for (Class<?> c : hierarchy) {
+			for (Field field : c.getDeclaredFields()) {
+				resolveColumn(field).ifPresent(columnList::add);
+			}
+		}
+		
+		return new TableMeta(entityClass, table.schema(), table.name(), columnList);
+	}
+	
+	/**
+	 * カラム情報の解析
+	 */
+	private static Optional<ColumnMeta> resolveColumn(Field field) {
+		int modifiers = field.getModifiers();
+		if (Modifier.isStatic(modifiers) 
+				|| Modifier.isTransient(modifiers)
+				|| field.isAnnotationPresent(Transient.class)) {
+			return Optional.empty();
+		}
+		
+		Column column = field.getAnnotation(Column.class);
+		boolean id = field.isAnnotationPresent(Id.class);
+		if (column == null && !id) {
+			return Optional.empty();
+		}
+		
+		String name = column != null && StringUtils.isNotEmpty(column.name()) ? column.name() : field.getName();
+		field.setAccessible(true);
+		return Optional.of(new ColumnMeta(field, name, id));
+	}
+	
+	/**
+	 * パッケージ配下のクラス名を取得
+	 */
+	private static List<String> findClassNames(ClassLoader loader, String packageName) {
+		String path = packageName.replace('.', '/');
+		List<String> classNames = new ArrayList<>();
+		try {
+			Enumeration<URL> resources = loader.getResources(path);
+			while (resources.hasMoreElements()) {
+				URL url = resources.nextElement();
+				if ("file".equals(url.getProtocol())) {
+					findClassNames(new File(decode(url.getPath())), packageName, classNames);
+				} else if ("jar".equals(url.getProtocol())) {
+					findClassNames((JarURLConnection) url.openConnection(), path, classNames);
+				}
+			}
+		} catch (IOException e) {
+			throw new EntityException(String.format("failed to scan package. package:[%s]", packageName), e);
+		}
+		return classNames;
+	}
+	
+	/**
+	 * ディレクトリ配下のクラス名を取得
+	 */
+	private static void findClassNames(File dir, String packageName, List<String> classNames) {
+		File[] files = dir.listFiles();
+		if (files == null) {
+			return;
+		}
+		
+		for (File file : files) {
+			String name = file.getName();
+			if (file.isDirectory()) {
+				findClassNames(file, packageName + "." + name, classNames);
+			} else if (name.endsWith(CLASS_SUFFIX)) {
+				classNames.add(packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()));
+			}
+		}
+	}
+	
+	/**
+	 * jar内のクラス名を取得
+	 */
+	private static void findClassNames(JarURLConnection connection, String path, List<String> classNames) throws IOException {
+		connection.setUseCaches(false);
+		try (JarFile jar = connection.getJarFile()) {
+			Enumeration<JarEntry> entries = jar.entries();
+			while (entries.hasMoreElements()) {
+				String name = entries.nextElement().getName();
+				if (name.startsWith(path + "/") && name.endsWith(CLASS_SUFFIX)) {
+					classNames.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+				}
+			}
+		}
+	}
+	
+	private static String decode(String path) {
+		try {
+			return URLDecoder.decode(path, "UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			return path;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.yoidukigembu.sql.meta;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * エンティティのテーブル情報 (不変)
+ *
+ */
+public final class TableMeta {
+
+	/** エンティティクラス */
+	private final Class<?> entityClass;
+	
+	/** スキーマ */
+	private final Optional<String> schema;
+	
+	/** テーブル名 */
+	private final String name;
+	
+	/** スキーマ付きのテーブル名 */
+	private final String qualifiedName;
+	
+	/** カラムリスト */
+	private final List<ColumnMeta> columnList;
+	
+	/** 主キーのカラムリスト */
+	private final List<ColumnMeta> idList;
+	
+	/** カラム名とカラム情報のマップ */
+	private final Map<String, ColumnMeta> columnMap;
+	
+	TableMeta(Class<?> entityClass, String schema, String name, List<ColumnMeta> columnList) {
+		this.entityClass = entityClass;
+		this.schema = Optional.ofNullable(schema).filter(StringUtils::isNotBlank);
+		this.name = name;
+		this.qualifiedName = qualify(schema, name);
+		this.columnList = Collections.unmodifiableList(columnList);
+		this.idList = Collections.unmodifiableList(
+				columnList.stream().filter(ColumnMeta::isId).collect(Collectors.toList()));
+		
+		Map<String, ColumnMeta> map = new LinkedHashMap<>();
+		columnList.forEach(c -> map.put(c.getColumnName(), c));
+		this.columnMap = Collections.unmodifiableMap(map);
+	}
+	
+	/**
+	 * スキーマ付きのテーブル名を作成
+	 * @param schema スキーマ
+	 * @param name テーブル名
+	 * @return スキーマが空の場合はテーブル名のみ
+	 */
+	public static String qualify(String schema, String name) {
+		return StringUtils.isBlank(schema) ? name : schema.concat(".").concat(name);
+	}
+	
+	public Class<?> getEntityClass() {
+		return entityClass;
+	}
+	
+	public Optional<String> getSchema() {
+		return schema;
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public String getQualifiedName() {
+		return qualifiedName;
+	}
+	
+	public List<ColumnMeta> getColumnList() {
+		return columnList;
+	}
+	
+	public List<ColumnMeta> getIdList() {
+		return idList;
+	}
+	
+	/**
+	 * カラム情報を取得
+	 * @param columnName カラム名
+	 */
+	public Optional<ColumnMeta> getColumn(String columnName) {
+		return Optional.ofNullable(columnMap.get(columnName));
+	}
+	
+	@Override
+	public String toString() {
+		return ToStringBuilder.reflectionToString(this);
+	}
+}
@@ -0,0 +1,165 @@
+package com.yoidukigembu.sql.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 対数線形のヒストグラム<br>
+ * 2 のべき乗の区間をそれぞれ {@value #SUB_BUCKETS} 個に等分したバケットで数え、
+ * 相対誤差 12.5% 以内で任意のパーセンタイルを求める。
+ * 値の範囲によらずバケット数は固定で、記録はロックを使わない。
+ *
+ */
+public final class Histogram {
+
+	/** 区間あたりのバケット数のビット数 */
+	private static final int SUB_BUCKET_BITS = 3;
+
+	/** 区間あたりのバケット数 */
+	public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	/** バケット数 (0 から Long.MAX_VALUE まで) */
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	/** バケットごとの件数 */
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+	/** 件数 */
+	private final LongAdder count = new LongAdder();
+
+	/** 合計 */
+	private final LongAdder sum = new LongAdder();
+
+	/** 最大値 */
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * 値を記録
+	 * @param value 値 (負の値は 0 として扱う)
+	 */
+	public void record(long value) {
+		long v = Math.max(value, 0);
+		buckets.incrementAndGet(index(v));
+		count.increment();
+		sum.add(v);
+
+		long current = max.get();
+		while (v > current && !max.compareAndSet(current, v)) {
+			current = max.get();
+		}
+	}
+
+	/**
+	 * 記録した値の集計を取得
+	 */
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = buckets.get(i);
+		}
+		return new Snapshot(counts, count.sum(), sum.sum(), max.get());
+	}
+
+	/**
+	 * 値のバケット位置
+	 */
+	static int index(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * バケットの上限値
+	 */
+	static long upperBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long sub = index % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return ((SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+	}
+
+	/**
+	 * ヒストグラムの集計 (不変)
+	 */
+	public static final class Snapshot {
+
+		/** バケットごとの件数 */
+		private final long[] counts;
+
+		/** 件数 */
+		private final long count;
+
+		/** 合計 */
+		private final long sum;
+
+		/** 最大値 */
+		private final long max;
+
+		private Snapshot(long[] counts, long count, long sum, long max) {
+			this.counts = counts;
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getSum() {
+			return sum;
+		}
+
+		public long getMax() {
+			return max;
+		}
+
+		public double getMean() {
+			return count == 0 ? 0 : (double) sum / count;
+		}
+
+		/**
+		 * パーセンタイルの値を取得
+		 * @param percentile パーセンタイル (0 から 100)
+		 * @return 値 (バケットの上限値。最大値を超えない)
+		 */
+		public long getValueAtPercentile(double percentile) {
+			if (percentile < 0 || percentile > 100) {
+				throw new IllegalArgumentException(String.format("percentile must be between 0 and 100. percentile:[%s]", percentile));
+			}
+
+			// バケットの件数の合計は同時に記録された分だけ count とずれるため、バケット側で数える
+			long total = 0;
+			for (long c : counts) {
+				total += c;
+			}
+			if (total == 0) {
+				return 0;
+			}
+
+			long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return Math.min(upperBound(i), max);
+				}
+			}
+			return max;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Histogram[count=%d, mean=%.1f, p50=%d, p99=%d, max=%d]",
+					count, getMean(), getValueAtPercentile(50), getValueAtPercentile(99), max);
+		}
+	}
+}
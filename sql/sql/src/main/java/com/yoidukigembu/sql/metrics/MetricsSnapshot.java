@@ -0,0 +1,151 @@
+package com.yoidukigembu.sql.metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import com.yoidukigembu.sql.enums.QueryKind;
+
+/**
+ * 全形状のメトリクスの集計 (不変)<br>
+ * 形状は合計の実行時間が長い順に並ぶ。
+ *
+ */
+public final class MetricsSnapshot {
+
+	/** 出力の見出し */
+	private static final String HEADER = "fingerprint\tkind\texecutions\terrors\ttotal_ms\tmean_ms\tp50_ms\tp99_ms\tmax_ms"
+			+ "\tbuild_mean_us\trows_mean\trows_max\tsql";
+
+	/** 形状ごとの集計 */
+	private final List<ShapeMetrics.Snapshot> shapeList;
+
+	/** 最大形状数を超えたため記録しなかった数 */
+	private final long droppedCount;
+
+	MetricsSnapshot(List<ShapeMetrics.Snapshot> shapeList, long droppedCount) {
+		List<ShapeMetrics.Snapshot> list = new ArrayList<>(shapeList);
+		list.sort(Comparator.comparingLong((ShapeMetrics.Snapshot s) -> s.getExecutionTime().getSum()).reversed());
+		this.shapeList = Collections.unmodifiableList(list);
+		this.droppedCount = droppedCount;
+	}
+
+	/**
+	 * 形状ごとの集計を取得 (合計の実行時間が長い順)
+	 */
+	public List<ShapeMetrics.Snapshot> getShapeList() {
+		return shapeList;
+	}
+
+	/**
+	 * フィンガープリントで形状の集計を取得<br>
+	 * 同じ形状の SELECT と COUNT はフィンガープリントが同じため、種類を区別する場合は
+	 * {@link #getShape(QueryKind, long)} を使う。
+	 * @return 複数ある場合は合計の実行時間が最も長いもの
+	 */
+	public Optional<ShapeMetrics.Snapshot> getShape(long fingerprint) {
+		return shapeList.stream()
+				.filter(s -> s.getFingerprint() == fingerprint)
+				.findFirst();
+	}
+
+	/**
+	 * クエリの種類とフィンガープリントで形状の集計を取得
+	 * @param kind クエリの種類
+	 * @param fingerprint {@link com.yoidukigembu.sql.cache.QueryShape#getFingerprint()}
+	 */
+	public Optional<ShapeMetrics.Snapshot> getShape(QueryKind kind, long fingerprint) {
+		return shapeList.stream()
+				.filter(s -> s.getKind() == kind && s.getFingerprint() == fingerprint)
+				.findFirst();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount;
+	}
+
+	/**
+	 * 実行数のうち件数取得 (COUNT) の割合
+	 * @return 0 から 1。実行がない場合は 0
+	 */
+	public double getCountQueryShare() {
+		long total = 0;
+		long count = 0;
+		for (ShapeMetrics.Snapshot shape : shapeList) {
+			total += shape.getExecutionCount();
+			if (shape.getKind() == QueryKind.COUNT) {
+				count += shape.getExecutionCount();
+			}
+		}
+		return total == 0 ? 0 : (double) count / total;
+	}
+
+	/**
+	 * 実行時間のうち件数取得 (COUNT) の割合
+	 * @return 0 から 1。実行がない場合は 0
+	 */
+	public double getCountTimeShare() {
+		long total = 0;
+		long count = 0;
+		for (ShapeMetrics.Snapshot shape : shapeList) {
+			total += shape.getExecutionTime().getSum();
+			if (shape.getKind() == QueryKind.COUNT) {
+				count += shape.getExecutionTime().getSum();
+			}
+		}
+		return total == 0 ? 0 : (double) count / total;
+	}
+
+	/**
+	 * タブ区切りで出力 (1行目は見出し、以降は形状ごとに1行)
+	 * @param out 出力先
+	 */
+	public void export(Appendable out) throws IOException {
+		out.append(HEADER).append('\n');
+		for (ShapeMetrics.Snapshot shape : shapeList) {
+			Histogram.Snapshot execution = shape.getExecutionTime();
+			out.append(shape.getFingerprintHex()).append('\t')
+				.append(shape.getKind().name()).append('\t')
+				.append(String.valueOf(shape.getExecutionCount())).append('\t')
+				.append(String.valueOf(shape.getErrorCount())).append('\t')
+				.append(millis(execution.getSum())).append('\t')
+				.append(millis(execution.getMean())).append('\t')
+				.append(millis(execution.getValueAtPercentile(50))).append('\t')
+				.append(millis(execution.getValueAtPercentile(99))).append('\t')
+				.append(millis(execution.getMax())).append('\t')
+				.append(String.format("%.1f", shape.getBuildTime().getMean() / 1000)).append('\t')
+				.append(String.format("%.1f", shape.getRows().getMean())).append('\t')
+				.append(String.valueOf(shape.getRows().getMax())).append('\t')
+				.append(shape.getTemplate().replace('\t', ' ').replace('\n', ' '))
+				.append('\n');
+		}
+	}
+
+	/**
+	 * タブ区切りの文字列を取得
+	 * @see #export(Appendable)
+	 */
+	public String export() {
+		StringBuilder sb = new StringBuilder(HEADER.length() * (shapeList.size() + 1) * 2);
+		try {
+			export(sb);
+		} catch (IOException e) {
+			// StringBuilder では発生しない
+			throw new IllegalStateException(e);
+		}
+		return sb.toString();
+	}
+
+	private static String millis(double nanos) {
+		return String.format("%.3f", nanos / 1_000_000);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("MetricsSnapshot[shapes=%d, dropped=%d, countShare=%.3f]",
+				shapeList.size(), droppedCount, getCountQueryShare());
+	}
+}
@@ -0,0 +1,143 @@
+package com.yoidukigembu.sql.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.enums.QueryKind;
+
+/**
+ * クエリ形状ごとのメトリクスの登録先<br>
+ * 形状はクエリの種類と {@link QueryShape} で区別し、{@link QueryShape#getFingerprint()} で識別する。
+ * {@link com.yoidukigembu.sql.select.Select#shape()} / {@link com.yoidukigembu.sql.where.Where#shape()} の
+ * フィンガープリントと同じ値のため、JFR のイベントや呼び出し元の形状と突き合わせられる。<br>
+ * デフォルトでは無効で、無効の場合は時刻の取得も行わない。
+ *
+ */
+public class QueryMetrics {
+
+	/** デフォルトの最大形状数 */
+	public static final int DEFAULT_MAX_SHAPES = 1024;
+
+	/** デフォルトのメトリクス */
+	private static final QueryMetrics DEFAULT = new QueryMetrics(DEFAULT_MAX_SHAPES);
+
+	/** 形状ごとのメトリクス */
+	private final ConcurrentMap<ShapeKey, ShapeMetrics> shapeMap = new ConcurrentHashMap<>();
+
+	/** 最大形状数 */
+	private volatile int maxShapes;
+
+	/** 有効フラグ */
+	private volatile boolean enabled = false;
+
+	/** 最大形状数を超えたため記録しなかった数 */
+	private final LongAdder droppedCount = new LongAdder();
+
+	public QueryMetrics(int maxShapes) {
+		setMaxShapes(maxShapes);
+	}
+
+	/**
+	 * デフォルトのメトリクスを取得
+	 */
+	public static QueryMetrics getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * 形状のメトリクスを取得
+	 * @param kind クエリの種類
+	 * @param shape 形状
+	 * @param template limit / offset の値を除いたSQL文 (形状を初めて記録する場合のみ保持する)
+	 * @return メトリクス。最大形状数を超えた場合は null
+	 */
+	public ShapeMetrics get(QueryKind kind, QueryShape shape, String template) {
+		ShapeKey key = new ShapeKey(kind, shape);
+		ShapeMetrics metrics = shapeMap.get(key);
+		if (metrics != null) {
+			return metrics;
+		}
+
+		if (shapeMap.size() >= maxShapes) {
+			droppedCount.increment();
+			return null;
+		}
+		return shapeMap.computeIfAbsent(key, k -> new ShapeMetrics(shape.getFingerprint(), kind, template));
+	}
+
+	/**
+	 * 全形状の集計を取得
+	 */
+	public MetricsSnapshot snapshot() {
+		List<ShapeMetrics.Snapshot> list = new ArrayList<>(shapeMap.size());
+		for (ShapeMetrics metrics : shapeMap.values()) {
+			list.add(metrics.snapshot());
+		}
+		return new MetricsSnapshot(list, droppedCount.sum());
+	}
+
+	/**
+	 * 記録をクリア
+	 */
+	public void reset() {
+		shapeMap.clear();
+		droppedCount.reset();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxShapes() {
+		return maxShapes;
+	}
+
+	/**
+	 * 最大形状数を設定<br>
+	 * 超えた場合、新しい形状は記録しない。
+	 */
+	public void setMaxShapes(int maxShapes) {
+		if (maxShapes < 1) {
+			throw new IllegalArgumentException(String.format("maxShapes must be positive. maxShapes:[%d]", maxShapes));
+		}
+		this.maxShapes = maxShapes;
+	}
+
+	/**
+	 * 形状のキー
+	 */
+	private static final class ShapeKey {
+		private final QueryKind kind;
+		private final QueryShape shape;
+
+		private ShapeKey(QueryKind kind, QueryShape shape) {
+			this.kind = kind;
+			this.shape = shape;
+		}
+
+		@Override
+		public int hashCode() {
+			return kind.ordinal() * 31 + shape.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ShapeKey)) {
+				return false;
+			}
+			ShapeKey other = (ShapeKey) obj;
+			return kind == other.kind && shape.equals(other.shape);
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package com.yoidukigembu.sql.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.yoidukigembu.sql.enums.QueryKind;
+
+/**
+ * クエリ形状ごとのメトリクス<br>
+ * SQL文の生成時間、実行時間 (ナノ秒)、取得行数を記録する。
+ *
+ */
+public final class ShapeMetrics {
+
+	/** 形状のフィンガープリント */
+	private final long fingerprint;
+
+	/** クエリの種類 */
+	private final QueryKind kind;
+
+	/** limit / offset の値を除いたSQL文 (形状を初めて記録した時のもの) */
+	private final String template;
+
+	/** SQL文の生成時間 */
+	private final Histogram buildTime = new Histogram();
+
+	/** 実行時間 (行の変換を含む) */
+	private final Histogram executionTime = new Histogram();
+
+	/** 取得行数 */
+	private final Histogram rows = new Histogram();
+
+	/** 実行に失敗した数 */
+	private final LongAdder errorCount = new LongAdder();
+
+	ShapeMetrics(long fingerprint, QueryKind kind, String template) {
+		this.fingerprint = fingerprint;
+		this.kind = kind;
+		this.template = template;
+	}
+
+	/**
+	 * SQL文の生成時間を記録
+	 * @param nanos ナノ秒
+	 */
+	public void recordBuild(long nanos) {
+		buildTime.record(nanos);
+	}
+
+	/**
+	 * 実行を記録
+	 * @param nanos 実行時間 (ナノ秒)
+	 * @param rowCount 取得行数
+	 */
+	public void recordExecution(long nanos, long rowCount) {
+		executionTime.record(nanos);
+		rows.record(rowCount);
+	}
+
+	/**
+	 * 実行の失敗を記録
+	 */
+	public void recordError() {
+		errorCount.increment();
+	}
+
+	public long getFingerprint() {
+		return fingerprint;
+	}
+
+	public QueryKind getKind() {
+		return kind;
+	}
+
+	public String getTemplate() {
+		return template;
+	}
+
+	/**
+	 * 集計を取得
+	 */
+	public Snapshot snapshot() {
+		return new Snapshot(this);
+	}
+
+	/**
+	 * クエリ形状ごとの集計 (不変)
+	 */
+	public static final class Snapshot {
+
+		private final long fingerprint;
+
+		private final QueryKind kind;
+
+		private final String template;
+
+		private final Histogram.Snapshot buildTime;
+
+		private final Histogram.Snapshot executionTime;
+
+		private final Histogram.Snapshot rows;
+
+		private final long errorCount;
+
+		private Snapshot(ShapeMetrics metrics) {
+			this.fingerprint = metrics.fingerprint;
+			this.kind = metrics.kind;
+			this.template = metrics.template;
+			this.buildTime = metrics.buildTime.snapshot();
+			this.executionTime = metrics.executionTime.snapshot();
+			this.rows = metrics.rows.snapshot();
+			this.errorCount = metrics.errorCount.sum();
+		}
+
+		public long getFingerprint() {
+			return fingerprint;
+		}
+
+		/**
+		 * フィンガープリントの16進数表記
+		 */
+		public String getFingerprintHex() {
+			return String.format("%016x", fingerprint);
+		}
+
+		public QueryKind getKind() {
+			return kind;
+		}
+
+		public String getTemplate() {
+			return template;
+		}
+
+		public Histogram.Snapshot getBuildTime() {
+			return buildTime;
+		}
+
+		public Histogram.Snapshot getExecutionTime() {
+			return executionTime;
+		}
+
+		public Histogram.Snapshot getRows() {
+			return rows;
+		}
+
+		/**
+		 * 実行数 (失敗を除く)
+		 */
+		public long getExecutionCount() {
+			return executionTime.getCount();
+		}
+
+		public long getErrorCount() {
+			return errorCount;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("ShapeMetrics[%s %s executions=%d errors=%d execution=%s rows=%s sql=%s]",
+					getFingerprintHex(), kind, getExecutionCount(), errorCount, executionTime, rows, template);
+		}
+	}
+}
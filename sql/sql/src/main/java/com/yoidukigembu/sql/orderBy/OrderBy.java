@@ -1,11 +1,10 @@
 package com.yoidukigembu.sql.orderBy;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import com.yoidukigembu.sql.enums.OrderType;
-import com.yoidukigembu.sql.util.SqlUtil;
 
 /**
  * ORDER BY
@@ -14,8 +13,11 @@ import com.yoidukigembu.sql.util.SqlUtil;
  */
 public class OrderBy {
 
+	/** カラム1つあたりのおおよその文字数 (StringBuilder の初期容量) */
+	private static final int ESTIMATED_ORDER_LENGTH = 16;
+	
 	/** ORDER BY のリスト */
-	private List<OrderHolder> orderList = new ArrayList<>();
+	private List<OrderByInfo> orderList = new ArrayList<>();
 	
 	public OrderBy() {
 	}
@@ -29,6 +31,7 @@ public class OrderBy {
 	}
 	
 	public OrderBy(String alias, String column, OrderType orderType) {
+		add(alias, column, orderType);
 	}
 	
 	/**
@@ -71,55 +74,49 @@ public class OrderBy {
 	 * ORDER BY を追加
 	 */
 	private OrderBy add(String alias, String column, OrderType type) {
-		orderList.add(new OrderHolder(alias, column, type));
+		orderList.add(new OrderByInfo(alias, column, type));
 		return this;
 	}
 	
 	/**
-	 * ORDER BY の条件を保持するクラス
-	 * @author hilo
-	 *
+	 * ORDER BY の文字列を取得
 	 */
-	private class OrderHolder {
-		/** カラム名 */
-		private final String column;
-		
-		/** ORDER BY のタイプ */
-		private final OrderType type;
-		
-		private final Optional<String> alias;
-		
-		private OrderHolder(String column, OrderType type) {
-			this(null, column, type);
-		}
-		private OrderHolder(String alias, String column, OrderType type) {
-			this.column = column;
-			this.type = type;
-			this.alias = Optional.ofNullable(alias);
-		}
-		
-		@Override
-		public String toString() {
-			return String.format("%s %s",
-					SqlUtil.alias(alias, column), type.getValue());
-		}
-		
+	public CharSequence getOrder() {
+		return appendTo(new StringBuilder(orderList.size() * ESTIMATED_ORDER_LENGTH));
 	}
 	
 	/**
-	 * ORDER BY の文字列を取得
+	 * ORDER BY の文字列を追加先に直接追加
+	 * @param sb 追加先
+	 * @return 追加先
 	 */
-	public CharSequence getOrder() {
-		StringBuilder sb = new StringBuilder();
+	public StringBuilder appendTo(StringBuilder sb) {
+		return appendTo(sb, orderList);
+	}
+	
+	/**
+	 * ORDER BY の文字列を追加先に直接追加
+	 * @param sb 追加先
+	 * @param orderList ORDER BY のカラムのリスト
+	 * @return 追加先
+	 */
+	public static StringBuilder appendTo(StringBuilder sb, List<OrderByInfo> orderList) {
 		int index = 0;
-		for (OrderHolder order : this.orderList) {
+		for (OrderByInfo order : orderList) {
 			if (index++ > 0) {
 				sb.append(", ");
 			}
-			sb.append(order.toString());
+			order.appendTo(sb);
 		}
-		
 		return sb;
 	}
+	
+	/**
+	 * ORDER BY のカラムのリストを取得
+	 * @return 変更できないリスト
+	 */
+	public List<OrderByInfo> getOrderList() {
+		return Collections.unmodifiableList(orderList);
+	}
 
 }
@@ -1,5 +1,63 @@
 package com.yoidukigembu.sql.orderBy;
 
-public class OrderByInfo {
+import java.util.Optional;
 
+import com.yoidukigembu.sql.enums.OrderType;
+import com.yoidukigembu.sql.util.SqlUtil;
+
+/**
+ * ORDER BY の1カラム分の情報 (不変)
+ *
+ */
+public final class OrderByInfo {
+
+	/** エイリアス */
+	private final Optional<String> alias;
+	
+	/** カラム名 */
+	private final String column;
+	
+	/** ORDER BY のタイプ */
+	private final OrderType type;
+	
+	OrderByInfo(String alias, String column, OrderType type) {
+		this.alias = Optional.ofNullable(alias);
+		this.column = column;
+		this.type = type;
+	}
+	
+	public Optional<String> getAlias() {
+		return alias;
+	}
+	
+	public String getColumn() {
+		return column;
+	}
+	
+	public OrderType getType() {
+		return type;
+	}
+	
+	/**
+	 * エイリアスがついたカラム名を取得
+	 */
+	public String getAliasColumn() {
+		return SqlUtil.alias(alias, column);
+	}
+	
+	/**
+	 * ORDER BY の文字列を追加
+	 */
+	void appendTo(StringBuilder sb) {
+		SqlUtil.appendAlias(sb, alias.orElse(null), column)
+			.append(' ')
+			.append(type.getValue());
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		appendTo(sb);
+		return sb.toString();
+	}
 }
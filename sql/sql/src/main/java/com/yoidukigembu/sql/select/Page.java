@@ -0,0 +1,58 @@
+package com.yoidukigembu.sql.select;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ページング結果 (1ページ分の行と全体の件数)
+ *
+ */
+public final class Page<T> {
+
+	/** ページの行 */
+	private final List<T> content;
+
+	/** 全体の件数 */
+	private final long total;
+
+	/** offset */
+	private final int offset;
+
+	/** limit */
+	private final int limit;
+
+	public Page(List<T> content, long total, int offset, int limit) {
+		this.content = Collections.unmodifiableList(content);
+		this.total = total;
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * 次のページがあるかどうか
+	 */
+	public boolean hasNext() {
+		return offset + content.size() < total;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Page[offset=%d, limit=%d, size=%d, total=%d]", offset, limit, content.size(), total);
+	}
+}
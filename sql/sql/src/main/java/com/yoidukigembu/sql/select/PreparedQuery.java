@@ -0,0 +1,182 @@
+package com.yoidukigembu.sql.select;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import com.yoidukigembu.sql.exception.SelectException;
+import com.yoidukigembu.sql.jdbc.JdbcSession;
+import com.yoidukigembu.sql.jdbc.QueryExecutor;
+import com.yoidukigembu.sql.jdbc.RowMapper;
+import com.yoidukigembu.sql.select.Select.QueryGenerator;
+import com.yoidukigembu.sql.where.Param;
+
+/**
+ * SQL文を生成済みのセレクト<br>
+ * {@link Param} を指定した箇所の値のみを bind で指定する。
+ * SQL文の生成は作成時の1回のみで、bind は値の配列を埋めるだけのため、
+ * static final などで共有して複数のスレッドから使用できる。
+ *
+ */
+public final class PreparedQuery<T> {
+
+	/** SQL文 */
+	private final String sql;
+
+	/** 値の配列 (パラメータの箇所は null) */
+	private final Object[] values;
+
+	/** パラメータの位置 */
+	private final int[] paramIndexes;
+
+	/** パラメータ (paramIndexes と同じ順) */
+	private final Param[] params;
+
+	/** エンティティへの変換 */
+	private final Supplier<RowMapper<T>> mapper;
+
+	public PreparedQuery(String sql, List<Object> values, Supplier<RowMapper<T>> mapper) {
+		this.sql = sql;
+		this.values = values.toArray();
+		this.mapper = mapper;
+
+		List<Integer> indexList = new ArrayList<>();
+		for (int i = 0; i < this.values.length; i++) {
+			if (this.values[i] instanceof Param) {
+				indexList.add(i);
+			}
+		}
+
+		this.paramIndexes = new int[indexList.size()];
+		this.params = new Param[indexList.size()];
+		for (int i = 0; i < paramIndexes.length; i++) {
+			paramIndexes[i] = indexList.get(i);
+			params[i] = (Param) this.values[paramIndexes[i]];
+			this.values[paramIndexes[i]] = null;
+		}
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * 名前付きパラメータの値を指定
+	 * @param values 名前と値のマップ
+	 * @return 値を指定したクエリ
+	 */
+	public Bound<T> bind(Map<String, ?> values) {
+		Object[] array = this.values.clone();
+		for (int i = 0; i < paramIndexes.length; i++) {
+			Param param = params[i];
+			String name = param.getName().orElseThrow(() ->
+					new SelectException(String.format("positional param requires bind(Object...). param:[%s] sql:[%s]", param, sql)));
+			if (!values.containsKey(name)) {
+				throw new SelectException(String.format("param is not bound. param:[%s] sql:[%s]", param, sql));
+			}
+			array[paramIndexes[i]] = convert(param, values.get(name));
+		}
+		return new Bound<>(sql, array, mapper);
+	}
+
+	/**
+	 * 位置指定パラメータの値を指定
+	 * @param values {@link Param#param(int)} の位置の順の値
+	 * @return 値を指定したクエリ
+	 */
+	public Bound<T> bind(Object... values) {
+		Object[] array = this.values.clone();
+		for (int i = 0; i < paramIndexes.length; i++) {
+			Param param = params[i];
+			if (param.isNamed()) {
+				throw new SelectException(String.format("named param requires bind(Map). param:[%s] sql:[%s]", param, sql));
+			}
+			if (param.getIndex() >= values.length) {
+				throw new SelectException(String.format("param is not bound. param:[%s] sql:[%s]", param, sql));
+			}
+			array[paramIndexes[i]] = convert(param, values[param.getIndex()]);
+		}
+		return new Bound<>(sql, array, mapper);
+	}
+
+	private Object convert(Param param, Object value) {
+		if (value == null) {
+			throw new SelectException(String.format("param value must not be NULL. param:[%s] sql:[%s]", param, sql));
+		}
+		return param.convert(value);
+	}
+
+	/**
+	 * 値を指定したクエリ
+	 */
+	public static final class Bound<T> {
+
+		/** SQL文 */
+		private final String sql;
+
+		/** 値リスト */
+		private final List<Object> params;
+
+		/** エンティティへの変換 */
+		private final Supplier<RowMapper<T>> mapper;
+
+		private Bound(String sql, Object[] params, Supplier<RowMapper<T>> mapper) {
+			this.sql = sql;
+			this.params = Collections.unmodifiableList(Arrays.asList(params));
+			this.mapper = mapper;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public List<Object> getParams() {
+			return params;
+		}
+
+		/**
+		 * SQL文と値リストを処理
+		 */
+		public <RESULT> RESULT generate(QueryGenerator<RESULT> generator) {
+			return generator.generate(sql, params);
+		}
+
+		/**
+		 * 全行をエンティティで取得
+		 */
+		public List<T> list(DataSource dataSource) {
+			try (JdbcSession session = new JdbcSession(dataSource)) {
+				return list(session, mapper.get());
+			}
+		}
+
+		/**
+		 * 全行を取得
+		 */
+		public <R> List<R> list(JdbcSession session, RowMapper<R> mapper) {
+			return QueryExecutor.list(session, sql, params, mapper);
+		}
+
+		/**
+		 * 1行をエンティティで取得
+		 */
+		public Optional<T> one(DataSource dataSource) {
+			try (JdbcSession session = new JdbcSession(dataSource)) {
+				return one(session, mapper.get());
+			}
+		}
+
+		/**
+		 * 1行を取得
+		 */
+		public <R> Optional<R> one(JdbcSession session, RowMapper<R> mapper) {
+			return QueryExecutor.one(session, sql, params, mapper);
+		}
+	}
+}
@@ -1,12 +1,23 @@
 package com.yoidukigembu.sql.select;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
-import javax.persistence.Table;
+import javax.sql.DataSource;
 
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.dialect.Dialect;
+import com.yoidukigembu.sql.jdbc.JdbcSession;
+import com.yoidukigembu.sql.jdbc.QueryExecutor;
+import com.yoidukigembu.sql.jdbc.ResultStream;
+import com.yoidukigembu.sql.jdbc.RowMapper;
+import com.yoidukigembu.sql.meta.EntityMetaRegistry;
 import com.yoidukigembu.sql.orderBy.OrderBy;
 import com.yoidukigembu.sql.select.impl.SelectImpl;
+import com.yoidukigembu.sql.util.SqlUtil;
 import com.yoidukigembu.sql.where.Where;
 
 /**
@@ -21,8 +32,7 @@ public interface Select<T> {
 	}
 	
 	public static <T> Select<T> from(Class<T> entityClass, String alias) {
-		Table table = entityClass.getAnnotation(Table.class);
-		return new SelectImpl<>(table.schema(), alias, table.name());
+		return new SelectImpl<>(EntityMetaRegistry.get(entityClass), alias);
 	}
 	
 	
@@ -72,10 +82,59 @@ public interface Select<T> {
 	 * ORDER BYを指定
 	 */
 	public Select<T> orderBy(CharSequence orderBy);
+
+	/**
+	 * キーセット (シーク) 方式のページングを指定<br>
+	 * 前ページ最終行の ORDER BY カラムの値を ORDER BY と同じ順に指定すると、
+	 * その行より後ろの行のみを検索する条件を WHERE に追加する。
+	 * offset と異なり読み飛ばす行を走査しないため、深いページでも性能が落ちない。<br>
+	 * {@link #orderBy(OrderBy)} で ORDER BY を指定している必要がある。
+	 * @param lastRowValues 前ページ最終行の ORDER BY カラムの値
+	 */
+	public Select<T> after(Object... lastRowValues);
+
+	/**
+	 * キーセット (シーク) 方式のページングを指定
+	 * @see #after(Object...)
+	 */
+	public Select<T> after(List<?> lastRowValues);
+
+	/**
+	 * ダイアレクトを指定<br>
+	 * limit / offset と IN / NOT IN の生成方法が変わる。未指定の場合は {@link Dialect#getDefault()}。
+	 * @param dialect ダイアレクト
+	 */
+	public Select<T> dialect(Dialect dialect);
+
+	/**
+	 * 値を除いたクエリの構造 (形状) を取得<br>
+	 * テーブル、エイリアス、カラム、WHERE の形状、GROUP BY、ORDER BY、キーセットの値の数、
+	 * limit / offset の有無で決まり、値やダイアレクトには依存しない。
+	 * SQL文を生成せずに、キャッシュやメトリクス、ログのキーとして使える。
+	 * @return 形状
+	 * @see Where#shape()
+	 */
+	public QueryShape shape();
+
+	/**
+	 * 不変なセレクトを取得<br>
+	 * 不変なセレクトの指定メソッドは自身を変更せず、変更したコピーを返す。
+	 * WHERE は {@link com.yoidukigembu.sql.where.ImmutableWhere} に変換し、
+	 * カラムリストなどは変更されないようにコピーする。
+	 * SQL文の生成は呼び出しごとの状態を持たないため、
+	 * static final などで共有したセレクトを複数のスレッドから使用し、リクエストごとに条件を変えて派生できる。
+	 * @return 不変なセレクト (すでに不変の場合は自身)
+	 */
+	public Select<T> freeze();
 	
+	/**
+	 * 不変なセレクトかどうか
+	 * @see #freeze()
+	 */
+	public boolean isFrozen();
+
 	public default String alias(Optional<String> alias, String column) {
-		return alias.map(a -> String.format("%s.%s", a, column))
-				.orElse(column);
+		return SqlUtil.alias(alias, column);
 	}
 	
 	/**
@@ -84,11 +143,246 @@ public interface Select<T> {
 	public <RESULT> RESULT generate(QueryGenerator<RESULT> generator);
 	
 	/**
-	 * カウント用SQL文を生成
+	 * SQL文を追加先に直接生成<br>
+	 * テンプレートキャッシュにある場合は、キャッシュのSQL文をそのまま追加し、値のみを集める。
+	 * 追加先と値リストを呼び出し側で再利用すれば (setLength(0) / clear())、
+	 * 生成ごとに StringBuilder や値リストを作らずに済む。
+	 * 容量は同じ形状の前回の生成結果の大きさで確保する。
+	 * @param sql SQL文の追加先
+	 * @param params 値の追加先
+	 */
+	public void renderTo(StringBuilder sql, List<Object> params);
+	
+	/**
+	 * SQL文を追加先に直接生成
+	 * @param out SQL文の追加先
+	 * @param params 値の追加先
+	 * @throws IOException 追加先への出力に失敗した場合
+	 * @see #renderTo(StringBuilder, List)
+	 */
+	public void renderTo(Appendable out, List<Object> params) throws IOException;
+	
+	/**
+	 * SQL文を生成済みのセレクトを作成<br>
+	 * WHERE の値に {@link com.yoidukigembu.sql.where.Param} を指定すると、
+	 * その箇所の値は {@link PreparedQuery#bind(java.util.Map)} / {@link PreparedQuery#bind(Object...)} で指定する。
+	 * SQL文の生成はこの呼び出しの1回のみ。
+	 * @return SQL文を生成済みのセレクト
+	 */
+	public default PreparedQuery<T> prepare() {
+		return generate((sql, params) -> new PreparedQuery<>(sql, params, this::mapper));
+	}
+	
+	/**
+	 * SQL文を生成 (複数のSQL文に分割)<br>
+	 * WHERE が {@link com.yoidukigembu.sql.where.InChunking#splitStatements(int)} で
+	 * 上限を超える IN を持つ場合、IN の値を分割した SQL 文ごとに generator を呼び出す。
+	 * 結果はストリームを消費した時点で順に生成されるため、連結して利用する。<br>
+	 * GROUP BY / ORDER BY / limit / offset、集約関数・DISTINCT のカラムを指定している場合は
+	 * 連結した結果が1つのSQL文と異なるため分割しない。
+	 * @param generator SQL文ごとの処理
+	 * @return SQL文ごとの結果
+	 */
+	public <RESULT> Stream<RESULT> generateEach(QueryGenerator<RESULT> generator);
+	
+	/**
+	 * カウント用SQL文を生成<br>
+	 * ORDER BY / limit / offset / キーセット条件を除いた
+	 * SELECT COUNT(*) FROM テーブル WHERE ... を生成する。
+	 * GROUP BY を指定している場合はグループ数を派生テーブルで数える。
+	 * 集約関数・DISTINCT のカラムを指定している場合は、SELECT カラムごと派生テーブルにして結果の行数を数える。
 	 * @param generator
 	 */
 	public Long generateCount(QueryGenerator<Long> generator);
 	
+	/**
+	 * エンティティへの変換を取得<br>
+	 * セレクトするカラムのリストごとに作成し、キャッシュする。
+	 * @return エンティティへの RowMapper
+	 */
+	public RowMapper<T> mapper();
+	
+	/**
+	 * 全行をエンティティで取得
+	 * @param dataSource DataSource
+	 * @return エンティティのリスト
+	 */
+	public default List<T> list(DataSource dataSource) {
+		return list(dataSource, mapper());
+	}
+	
+	/**
+	 * 全行を取得
+	 * @param dataSource DataSource
+	 * @param mapper 行の変換
+	 * @return 変換した行のリスト
+	 */
+	public default <R> List<R> list(DataSource dataSource, RowMapper<R> mapper) {
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			return list(session, mapper);
+		}
+	}
+	
+	/**
+	 * 全行を取得
+	 * @param session セッション
+	 * @param mapper 行の変換
+	 * @return 変換した行のリスト
+	 */
+	public default <R> List<R> list(JdbcSession session, RowMapper<R> mapper) {
+		return generate((sql, params) -> QueryExecutor.list(session, sql, params, mapper));
+	}
+	
+	/**
+	 * 結果をエンティティのストリームで取得 (フェッチサイズは {@link ResultStream#DEFAULT_FETCH_SIZE})
+	 * @param dataSource DataSource
+	 * @return エンティティのストリーム。使用後は必ず閉じること
+	 */
+	public default Stream<T> stream(DataSource dataSource) {
+		return stream(dataSource, mapper());
+	}
+	
+	/**
+	 * 結果をストリームで取得 (フェッチサイズは {@link ResultStream#DEFAULT_FETCH_SIZE})
+	 * @param dataSource DataSource
+	 * @param mapper 行の変換
+	 * @return 結果のストリーム。使用後は必ず閉じること
+	 */
+	public default <R> Stream<R> stream(DataSource dataSource, RowMapper<R> mapper) {
+		return stream(dataSource, mapper, ResultStream.DEFAULT_FETCH_SIZE);
+	}
+	
+	/**
+	 * 結果をストリームで取得<br>
+	 * 前方参照のみ・読み取り専用のカーソルで、読み進めた分だけ取得する。
+	 * ストリームを閉じるとコネクションも閉じる。
+	 * @param dataSource DataSource
+	 * @param mapper 行の変換
+	 * @param fetchSize フェッチサイズ
+	 * @return 結果のストリーム。使用後は必ず閉じること
+	 */
+	public default <R> Stream<R> stream(DataSource dataSource, RowMapper<R> mapper, int fetchSize) {
+		return generate((sql, params) -> ResultStream.open(dataSource, sql, params, mapper, fetchSize));
+	}
+	
+	/**
+	 * 1行をエンティティで取得
+	 * @param dataSource DataSource
+	 * @return エンティティ。0件の場合は空
+	 */
+	public default Optional<T> one(DataSource dataSource) {
+		return one(dataSource, mapper());
+	}
+	
+	/**
+	 * 1行を取得
+	 * @param dataSource DataSource
+	 * @param mapper 行の変換
+	 * @return 変換した行。0件の場合は空
+	 */
+	public default <R> Optional<R> one(DataSource dataSource, RowMapper<R> mapper) {
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			return one(session, mapper);
+		}
+	}
+	
+	/**
+	 * 1行を取得
+	 * @param session セッション
+	 * @param mapper 行の変換
+	 * @return 変換した行。0件の場合は空
+	 */
+	public default <R> Optional<R> one(JdbcSession session, RowMapper<R> mapper) {
+		return generate((sql, params) -> QueryExecutor.one(session, sql, params, mapper));
+	}
+	
+	/**
+	 * 件数を取得
+	 * @param dataSource DataSource
+	 * @return 件数
+	 */
+	public default long count(DataSource dataSource) {
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			return count(session);
+		}
+	}
+	
+	/**
+	 * 件数を取得
+	 * @param session セッション
+	 * @return 件数
+	 */
+	public default long count(JdbcSession session) {
+		return generateCount((sql, params) -> QueryExecutor.count(session, sql, params));
+	}
+	
+	/**
+	 * 1ページ分のエンティティと全体の件数を取得
+	 * @param dataSource DataSource
+	 * @param executor 件数取得を実行する Executor
+	 * @return ページ
+	 * @see #page(DataSource, RowMapper, Executor, boolean)
+	 */
+	public default Page<T> page(DataSource dataSource, Executor executor) {
+		return page(dataSource, mapper(), executor, false);
+	}
+
+	/**
+	 * 1ページ分の行と全体の件数を取得<br>
+	 * ページの取得は呼び出し元のスレッド、件数の取得は executor で別のコネクションを使い同時に実行する。
+	 * limit の指定が必要。<br>
+	 * skipCountOnShortPage を指定するとページを先に取得し、limit に満たない場合は
+	 * offset + 行数を件数として件数の取得を省略する (この場合は同時に実行しない)。
+	 * キーセットページングの場合は省略しない。
+	 * @param dataSource DataSource
+	 * @param mapper 行の変換
+	 * @param executor 件数取得を実行する Executor
+	 * @param skipCountOnShortPage limit に満たないページで件数の取得を省略する場合は true
+	 * @return ページ
+	 */
+	public <R> Page<R> page(DataSource dataSource, RowMapper<R> mapper, Executor executor, boolean skipCountOnShortPage);
+
+	/**
+	 * 1ページ分のエンティティと全体の件数を1つのSQL文で取得
+	 * @param dataSource DataSource
+	 * @return ページ
+	 * @see #pageWithWindowCount(JdbcSession, RowMapper)
+	 */
+	public default Page<T> pageWithWindowCount(DataSource dataSource) {
+		return pageWithWindowCount(dataSource, mapper());
+	}
+
+	/**
+	 * 1ページ分の行と全体の件数を1つのSQL文で取得
+	 * @param dataSource DataSource
+	 * @param mapper 行の変換
+	 * @return ページ
+	 * @see #pageWithWindowCount(JdbcSession, RowMapper)
+	 */
+	public default <R> Page<R> pageWithWindowCount(DataSource dataSource, RowMapper<R> mapper) {
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			return pageWithWindowCount(session, mapper);
+		}
+	}
+
+	/**
+	 * 1ページ分の行と全体の件数を1つのSQL文で取得<br>
+	 * セレクトするカラムに COUNT(*) OVER() AS _total を追加し、行と件数を1回の実行で取得する。
+	 * ウィンドウ関数に対応したデータベースでのみ使用できる。
+	 * 追加したカラムは最後のカラムになるため、mapper のカラムのインデックスには影響しない。<br>
+	 * limit の指定が必要。offset が件数を超えて行がない場合のみ、件数を別に取得する。
+	 * キーセットページングの場合の件数は、シーク条件を含めた残りの件数になる。
+	 * @param session セッション
+	 * @param mapper 行の変換
+	 * @return ページ
+	 */
+	public <R> Page<R> pageWithWindowCount(JdbcSession session, RowMapper<R> mapper);
+
+	/**
+	 * SQL文の処理<br>
+	 * 値リストは {@link com.yoidukigembu.sql.jdbc.ParameterSink} で、
+	 * {@link QueryExecutor} に渡すとボクシングせずにバインドする。
+	 */
 	@FunctionalInterface
 	public interface QueryGenerator<RESULT> {
 		public RESULT generate(String sql, List<Object> params);
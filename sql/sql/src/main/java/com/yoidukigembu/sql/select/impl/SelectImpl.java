@@ -1,17 +1,65 @@
 package com.yoidukigembu.sql.select.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
-import org.apache.commons.lang3.StringUtils;
+import javax.sql.DataSource;
 
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.cache.QueryTemplateCache;
+import com.yoidukigembu.sql.cache.ResultCache;
+import com.yoidukigembu.sql.dialect.Dialect;
+import com.yoidukigembu.sql.enums.OrderType;
+import com.yoidukigembu.sql.enums.QueryKind;
+import com.yoidukigembu.sql.exception.EntityException;
+import com.yoidukigembu.sql.exception.SelectException;
+import com.yoidukigembu.sql.jdbc.CopyableRowMapper;
+import com.yoidukigembu.sql.jdbc.EntityRowMapper;
+import com.yoidukigembu.sql.jfr.QueryEvents;
+import com.yoidukigembu.sql.jdbc.JdbcSession;
+import com.yoidukigembu.sql.jdbc.ParameterSink;
+import com.yoidukigembu.sql.jdbc.QueryExecutor;
+import com.yoidukigembu.sql.jdbc.RowMapper;
+import com.yoidukigembu.sql.meta.TableMeta;
+import com.yoidukigembu.sql.metrics.QueryMetrics;
+import com.yoidukigembu.sql.metrics.ShapeMetrics;
 import com.yoidukigembu.sql.orderBy.OrderBy;
+import com.yoidukigembu.sql.orderBy.OrderByInfo;
+import com.yoidukigembu.sql.select.Page;
 import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.util.SqlUtil;
+import com.yoidukigembu.sql.where.ImmutableWhere;
 import com.yoidukigembu.sql.where.Where;
 
 public class SelectImpl<T> implements Select<T> {
+	
+	/** SQL文のおおよその文字数 (StringBuilder の初期容量) */
+	private static final int ESTIMATED_SQL_LENGTH = 256;
+	
+	/** limit / offset のおおよその文字数 */
+	private static final int LIMIT_OFFSET_LENGTH = 32;
+	
+	/** 値リストのデフォルトの初期容量 */
+	private static final int DEFAULT_PARAM_CAPACITY = 10;
+	
+	/** {@link #renderTo(Appendable, List)} でスレッドごとに再利用する StringBuilder の最大の容量 (超えた場合は破棄する) */
+	private static final int MAX_RENDER_BUFFER_LENGTH = 16 * 1024;
+	
+	/** {@link #renderTo(Appendable, List)} でスレッドごとに再利用する StringBuilder */
+	private static final ThreadLocal<StringBuilder> RENDER_BUFFER = 
+			ThreadLocal.withInitial(() -> new StringBuilder(ESTIMATED_SQL_LENGTH));
+	
+	/** ウィンドウ関数で取得する全体の件数のカラム名 */
+	private static final String TOTAL_COLUMN = "_total";
 
 	/** スキーマ */
 	private final Optional<String> schema;
@@ -22,9 +70,18 @@ public class SelectImpl<T> implements Select<T> {
 	/** テーブル名 */
 	private final String tableName;
 	
+	/** スキーマ付きのテーブル名 */
+	private final String qualifiedTableName;
+	
+	/** テーブル情報 */
+	private final Optional<TableMeta> tableMeta;
+	
 	/** セレクトするカラムリスト */
 	private List<String> columnList;
 	
+	/** カラムリストに対応するエンティティへの変換 */
+	private volatile RowMapper<T> mapper;
+	
 	/** 検索条件 */
 	private Optional<Where> where = Optional.empty();
 	
@@ -37,15 +94,71 @@ public class SelectImpl<T> implements Select<T> {
 	/** GROUP BY のリスト */
 	private Optional<List<String>> groupByList = Optional.empty();
 	
-	/** ORDER BY */
+	/** ORDER BY (文字列で指定された場合のみ) */
 	private Optional<CharSequence> orderBy = Optional.empty();
-
-	private List<Object> params;
+	
+	/** ORDER BY のカラム情報 ({@link OrderBy} で指定された場合のみ) */
+	private List<OrderByInfo> orderList = Collections.emptyList();
+	
+	/** キーセットページングの前ページ最終行の値 */
+	private Optional<List<Object>> keyset = Optional.empty();
+	
+	/** ダイアレクト (未指定の場合はデフォルト) */
+	private Optional<Dialect> dialect = Optional.empty();
+	
+	/** 不変か (不変の場合は指定メソッドでコピーを返す) */
+	private boolean frozen;
+	
+	/** 形状 (不変の場合のみ保持) */
+	private volatile QueryShape shape;
+	
+	/** 生成用に WHERE を差し替えた元のセレクト (メトリクスと JFR には元の形状を記録する) */
+	private SelectImpl<T> renderSource;
 	
 	public SelectImpl(String schema, String alias, String tableName) {
 		this.schema = Optional.ofNullable(schema);
 		this.alias = Optional.ofNullable(alias);
 		this.tableName = tableName;
+		this.qualifiedTableName = TableMeta.qualify(schema, tableName);
+		this.tableMeta = Optional.empty();
+	}
+	
+	/**
+	 * WHERE のみを差し替えたコピーを作成
+	 */
+	private SelectImpl(SelectImpl<T> original, Where where) {
+		this(original);
+		this.where = Optional.of(where);
+	}
+	
+	/**
+	 * コピーを作成
+	 */
+	private SelectImpl(SelectImpl<T> original) {
+		this.schema = original.schema;
+		this.alias = original.alias;
+		this.tableName = original.tableName;
+		this.qualifiedTableName = original.qualifiedTableName;
+		this.tableMeta = original.tableMeta;
+		this.columnList = original.columnList;
+		this.mapper = original.mapper;
+		this.where = original.where;
+		this.limit = original.limit;
+		this.offset = original.offset;
+		this.groupByList = original.groupByList;
+		this.orderBy = original.orderBy;
+		this.orderList = original.orderList;
+		this.keyset = original.keyset;
+		this.dialect = original.dialect;
+		this.frozen = original.frozen;
+	}
+	
+	public SelectImpl(TableMeta tableMeta, String alias) {
+		this.schema = tableMeta.getSchema();
+		this.alias = Optional.ofNullable(alias);
+		this.tableName = tableMeta.getName();
+		this.qualifiedTableName = tableMeta.getQualifiedName();
+		this.tableMeta = Optional.of(tableMeta);
 	}
 
 	public Optional<String> getSchema() {
@@ -59,6 +172,10 @@ public class SelectImpl<T> implements Select<T> {
 	public String getTableName() {
 		return tableName;
 	}
+	
+	public Optional<TableMeta> getTableMeta() {
+		return tableMeta;
+	}
 
 	@Override
 	public Select<T> columns(String... columns) {
@@ -67,26 +184,43 @@ public class SelectImpl<T> implements Select<T> {
 
 	@Override
 	public Select<T> columns(List<String> columns) {
-		this.columnList = columns;
-		return this;
+		SelectImpl<T> target = target();
+		target.columnList = frozen ? Collections.unmodifiableList(new ArrayList<>(columns)) : columns;
+		target.mapper = null;
+		return target;
+	}
+
+	@Override
+	public RowMapper<T> mapper() {
+		RowMapper<T> m = this.mapper;
+		if (m == null) {
+			TableMeta meta = tableMeta.orElseThrow(() -> 
+					new EntityException(String.format("entity class is not specified. table:[%s]", qualifiedTableName)));
+			m = EntityRowMapper.of(meta, columnList == null ? Collections.emptyList() : columnList);
+			this.mapper = m;
+		}
+		return m;
 	}
 
 	@Override
 	public Select<T> where(Where where) {
-		this.where = Optional.of(where);
-		return this;
+		SelectImpl<T> target = target();
+		target.where = Optional.of(frozen ? ImmutableWhere.of(where) : where);
+		return target;
 	}
 
 	@Override
 	public Select<T> limit(int limit) {
-		this.limit = Optional.of(limit);
-		return this;
+		SelectImpl<T> target = target();
+		target.limit = Optional.of(limit);
+		return target;
 	}
 
 	@Override
 	public Select<T> offset(int offset) {
-		this.offset = Optional.of(offset);
-		return this;
+		SelectImpl<T> target = target();
+		target.offset = Optional.of(offset);
+		return target;
 	}
 
 	@Override
@@ -96,114 +230,941 @@ public class SelectImpl<T> implements Select<T> {
 
 	@Override
 	public Select<T> groupBy(List<String> columns) {
-		this.groupByList = Optional.of(columns);
-		return this;
+		SelectImpl<T> target = target();
+		target.groupByList = Optional.of(frozen ? Collections.unmodifiableList(new ArrayList<>(columns)) : columns);
+		return target;
 	}
 
 	@Override
 	public Select<T> orderBy(OrderBy orderBy) {
-		return orderBy(orderBy.getOrder());
+		SelectImpl<T> target = target();
+		// 文字列にせず、生成時にカラム情報から直接追加する
+		target.orderBy = Optional.empty();
+		target.orderList = Collections.unmodifiableList(new ArrayList<>(orderBy.getOrderList()));
+		return target;
 	}
 
 	@Override
 	public Select<T> orderBy(CharSequence orderBy) {
-		this.orderBy = Optional.ofNullable(orderBy);
-		return this;
+		SelectImpl<T> target = target();
+		// 不変の場合は StringBuilder などの変更を受けないよう文字列にする
+		target.orderBy = Optional.ofNullable(frozen && orderBy != null ? orderBy.toString() : orderBy);
+		target.orderList = Collections.emptyList();
+		return target;
+	}
+	
+	@Override
+	public Select<T> after(Object... lastRowValues) {
+		return after(Arrays.asList(lastRowValues));
+	}
+	
+	@Override
+	public Select<T> after(List<?> lastRowValues) {
+		if (lastRowValues == null || lastRowValues.isEmpty()) {
+			throw new SelectException("keyset value must not be EMPTY.");
+		}
+		
+		for (Object value : lastRowValues) {
+			if (value == null) {
+				throw new SelectException(String.format("keyset value must not be NULL. values:%s", lastRowValues));
+			}
+		}
+		
+		SelectImpl<T> target = target();
+		target.keyset = Optional.of(new ArrayList<>(lastRowValues));
+		return target;
+	}
+	
+	@Override
+	public Select<T> dialect(Dialect dialect) {
+		SelectImpl<T> target = target();
+		target.dialect = Optional.ofNullable(dialect);
+		return target;
+	}
+	
+	/**
+	 * ダイアレクトを取得
+	 * @return 未指定の場合はデフォルト
+	 */
+	private Dialect getDialect() {
+		return dialect.orElseGet(Dialect::getDefault);
+	}
+	
+	@Override
+	public Select<T> freeze() {
+		if (frozen) {
+			return this;
+		}
+		
+		SelectImpl<T> frozenSelect = new SelectImpl<>(this);
+		frozenSelect.frozen = true;
+		if (columnList != null) {
+			frozenSelect.columnList = Collections.unmodifiableList(new ArrayList<>(columnList));
+		}
+		frozenSelect.where = where.map(ImmutableWhere::of);
+		frozenSelect.groupByList = groupByList.map(list -> Collections.unmodifiableList(new ArrayList<>(list)));
+		frozenSelect.orderBy = orderBy.map(CharSequence::toString);
+		return frozenSelect;
+	}
+	
+	@Override
+	public boolean isFrozen() {
+		return frozen;
+	}
+	
+	@Override
+	public QueryShape shape() {
+		QueryShape s = shape;
+		if (s != null) {
+			return s;
+		}
+		
+		QueryShape.Builder builder = new QueryShape.Builder();
+		builder.add(qualifiedTableName)
+			.add(alias.orElse(null));
+		if (columnList == null) {
+			builder.add(0);
+		} else {
+			builder.add(columnList.size())
+				.addAll(columnList);
+		}
+		
+		builder.add(where.map(Where::shape).orElse(null));
+		
+		if (groupByList.isPresent()) {
+			builder.add(groupByList.get().size())
+				.addAll(groupByList.get());
+		} else {
+			builder.add(-1);
+		}
+		
+		if (!orderList.isEmpty()) {
+			builder.add(orderList.size());
+			for (OrderByInfo order : orderList) {
+				builder.add(order.getAlias().orElse(null))
+					.add(order.getColumn())
+					.add(order.getType());
+			}
+		} else {
+			builder.add(orderBy.map(CharSequence::toString).orElse(null));
+		}
+		
+		builder.add(keyset.map(List::size).orElse(0))
+			.add(limit.isPresent())
+			.add(offset.isPresent());
+		
+		s = builder.build();
+		if (frozen) {
+			shape = s;
+		}
+		return s;
+	}
+	
+	/**
+	 * 指定メソッドで変更する対象を取得
+	 * @return 不変の場合はコピー、それ以外は自身
+	 */
+	private SelectImpl<T> target() {
+		return frozen ? new SelectImpl<>(this) : this;
 	}
 	
 	
 	@Override
 	public <RESULT> RESULT generate(QueryGenerator<RESULT> generator) {
-		this.params = new ArrayList<>();
+		return generate(generator, false, null);
+	}
+	
+	/**
+	 * SQL文の生成に使うコピーを取得<br>
+	 * WHERE を最適化する場合は最適化した WHERE に差し替え、1回の生成で最適化を1回にする。
+	 * @return 差し替えない場合は自身
+	 */
+	private SelectImpl<T> forRender() {
+		if (!where.isPresent()) {
+			return this;
+		}
 		
-		StringBuilder sql = new StringBuilder("SELECT ");
-		sql.append(createColumn())
-			.append(" FROM ");
-		schema.filter(s -> StringUtils.isNotBlank(s))
-			.map(s -> s.concat("."))
-				.ifPresent(s -> sql.append(s));
-		sql.append(tableName);
+		Where w = where.get().forRender();
+		if (w == where.get()) {
+			return this;
+		}
+		
+		SelectImpl<T> target = new SelectImpl<>(this, w);
+		target.renderSource = this;
+		return target;
+	}
+	
+	/**
+	 * メトリクスと JFR に記録する形状を取得 ({@link #shape()} と同じ値)
+	 * @param buildEvent 生成の JFR イベント
+	 * @return メトリクスと生成の JFR イベントがともに無効の場合は null
+	 */
+	private QueryShape observedShape(Object buildEvent) {
+		if (buildEvent == null && !QueryMetrics.getDefault().isEnabled()) {
+			return null;
+		}
+		return renderSource == null ? shape() : renderSource.shape();
+	}
+	
+	/**
+	 * SQL文を生成
+	 * @param generator SQL文の処理
+	 * @param windowTotal COUNT(*) OVER() で全体の件数をカラムに追加する場合は true
+	 * @param rowCount 結果の行数 (generator で実行する場合のみ指定し、実行時間と行数をメトリクスに記録する)
+	 */
+	private <RESULT> RESULT generate(QueryGenerator<RESULT> generator, boolean windowTotal, 
+			ToLongFunction<? super RESULT> rowCount) {
+		SelectImpl<T> target = forRender();
+		if (target != this) {
+			return target.generate(generator, windowTotal, rowCount);
+		}
 		
-		alias.ifPresent(a -> sql.append(" ").append(a));
+		long start = startMetrics();
+		Object buildEvent = QueryEvents.beginBuild();
+		Dialect dialect = getDialect();
+		QueryShape shape = createShapeIfCached(windowTotal, dialect);
+		QueryTemplateCache.Template cached = shape == null ? null : QueryTemplateCache.getDefault().getTemplate(shape);
 		
-		addWhere(sql);
+		// 同じ形状の前回の生成結果の大きさで初期容量を決める
+		StringBuilder sql;
+		List<Object> params;
+		if (cached == null) {
+			sql = new StringBuilder(ESTIMATED_SQL_LENGTH);
+			params = new ParameterSink();
+		} else {
+			sql = new StringBuilder(cached.getSql().length() + LIMIT_OFFSET_LENGTH);
+			params = new ParameterSink(cached.paramCapacity(DEFAULT_PARAM_CAPACITY));
+		}
 		
-		addGroupBy(sql);
+		String template = appendTemplate(sql, params, windowTotal, dialect, shape, cached, true);
+		dialect.appendLimitOffset(sql, limit, offset);
 		
-		addOrderBy(sql);
+		String query = sql.toString();
+		QueryShape observed = observedShape(buildEvent);
+		QueryEvents.commitBuild(buildEvent, QueryKind.SELECT, observed, query.length(), params.size());
+		ShapeMetrics metrics = recordBuild(QueryKind.SELECT, observed, template, start);
+		return execute(metrics, QueryKind.SELECT, observed, query, params, generator, rowCount);
+	}
+	
+	@Override
+	public void renderTo(StringBuilder sql, List<Object> params) {
+		SelectImpl<T> target = forRender();
+		if (target != this) {
+			target.renderTo(sql, params);
+			return;
+		}
 		
-		addLimit(sql);
+		long start = startMetrics();
+		Object buildEvent = QueryEvents.beginBuild();
+		Dialect dialect = getDialect();
+		QueryShape shape = createShapeIfCached(false, dialect);
+		QueryTemplateCache.Template cached = shape == null ? null : QueryTemplateCache.getDefault().getTemplate(shape);
 		
-		addOffset(sql);
+		int sqlFrom = sql.length();
+		int paramFrom = params.size();
+		if (cached != null) {
+			sql.ensureCapacity(sqlFrom + cached.getSql().length() + LIMIT_OFFSET_LENGTH);
+			if (cached.getParamCount() > 0) {
+				if (params instanceof ParameterSink) {
+					((ParameterSink) params).ensureCapacity(paramFrom + cached.getParamCount());
+				} else if (params instanceof ArrayList) {
+					((ArrayList<Object>) params).ensureCapacity(paramFrom + cached.getParamCount());
+				}
+			}
+		}
 		
-		return generator.generate(sql.toString(), params);
+		// メトリクスと JFR イベントが無効の場合はテンプレートの文字列を作らない
+		boolean needTemplate = buildEvent != null || QueryMetrics.getDefault().isEnabled();
+		String template = appendTemplate(sql, params, false, dialect, shape, cached, needTemplate);
+		dialect.appendLimitOffset(sql, limit, offset);
+		
+		if (needTemplate) {
+			QueryShape observed = observedShape(buildEvent);
+			QueryEvents.commitBuild(buildEvent, QueryKind.SELECT, observed, sql.length() - sqlFrom, params.size() - paramFrom);
+			recordBuild(QueryKind.SELECT, observed, template, start);
+		}
+	}
+	
+	@Override
+	public void renderTo(Appendable out, List<Object> params) throws IOException {
+		if (out instanceof StringBuilder) {
+			renderTo((StringBuilder) out, params);
+			return;
+		}
+		
+		StringBuilder sql = RENDER_BUFFER.get();
+		try {
+			renderTo(sql, params);
+			out.append(sql);
+		} finally {
+			if (sql.capacity() > MAX_RENDER_BUFFER_LENGTH) {
+				RENDER_BUFFER.remove();
+			} else {
+				sql.setLength(0);
+			}
+		}
+	}
+	
+	/**
+	 * limit / offset を除いたSQL文を追加<br>
+	 * テンプレートキャッシュにある場合はキャッシュのSQL文を追加し、値のみを集める。
+	 * @param sql 追加先
+	 * @param params 値リスト
+	 * @param windowTotal COUNT(*) OVER() を追加する場合は true
+	 * @param dialect ダイアレクト
+	 * @param shape 形状 (キャッシュが無効の場合は null)
+	 * @param cached キャッシュのSQL文 (ない場合は null)
+	 * @param needTemplate キャッシュにない場合も、追加したSQL文を文字列で返す場合は true
+	 * @return 追加したSQL文 (キャッシュが無効かつ needTemplate が false の場合は null)
+	 */
+	private String appendTemplate(StringBuilder sql, List<Object> params, boolean windowTotal, Dialect dialect,
+			QueryShape shape, QueryTemplateCache.Template cached, boolean needTemplate) {
+		if (cached != null) {
+			sql.append(cached.getSql());
+			where.ifPresent(w -> w.collectParams(params, dialect));
+			keyset.ifPresent(values -> collectKeysetParams(values, params));
+			return cached.getSql();
+		}
+		
+		int sqlFrom = sql.length();
+		int paramFrom = params.size();
+		render(sql, params, windowTotal, dialect);
+		if (shape == null) {
+			return needTemplate ? sql.substring(sqlFrom) : null;
+		}
+		
+		String template = sql.substring(sqlFrom);
+		QueryTemplateCache.getDefault().put(shape, template, params.size() - paramFrom);
+		return template;
+	}
+	
+	@Override
+	public <RESULT> Stream<RESULT> generateEach(QueryGenerator<RESULT> generator) {
+		List<Where> whereList = where
+				.filter(w -> isSplittable())
+				.map(Where::split)
+				.orElse(Collections.emptyList());
+		
+		if (whereList.size() <= 1) {
+			return Stream.of(this).map(s -> s.generate(generator));
+		}
+		
+		return whereList.stream()
+				.map(w -> new SelectImpl<>(this, w).generate(generator));
+	}
+	
+	/**
+	 * 分割したSQL文の結果を連結しても1つのSQL文と同じ結果になるか<br>
+	 * GROUP BY / ORDER BY / limit / offset、集約関数・DISTINCT のカラムを指定している場合は分割できない。
+	 */
+	private boolean isSplittable() {
+		if (groupByList.isPresent() || !orderList.isEmpty() || orderBy.isPresent()
+				|| limit.isPresent() || offset.isPresent()) {
+			return false;
+		}
+		return !hasAggregateColumn();
+	}
+	
+	/**
+	 * 集約関数・DISTINCT のカラムを指定しているか
+	 */
+	private boolean hasAggregateColumn() {
+		return columnList != null && columnList.stream().anyMatch(SelectImpl::isAggregateColumn);
+	}
+	
+	/**
+	 * 集約関数・DISTINCT のカラムか (関数呼び出しを含むカラムは集約関数とみなす)
+	 */
+	private static boolean isAggregateColumn(String column) {
+		return column.indexOf('(') >= 0 || column.trim().regionMatches(true, 0, "DISTINCT ", 0, 9);
 	}
 	
 	@Override
 	public Long generateCount(QueryGenerator<Long> generator) {
-		return this.generate((sql, params) -> {
-			StringBuilder sb = new StringBuilder("SELECT COUNT(*) FROM (");
-			sb.append(sql)
-				.append(") _C");
-			
-			return generator.generate(sb.toString(), params);
+		return generateCountWith(generator, null);
+	}
+	
+	@Override
+	public <R> List<R> list(JdbcSession session, RowMapper<R> mapper) {
+		ResultCache cache = ResultCache.getDefault();
+		if (!cache.isCacheable(qualifiedTableName) || !(mapper instanceof CopyableRowMapper)) {
+			return generate((sql, params) -> QueryExecutor.list(session, sql, params, mapper), false, List::size);
+		}
+		
+		CopyableRowMapper<R> copyable = (CopyableRowMapper<R>) mapper;
+		List<R> rows = generate((sql, params) -> cache.get(qualifiedTableName, sql, params, mapper, List::size,
+				() -> Collections.unmodifiableList(QueryExecutor.list(session, sql, params, mapper))), false, List::size);
+		// 保持している結果は呼び出し元の間で共有するため、リストと行をコピーして返す
+		List<R> result = new ArrayList<>(rows.size());
+		for (R row : rows) {
+			result.add(row == null ? null : copyable.copy(row));
+		}
+		return result;
+	}
+	
+	@Override
+	public <R> Optional<R> one(JdbcSession session, RowMapper<R> mapper) {
+		ResultCache cache = ResultCache.getDefault();
+		if (!cache.isCacheable(qualifiedTableName) || !(mapper instanceof CopyableRowMapper)) {
+			return generate((sql, params) -> QueryExecutor.one(session, sql, params, mapper), false, SelectImpl::rowCount);
+		}
+		
+		CopyableRowMapper<R> copyable = (CopyableRowMapper<R>) mapper;
+		Optional<R> row = generate((sql, params) -> cache.get(qualifiedTableName, sql, params, Arrays.asList("ONE", mapper),
+				r -> (int) rowCount(r),
+				() -> QueryExecutor.one(session, sql, params, mapper)), false, SelectImpl::rowCount);
+		// 保持している結果は呼び出し元の間で共有するため、行をコピーして返す
+		return row.map(copyable::copy);
+	}
+	
+	@Override
+	public long count(JdbcSession session) {
+		return generateCountWith(countExecutor(session), total -> 1);
+	}
+	
+	/**
+	 * カウント用SQL文の実行 (テーブルがキャッシュ対象の場合は結果キャッシュを使う)
+	 * @param session セッション
+	 */
+	private QueryGenerator<Long> countExecutor(JdbcSession session) {
+		ResultCache cache = ResultCache.getDefault();
+		if (!cache.isCacheable(qualifiedTableName)) {
+			return (sql, params) -> QueryExecutor.count(session, sql, params);
+		}
+		
+		return (sql, params) -> cache.get(qualifiedTableName, sql, params, "COUNT", 
+				total -> 1,
+				() -> QueryExecutor.count(session, sql, params));
+	}
+	
+	@Override
+	public <R> Page<R> page(DataSource dataSource, RowMapper<R> mapper, Executor executor, boolean skipCountOnShortPage) {
+		int pageLimit = limit.orElseThrow(() -> 
+				new SelectException(String.format("page requires limit. table:[%s]", qualifiedTableName)));
+		int pageOffset = offset.orElse(0);
+		
+		if (skipCountOnShortPage && !keyset.isPresent()) {
+			List<R> content = list(dataSource, mapper);
+			if (content.size() < pageLimit && (!content.isEmpty() || pageOffset == 0)) {
+				return new Page<>(content, pageOffset + content.size(), pageOffset, pageLimit);
+			}
+			return new Page<>(content, count(dataSource), pageOffset, pageLimit);
+		}
+		
+		// SQL文の生成は呼び出し元のスレッドで行い、実行のみを executor に渡す
+		CompletableFuture<Long> total = buildCount((metrics, observed, sql, params) -> 
+				CompletableFuture.supplyAsync(() -> {
+					try (JdbcSession session = new JdbcSession(dataSource)) {
+						return execute(metrics, QueryKind.COUNT, observed, sql, params, countExecutor(session), count -> 1);
+					}
+				}, executor));
+		
+		List<R> content;
+		try {
+			content = list(dataSource, mapper);
+		} catch (RuntimeException | Error e) {
+			// 件数の取得が未開始の場合は実行しない (実行中の場合は完了後にコネクションを返す)
+			total.cancel(false);
+			throw e;
+		}
+		
+		try {
+			return new Page<>(content, total.join(), pageOffset, pageLimit);
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+	
+	@Override
+	public <R> Page<R> pageWithWindowCount(JdbcSession session, RowMapper<R> mapper) {
+		int pageLimit = limit.orElseThrow(() -> 
+				new SelectException(String.format("page requires limit. table:[%s]", qualifiedTableName)));
+		int pageOffset = offset.orElse(0);
+		
+		long[] total = {0L};
+		List<R> content = generate((sql, params) -> QueryExecutor.list(session, sql, params, (rs, rowNum) -> {
+			if (rowNum == 0) {
+				total[0] = rs.getLong(TOTAL_COLUMN);
+			}
+			return mapper.map(rs, rowNum);
+		}), true, List::size);
+		
+		// offset が件数を超えた場合は行がないため件数を別に取得する
+		if (content.isEmpty() && pageOffset > 0) {
+			total[0] = count(session);
+		}
+		
+		return new Page<>(content, total[0], pageOffset, pageLimit);
+	}
+	
+	/**
+	 * カウント用SQL文を生成
+	 * @param generator SQL文の処理
+	 * @param rowCount 結果の行数 (generator で実行する場合のみ指定し、実行時間と行数をメトリクスに記録する)
+	 */
+	private <RESULT> RESULT generateCountWith(QueryGenerator<RESULT> generator, ToLongFunction<? super RESULT> rowCount) {
+		return buildCount((metrics, observed, sql, params) -> 
+				execute(metrics, QueryKind.COUNT, observed, sql, params, generator, rowCount));
+	}
+	
+	/**
+	 * カウント用SQL文を生成し、生成時間を記録
+	 * @param query 生成したSQL文の処理
+	 */
+	private <RESULT> RESULT buildCount(BuiltQuery<RESULT> query) {
+		SelectImpl<T> target = forRender();
+		if (target != this) {
+			return target.buildCount(query);
+		}
+		
+		long start = startMetrics();
+		Object buildEvent = QueryEvents.beginBuild();
+		List<Object> params;
+		Dialect dialect = getDialect();
+		
+		String sql;
+		QueryTemplateCache cache = QueryTemplateCache.getDefault();
+		if (cache.isEnabled()) {
+			QueryShape shape = createCountShape(dialect);
+			QueryTemplateCache.Template cached = cache.getTemplate(shape);
+			if (cached == null) {
+				params = new ParameterSink();
+				sql = renderCount(params, dialect);
+				cache.put(shape, sql, params.size());
+			} else {
+				// 同じ形状の前回の値の数で初期容量を決める
+				params = new ParameterSink(cached.paramCapacity(DEFAULT_PARAM_CAPACITY));
+				sql = cached.getSql();
+				where.ifPresent(w -> w.collectParams(params, dialect));
+			}
+		} else {
+			params = new ParameterSink();
+			sql = renderCount(params, dialect);
+		}
+		
+		QueryShape observed = observedShape(buildEvent);
+		QueryEvents.commitBuild(buildEvent, QueryKind.COUNT, observed, sql.length(), params.size());
+		// カウント用SQL文は limit / offset を含まないため、そのままテンプレートになる
+		ShapeMetrics metrics = recordBuild(QueryKind.COUNT, observed, sql, start);
+		return query.run(metrics, observed, sql, params);
+	}
+	
+	/**
+	 * 生成したSQL文の処理
+	 */
+	@FunctionalInterface
+	private interface BuiltQuery<RESULT> {
+		
+		/**
+		 * @param metrics 形状のメトリクス (メトリクスが無効の場合は null)
+		 * @param observed メトリクスと JFR に記録する形状 (ともに無効の場合は null)
+		 * @param sql SQL文
+		 * @param params 値リスト
+		 */
+		RESULT run(ShapeMetrics metrics, QueryShape observed, String sql, List<Object> params);
+	}
+	
+	/**
+	 * メトリクスの計測開始
+	 * @return 開始時刻。メトリクスが無効の場合は -1
+	 */
+	private static long startMetrics() {
+		return QueryMetrics.getDefault().isEnabled() ? System.nanoTime() : -1L;
+	}
+	
+	/**
+	 * SQL文の生成時間を記録
+	 * @param kind クエリの種類
+	 * @param observed 形状 (null の場合は記録しない)
+	 * @param template limit / offset の値を除いたSQL文
+	 * @param start 開始時刻 (-1 の場合は生成時間を記録しない)
+	 * @return 形状のメトリクス。メトリクスが無効の場合は null
+	 */
+	private static ShapeMetrics recordBuild(QueryKind kind, QueryShape observed, String template, long start) {
+		QueryMetrics queryMetrics = QueryMetrics.getDefault();
+		if (observed == null || !queryMetrics.isEnabled()) {
+			return null;
+		}
+		
+		ShapeMetrics metrics = queryMetrics.get(kind, observed, template);
+		if (metrics != null && start >= 0) {
+			metrics.recordBuild(System.nanoTime() - start);
+		}
+		return metrics;
+	}
+	
+	/**
+	 * 実行し、実行時間と行数をメトリクスと JFR イベントに記録
+	 * @param metrics 形状のメトリクス (null の場合はメトリクスに記録しない)
+	 * @param kind クエリの種類
+	 * @param observed 形状 (null の場合は JFR に記録する時に求める)
+	 * @param sql SQL文
+	 * @param params 値リスト
+	 * @param generator 実行
+	 * @param rowCount 結果の行数 (null の場合は実行として記録しない)
+	 */
+	private <RESULT> RESULT execute(ShapeMetrics metrics, QueryKind kind, QueryShape observed, 
+			String sql, List<Object> params, QueryGenerator<RESULT> generator, 
+			ToLongFunction<? super RESULT> rowCount) {
+		if (rowCount == null) {
+			return generator.generate(sql, params);
+		}
+		
+		Object event = QueryEvents.beginExecution();
+		if (metrics == null && event == null) {
+			return generator.generate(sql, params);
+		}
+		
+		long start = metrics == null ? 0L : System.nanoTime();
+		RESULT result;
+		try {
+			result = generator.generate(sql, params);
+		} catch (RuntimeException e) {
+			if (metrics != null) {
+				metrics.recordError();
+			}
+			throw e;
+		}
+		
+		long rows = rowCount.applyAsLong(result);
+		if (metrics != null) {
+			metrics.recordExecution(System.nanoTime() - start, rows);
+		}
+		if (event != null) {
+			QueryShape s = observed != null ? observed : renderSource == null ? shape() : renderSource.shape();
+			QueryEvents.commitExecution(event, kind, s, sql.length(), params.size(), rows);
+		}
+		return result;
+	}
+	
+	private static long rowCount(Optional<?> row) {
+		return row.isPresent() ? 1 : 0;
+	}
+	
+	/**
+	 * テンプレートキャッシュが有効な場合のみ形状を作成
+	 * @return キャッシュが無効の場合は null
+	 */
+	private QueryShape createShapeIfCached(boolean windowTotal, Dialect dialect) {
+		return QueryTemplateCache.getDefault().isEnabled() ? createShape(windowTotal, dialect) : null;
+	}
+	
+	/**
+	 * 形状の作成<br>
+	 * limit / offset の値はテンプレートに含めないため、有無のみを要素とする。
+	 */
+	private QueryShape createShape(boolean windowTotal, Dialect dialect) {
+		List<Object> parts = new ArrayList<>();
+		parts.add("SELECT");
+		parts.add(dialect);
+		parts.add(qualifiedTableName);
+		parts.add(alias.orElse(null));
+		
+		if (columnList == null) {
+			parts.add(0);
+		} else {
+			parts.add(columnList.size());
+			parts.addAll(columnList);
+		}
+		parts.add(windowTotal);
+		
+		where.ifPresent(w -> {
+			parts.add("WHERE");
+			w.appendShape(parts, dialect);
+		});
+		
+		groupByList.ifPresent(list -> {
+			parts.add("GROUP BY");
+			parts.add(list.size());
+			parts.addAll(list);
+		});
+		
+		if (orderList.isEmpty()) {
+			parts.add(orderBy.map(CharSequence::toString).orElse(null));
+		} else {
+			parts.add(orderList.size());
+			for (OrderByInfo order : orderList) {
+				parts.add(order.getAlias().orElse(null));
+				parts.add(order.getColumn());
+				parts.add(order.getType());
+			}
+		}
+		
+		keyset.ifPresent(values -> {
+			parts.add("AFTER");
+			parts.add(values.size());
+		});
+		
+		parts.add(limit.isPresent());
+		parts.add(offset.isPresent());
+		return new QueryShape(parts);
+	}
+	
+	/**
+	 * カウント用SQL文の形状の作成
+	 */
+	private QueryShape createCountShape(Dialect dialect) {
+		List<Object> parts = new ArrayList<>();
+		parts.add("COUNT");
+		parts.add(dialect);
+		parts.add(qualifiedTableName);
+		parts.add(alias.orElse(null));
+		
+		// 集約関数・DISTINCT のカラムの場合のみ SELECT カラムを含める
+		if (hasAggregateColumn()) {
+			parts.add(columnList.size());
+			parts.addAll(columnList);
+		}
+		
+		where.ifPresent(w -> {
+			parts.add("WHERE");
+			w.appendShape(parts, dialect);
+		});
+		
+		groupByList.ifPresent(list -> {
+			parts.add("GROUP BY");
+			parts.add(list.size());
+			parts.addAll(list);
+		});
+		return new QueryShape(parts);
+	}
+	
+	/**
+	 * カウント用SQL文の生成<br>
+	 * 件数に影響しない ORDER BY / limit / offset、およびキーセットページングのシーク条件は含めない。
+	 * 集約関数・DISTINCT のカラムを指定している場合は、結果の行数を数えるため SELECT カラムごと派生テーブルにする。
+	 * それ以外で GROUP BY がある場合は、グループ数を数えるため GROUP BY のカラムで派生テーブルにする。
+	 * @param params 値リスト
+	 * @param dialect ダイアレクト
+	 * @return SQL文
+	 */
+	private String renderCount(List<Object> params, Dialect dialect) {
+		StringBuilder sql = new StringBuilder(ESTIMATED_SQL_LENGTH);
+		boolean derived = hasAggregateColumn();
+		if (derived) {
+			sql.append("SELECT COUNT(*) FROM (SELECT ");
+			addColumn(sql);
+		} else if (groupByList.isPresent()) {
+			derived = true;
+			sql.append("SELECT COUNT(*) FROM (SELECT ");
+			appendGroupByColumns(sql, groupByList.get());
+		} else {
+			sql.append("SELECT COUNT(*)");
+		}
+		
+		sql.append(" FROM ")
+			.append(qualifiedTableName);
+		
+		alias.ifPresent(a -> sql.append(' ').append(a));
+		
+		where.ifPresent(w -> {
+			sql.append(" WHERE ");
+			w.appendTo(sql, params, dialect);
 		});
 		
+		if (derived) {
+			addGroupBy(sql);
+			sql.append(") _C");
+		}
+		
+		return sql.toString();
 	}
 	
 	/**
-	 * カラムの作成
-	 * @return
+	 * limit / offset を除いたSQL文の生成
+	 * @param sql 追加先
+	 * @param params 値リスト
+	 * @param windowTotal COUNT(*) OVER() を追加する場合は true
+	 * @param dialect ダイアレクト
 	 */
-	private CharSequence createColumn() {
+	private void render(StringBuilder sql, List<Object> params, boolean windowTotal, Dialect dialect) {
+		sql.append("SELECT ");
+		addColumn(sql);
+		if (windowTotal) {
+			sql.append(", COUNT(*) OVER() AS ").append(TOTAL_COLUMN);
+		}
+		sql.append(" FROM ")
+			.append(qualifiedTableName);
+		
+		alias.ifPresent(a -> sql.append(' ').append(a));
+		
+		addWhere(sql, params, dialect);
+		
+		addGroupBy(sql);
+		
+		addOrderBy(sql);
+	}
+	
+	/**
+	 * カラムの追加
+	 * @param sql SQL文
+	 */
+	private void addColumn(StringBuilder sql) {
+		String aliasName = alias.orElse(null);
 		if (columnList == null || columnList.isEmpty()) {
-			return alias(alias, "*");
+			SqlUtil.appendAlias(sql, aliasName, "*");
+			return;
 		}
 		
-		StringBuilder sb = new StringBuilder();
 		int index = 0;
 		for (String column : columnList) {
 			if (index++ > 0) {
-				sb.append(", ");
+				sql.append(", ");
 			}
-			sb.append(alias(alias, column));
+			SqlUtil.appendAlias(sql, aliasName, column);
 		}
-		
-		return sb;
 	}
 	
-	private void addWhere(StringBuilder sql) {
-		where.ifPresent(w -> {
-			w.build((query, params) -> {
-				sql.append(" WHERE ").append(query);
-				SelectImpl.this.params = params;
+	private void addWhere(StringBuilder sql, List<Object> params, Dialect dialect) {
+		if (!keyset.isPresent()) {
+			where.ifPresent(w -> {
+				sql.append(" WHERE ");
+				w.appendTo(sql, params, dialect);
 			});
-		});
+			return;
+		}
+		
+		List<Object> values = keyset.get();
+		validateKeyset(values);
+		
+		sql.append(" WHERE ");
+		where.ifPresent(w -> w.appendAndTo(sql, params, dialect));
+		
+		addKeyset(sql, values, params);
 	}
 	
-	private void addGroupBy(StringBuilder sql) {
-		groupByList.ifPresent(list -> {
-			sql.append(" GROUP BY ");
+	/**
+	 * キーセットの値と ORDER BY の整合性を確認
+	 * @param values 前ページ最終行の値
+	 */
+	private void validateKeyset(List<Object> values) {
+		if (orderList.isEmpty()) {
+			throw new SelectException(String.format("keyset pagination requires orderBy(OrderBy). table:[%s]", qualifiedTableName));
+		}
+		
+		if (orderList.size() != values.size()) {
+			throw new SelectException(String.format("keyset value count does not match ORDER BY. order:[%s] values:%s", 
+					orderList, values));
+		}
+	}
+	
+	/**
+	 * ORDER BY のカラムがすべて同じ向きかどうか
+	 */
+	private boolean isUniformOrder() {
+		OrderType type = orderList.get(0).getType();
+		for (OrderByInfo info : orderList) {
+			if (info.getType() != type) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * シーク条件の追加<br>
+	 * すべて同じ向きの場合は行値比較 (c1, c2) &gt; (?, ?)、
+	 * 向きが混在する場合は先頭カラムの範囲条件に OR で展開した条件を続ける。
+	 * @param sql SQL文
+	 * @param values 前ページ最終行の値
+	 * @param params 値リスト
+	 */
+	private void addKeyset(StringBuilder sql, List<Object> values, List<Object> params) {
+		if (orderList.size() == 1) {
+			OrderByInfo info = orderList.get(0);
+			appendColumn(sql, info)
+				.append(seekOperator(info.getType()))
+				.append('?');
+		} else if (isUniformOrder()) {
+			sql.append('(');
 			int index = 0;
-			for (String group : list) {
+			for (OrderByInfo info : orderList) {
 				if (index++ > 0) {
 					sql.append(", ");
 				}
-				sql.append(group);
+				appendColumn(sql, info);
 			}
-		});
+			sql.append(')')
+				.append(seekOperator(orderList.get(0).getType()))
+				.append('(');
+			SqlUtil.appendQuestions(sql, orderList.size());
+			sql.append(')');
+		} else {
+			OrderByInfo first = orderList.get(0);
+			appendColumn(sql, first)
+				.append(first.getType() == OrderType.DESC ? " <= " : " >= ")
+				.append("? AND (");
+			for (int i = 0; i < orderList.size(); i++) {
+				if (i > 0) {
+					sql.append(" OR (");
+				}
+				for (int j = 0; j < i; j++) {
+					appendColumn(sql, orderList.get(j))
+						.append(" = ? AND ");
+				}
+				OrderByInfo info = orderList.get(i);
+				appendColumn(sql, info)
+					.append(seekOperator(info.getType()))
+					.append('?');
+				if (i > 0) {
+					sql.append(')');
+				}
+			}
+			sql.append(')');
+		}
+		
+		collectKeysetParams(values, params);
 	}
 	
-	private void addOrderBy(StringBuilder sql) {
-		orderBy.ifPresent(order -> sql.append(" ORDER BY ").append(order));
+	/**
+	 * シーク条件の値の追加 ({@link #addKeyset} の ? と同じ順)
+	 */
+	private void collectKeysetParams(List<Object> values, List<Object> params) {
+		if (orderList.size() == 1 || isUniformOrder()) {
+			params.addAll(values);
+			return;
+		}
+		
+		params.add(values.get(0));
+		for (int i = 0; i < values.size(); i++) {
+			params.addAll(values.subList(0, i + 1));
+		}
+	}
+	
+	private static StringBuilder appendColumn(StringBuilder sql, OrderByInfo info) {
+		return SqlUtil.appendAlias(sql, info.getAlias().orElse(null), info.getColumn());
 	}
 	
-	private void addLimit(StringBuilder sql) {
-		limit.ifPresent(limit -> sql.append(" LIMIT ").append(limit));
+	private static String seekOperator(OrderType type) {
+		return type == OrderType.DESC ? " < " : " > ";
 	}
 	
-	private void addOffset(StringBuilder sql) {
-		offset.ifPresent(offset -> sql.append(" OFFSET ").append(offset));
+	private void addGroupBy(StringBuilder sql) {
+		groupByList.ifPresent(list -> {
+			sql.append(" GROUP BY ");
+			appendGroupByColumns(sql, list);
+		});
+	}
+	
+	private static void appendGroupByColumns(StringBuilder sql, List<String> list) {
+		int index = 0;
+		for (String group : list) {
+			if (index++ > 0) {
+				sql.append(", ");
+			}
+			sql.append(group);
+		}
+	}
+	
+	private void addOrderBy(StringBuilder sql) {
+		if (!orderList.isEmpty()) {
+			OrderBy.appendTo(sql.append(" ORDER BY "), orderList);
+			return;
+		}
+		orderBy.ifPresent(order -> sql.append(" ORDER BY ").append(order));
 	}
 	
 }
@@ -0,0 +1,75 @@
+package com.yoidukigembu.sql.update;
+
+import javax.sql.DataSource;
+
+import com.yoidukigembu.sql.dialect.Dialect;
+import com.yoidukigembu.sql.jdbc.JdbcSession;
+import com.yoidukigembu.sql.jdbc.QueryExecutor;
+import com.yoidukigembu.sql.meta.EntityMetaRegistry;
+import com.yoidukigembu.sql.select.Select.QueryGenerator;
+import com.yoidukigembu.sql.update.impl.UpdateImpl;
+import com.yoidukigembu.sql.where.Where;
+
+/**
+ * アップデート
+ *
+ */
+public interface Update<T> {
+
+	public static <T> Update<T> table(Class<T> entityClass) {
+		return new UpdateImpl<>(entityClass, EntityMetaRegistry.get(entityClass));
+	}
+
+	/**
+	 * 更新するカラムと値を指定
+	 * @param column カラム名
+	 * @param value 値
+	 */
+	public Update<T> set(String column, Object value);
+
+	/**
+	 * 条件を指定
+	 */
+	public Update<T> where(Where where);
+
+	/**
+	 * ダイアレクトを指定 (未指定の場合は {@link Dialect#getDefault()})
+	 */
+	public Update<T> dialect(Dialect dialect);
+
+	/**
+	 * SQL文を生成
+	 */
+	public <RESULT> RESULT generate(QueryGenerator<RESULT> generator);
+
+	/**
+	 * アップデートを実行
+	 * @param dataSource DataSource
+	 * @return 更新件数
+	 */
+	public default int execute(DataSource dataSource) {
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			return execute(session);
+		}
+	}
+
+	/**
+	 * アップデートを実行
+	 * @param session セッション
+	 * @return 更新件数
+	 */
+	public default int execute(JdbcSession session) {
+		return generate((sql, params) -> QueryExecutor.update(session, sql, params));
+	}
+
+	/**
+	 * 主キーのキーセットで分割してアップデートを実行<br>
+	 * 条件に一致する主キーを chunkSize 件ずつ主キー順に取得し、主キーの IN で更新して分割ごとにコミットする。
+	 * 大量の行を更新する場合に、ロックの保持時間や UNDO ログの量を抑える。
+	 * {@code @Id} が1つのエンティティのみ使用できる。
+	 * @param dataSource DataSource
+	 * @param chunkSize 1回の SQL 文で更新する最大件数
+	 * @return 更新件数
+	 */
+	public int executeInChunks(DataSource dataSource, int chunkSize);
+}
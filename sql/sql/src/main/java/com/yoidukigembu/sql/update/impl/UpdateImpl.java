@@ -0,0 +1,181 @@
+package com.yoidukigembu.sql.update.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import com.yoidukigembu.sql.cache.ResultCache;
+import com.yoidukigembu.sql.dialect.Dialect;
+import com.yoidukigembu.sql.exception.EntityException;
+import com.yoidukigembu.sql.jdbc.JdbcSession;
+import com.yoidukigembu.sql.jdbc.QueryExecutor;
+import com.yoidukigembu.sql.meta.ColumnMeta;
+import com.yoidukigembu.sql.meta.TableMeta;
+import com.yoidukigembu.sql.orderBy.OrderBy;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.select.Select.QueryGenerator;
+import com.yoidukigembu.sql.update.Update;
+import com.yoidukigembu.sql.util.SqlUtil;
+import com.yoidukigembu.sql.where.Where;
+
+public class UpdateImpl<T> implements Update<T> {
+
+	/** エンティティクラス */
+	private final Class<T> entityClass;
+
+	/** テーブル情報 */
+	private final TableMeta tableMeta;
+
+	/** 更新するカラムリスト */
+	private final List<String> columnList = new ArrayList<>();
+
+	/** 更新する値リスト (カラムリストと同じ順) */
+	private final List<Object> valueList = new ArrayList<>();
+
+	/** 検索条件 */
+	private Optional<Where> where = Optional.empty();
+
+	/** ダイアレクト (未指定の場合はデフォルト) */
+	private Optional<Dialect> dialect = Optional.empty();
+
+	public UpdateImpl(Class<T> entityClass, TableMeta tableMeta) {
+		this.entityClass = entityClass;
+		this.tableMeta = tableMeta;
+	}
+
+	@Override
+	public Update<T> set(String column, Object value) {
+		ColumnMeta meta = tableMeta.getColumn(column).orElseThrow(() ->
+				new EntityException(String.format("column is not present. table:[%s] column:[%s]",
+						tableMeta.getQualifiedName(), column)));
+		columnList.add(meta.getColumnName());
+		valueList.add(value);
+		return this;
+	}
+
+	@Override
+	public Update<T> where(Where where) {
+		this.where = Optional.ofNullable(where);
+		return this;
+	}
+
+	@Override
+	public Update<T> dialect(Dialect dialect) {
+		this.dialect = Optional.ofNullable(dialect);
+		return this;
+	}
+
+	/**
+	 * ダイアレクトを取得
+	 * @return 未指定の場合はデフォルト
+	 */
+	private Dialect getDialect() {
+		return dialect.orElseGet(Dialect::getDefault);
+	}
+
+	@Override
+	public <RESULT> RESULT generate(QueryGenerator<RESULT> generator) {
+		List<Object> params = new ArrayList<>();
+		StringBuilder sql = new StringBuilder(128);
+		addSet(sql, params);
+
+		where.ifPresent(w -> {
+			sql.append(" WHERE ");
+			w.appendTo(sql, params, getDialect());
+		});
+
+		return generator.generate(sql.toString(), params);
+	}
+
+	@Override
+	public int execute(JdbcSession session) {
+		try {
+			return Update.super.execute(session);
+		} finally {
+			ResultCache.getDefault().invalidate(tableMeta.getQualifiedName());
+		}
+	}
+
+	@Override
+	public int executeInChunks(DataSource dataSource, int chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be greater than 0. chunkSize:" + chunkSize);
+		}
+
+		ColumnMeta id = idColumn();
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			int count = 0;
+			Optional<Object> last = Optional.empty();
+			while (true) {
+				Select<T> select = Select.from(entityClass)
+						.columns(id.getColumnName())
+						.orderBy(new OrderBy(id.getColumnName()))
+						.limit(chunkSize)
+						.dialect(getDialect());
+				where.ifPresent(select::where);
+				last.ifPresent(select::after);
+
+				// 内部の主キーの取得は結果キャッシュを使わない (更新で無効になるため保持しても参照されない)
+				List<Object> ids = select.generate((sql, params) -> 
+						QueryExecutor.list(session, sql, params, (rs, rowNum) -> rs.getObject(1)));
+				if (ids.isEmpty()) {
+					return count;
+				}
+
+				List<Object> params = new ArrayList<>(valueList.size() + ids.size() + 8);
+				StringBuilder sql = new StringBuilder(128 + ids.size() * 3);
+				addSet(sql, params);
+				sql.append(" WHERE ");
+				where.ifPresent(w -> w.appendAndTo(sql, params, getDialect()));
+				sql.append(id.getColumnName())
+					.append(" IN (");
+				SqlUtil.appendQuestions(sql, ids.size())
+					.append(')');
+				params.addAll(ids);
+
+				count += QueryExecutor.update(session, sql.toString(), params);
+				session.commit();
+
+				if (ids.size() < chunkSize) {
+					return count;
+				}
+				last = Optional.of(ids.get(ids.size() - 1));
+			}
+		} finally {
+			ResultCache.getDefault().invalidate(tableMeta.getQualifiedName());
+		}
+	}
+
+	/**
+	 * UPDATE テーブル SET カラム = ?, ... の追加
+	 */
+	private void addSet(StringBuilder sql, List<Object> params) {
+		if (columnList.isEmpty()) {
+			throw new EntityException(String.format("update column is not specified. table:[%s]",
+					tableMeta.getQualifiedName()));
+		}
+
+		sql.append("UPDATE ")
+			.append(tableMeta.getQualifiedName())
+			.append(" SET ");
+		for (int i = 0; i < columnList.size(); i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(columnList.get(i))
+				.append(" = ?");
+		}
+		params.addAll(valueList);
+	}
+
+	private ColumnMeta idColumn() {
+		List<ColumnMeta> idList = tableMeta.getIdList();
+		if (idList.size() != 1) {
+			throw new EntityException(String.format("keyset chunking requires exactly one @Id column. class:[%s]",
+					entityClass.getName()));
+		}
+		return idList.get(0);
+	}
+}
@@ -2,11 +2,11 @@ package com.yoidukigembu.sql.util;
 
 import java.util.Collection;
 import java.util.Optional;
-import java.util.stream.IntStream;
-
-import org.apache.commons.lang3.StringUtils;
 
 public class SqlUtil {
+	
+	/** プレースホルダの区切り */
+	private static final String QUESTION_DELIMITER = ", ";
 
 	private SqlUtil() {}
 	
@@ -17,15 +17,44 @@ public class SqlUtil {
 	 * @return  エイリアスがついた名称
 	 */
 	public static String alias(Optional<String> alias, String name) {
-		return alias.map(a -> String.format("%s.%s", a, name))
-					.orElse(name);
+		return alias.isPresent() ? alias.get().concat(".").concat(name) : name;
+	}
+	
+	/**
+	 * エイリアスがついた名称を追加
+	 * @param sb 追加先
+	 * @param alias エイリアス (null可)
+	 * @param name カラム、テーブル等の名前
+	 * @return 追加先
+	 */
+	public static StringBuilder appendAlias(StringBuilder sb, String alias, String name) {
+		if (alias != null) {
+			sb.append(alias).append('.');
+		}
+		return sb.append(name);
 	}
 	
 	public static String createQuestions(Collection<?> col) {
-		return StringUtils.join(
-				IntStream.rangeClosed(1, col.size())
-				.boxed()
-				.map(i -> "?").iterator(), 
-				", ");
+		int size = col.size();
+		if (size == 0) {
+			return "";
+		}
+		return appendQuestions(new StringBuilder(size * 3), size).toString();
+	}
+	
+	/**
+	 * プレースホルダを追加 (?, ?, ...)
+	 * @param sb 追加先
+	 * @param count プレースホルダの数
+	 * @return 追加先
+	 */
+	public static StringBuilder appendQuestions(StringBuilder sb, int count) {
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				sb.append(QUESTION_DELIMITER);
+			}
+			sb.append('?');
+		}
+		return sb;
 	}
 }
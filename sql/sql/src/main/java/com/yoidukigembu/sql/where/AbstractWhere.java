@@ -1,9 +1,59 @@
 package com.yoidukigembu.sql.where;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.cache.QueryTemplateCache;
+import com.yoidukigembu.sql.dialect.Dialect;
+import com.yoidukigembu.sql.enums.QueryKind;
+import com.yoidukigembu.sql.exception.WhereException;
+import com.yoidukigembu.sql.jfr.QueryEvents;
+import com.yoidukigembu.sql.jdbc.ParameterSink;
+import com.yoidukigembu.sql.jdbc.SqlArray;
+import com.yoidukigembu.sql.where.enums.WhereDelimiter;
 import com.yoidukigembu.sql.where.enums.WhereType;
 
+/**
+ * Whereの共通実装<br>
+ * 条件ホルダリストからのSQL文の生成を行う。条件の保持方法は実装クラスで決める。
+ *
+ */
 abstract class AbstractWhere implements Where {
 
+	/** 条件1つあたりのおおよその文字数 (StringBuilder の初期容量) */
+	private static final int ESTIMATED_QUERY_LENGTH = 24;
+	
+	/** 配列をバインドする IN の形状 */
+	private static final String ARRAY_SHAPE = "ANY";
+
+	/**
+	 * IN の分割方法を取得
+	 * @return 未指定の場合はデフォルト
+	 */
+	public abstract InChunking getChunking();
+
+	/**
+	 * SQL文の生成前に {@link WhereOptimizer} で最適化するかどうか
+	 */
+	public abstract boolean isOptimize();
+	
+	/**
+	 * SQL文の生成に使う条件ホルダリストを取得
+	 * @return 最適化する場合は最適化した条件ホルダリスト
+	 */
+	protected List<WhereHolder> renderHolderList() {
+		return isOptimize() ? WhereOptimizer.optimize(getHolderList()) : getHolderList();
+	}
+	
+	/**
+	 * 条件ホルダリストを差し替えた同じ種類のWHEREを作成
+	 * @param holderList 条件ホルダリスト
+	 */
+	protected abstract Where withHolders(List<WhereHolder> holderList);
+
 	/**
 	 * パラメータの変換
 	 * @param type Whereタイプ
@@ -11,15 +61,465 @@ abstract class AbstractWhere implements Where {
 	 * @return 変換されたオブジェクト
 	 */
 	protected Object convertParam(WhereType type, Object obj) {
-		switch (type) {
-		case BEGIN_WITH:
-			return String.format("%s%%", obj);
-		case ENDS_WITH:
-			return String.format("%%%s", obj);
-		case CONTAINS:
-			return String.format("%%%s%%", obj);
+		if (obj instanceof Param) {
+			// 値の変換は bind 時に行う
+			return ((Param) obj).withType(type);
+		}
+		return type.convertParam(obj);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.yoidukigembu.sql.where.Where#build(com.yoidukigembu.sql.dialect.Dialect, com.yoidukigembu.sql.where.Where.Consumer)
+	 */
+	@Override
+	public void build(Dialect dialect, Consumer consumer) {
+		Object event = QueryEvents.beginBuild();
+		// 最適化は生成ごとに1回だけ行う
+		List<WhereHolder> holderList = renderHolderList();
+		List<Object> params;
+		String where;
+		QueryTemplateCache cache = QueryTemplateCache.getDefault();
+		if (cache.isEnabled()) {
+			QueryShape shape = createShape(holderList, dialect);
+			QueryTemplateCache.Template template = cache.getTemplate(shape);
+			if (template == null) {
+				params = new ParameterSink();
+				where = render(holderList, params, dialect);
+				cache.put(shape, where, params.size());
+			} else {
+				// 同じ形状の前回の値の数で初期容量を決める
+				params = new ParameterSink(template.paramCapacity(holderList.size()));
+				where = template.getSql();
+				collectParams(holderList, params, dialect);
+			}
+		} else {
+			params = new ParameterSink();
+			where = render(holderList, params, dialect);
+		}
+		
+		if (event != null) {
+			QueryEvents.commitBuild(event, QueryKind.WHERE, shape(), where.length(), params.size());
+		}
+		consumer.consume(where, params);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see com.yoidukigembu.sql.where.Where#appendShape(java.util.List, com.yoidukigembu.sql.dialect.Dialect)
+	 */
+	@Override
+	public void appendShape(List<Object> parts, Dialect dialect) {
+		appendShape(renderHolderList(), parts, dialect);
+	}
+	
+	/**
+	 * 値を除いた条件の構造をリストに追加
+	 * @param holderList SQL文の生成に使う条件ホルダリスト
+	 * @param parts 形状の要素リスト
+	 * @param dialect ダイアレクト
+	 */
+	private void appendShape(List<WhereHolder> holderList, List<Object> parts, Dialect dialect) {
+		for (WhereHolder holder : holderList) {
+			parts.add(holder.getDelimiter());
+			parts.add(holder.getType());
+			parts.add(holder.getAliasName());
+			parts.add(holder.getColumn());
+			
+			switch (holder.getType()) {
+			case IN:
+			case NOT_IN:
+				if (toArray(holder, dialect) != null) {
+					parts.add(ARRAY_SHAPE);
+				} else {
+					appendChunkShape(holder, parts);
+				}
+				break;
+			default:
+				break;
+			}
+		}
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see com.yoidukigembu.sql.where.Where#collectParams(java.util.List, com.yoidukigembu.sql.dialect.Dialect)
+	 */
+	@Override
+	public void collectParams(List<Object> params, Dialect dialect) {
+		collectParams(renderHolderList(), params, dialect);
+	}
+	
+	/**
+	 * 値のみをリストに追加
+	 * @param holderList SQL文の生成に使う条件ホルダリスト
+	 * @param params 値リスト
+	 * @param dialect ダイアレクト
+	 */
+	private void collectParams(List<WhereHolder> holderList, List<Object> params, Dialect dialect) {
+		for (WhereHolder holder : holderList) {
+			switch (holder.getType()) {
+			case IS_NOT_NULL:
+			case IS_NULL:
+				break;
+				
+			case IN:
+			case NOT_IN:
+				SqlArray array = toArray(holder, dialect);
+				if (array != null) {
+					params.add(array);
+					break;
+				}
+				for (List<?> chunk : chunk(getMultiValue(holder))) {
+					addMultiValue(holder, chunk, params);
+				}
+				break;
+				
+			default:
+				addSingleValue(holder, params);
+				break;
+			}
+		}
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see com.yoidukigembu.sql.where.Where#split()
+	 */
+	@Override
+	public List<Where> split() {
+		InChunking chunking = getChunking();
+		if (chunking.getStrategy() != InChunking.Strategy.SPLIT_STATEMENTS) {
+			return Collections.singletonList(this);
+		}
+		
+		List<WhereHolder> holderList = renderHolderList();
+		int target = -1;
+		for (int i = 0; i < holderList.size(); i++) {
+			WhereHolder holder = holderList.get(i);
+			if (i > 0 && holder.getDelimiter() != WhereDelimiter.AND) {
+				// OR 条件があると分割した結果の和集合が元の結果と一致しない
+				return Collections.singletonList(this);
+			}
+			
+			if (target < 0 
+					&& holder.getType() == WhereType.IN
+					&& holder.getParamValue() instanceof Collection
+					&& ((Collection<?>) holder.getParamValue()).size() > chunking.getMaxSize()) {
+				target = i;
+			}
+		}
+		
+		if (target < 0) {
+			return Collections.singletonList(this);
+		}
+		
+		WhereHolder holder = holderList.get(target);
+		List<Where> whereList = new ArrayList<>();
+		for (List<?> chunk : chunk((Collection<?>) holder.getParamValue())) {
+			List<WhereHolder> chunkHolderList = new ArrayList<>(holderList);
+			chunkHolderList.set(target, new WhereHolder(holder.getDelimiter(),
+					holder.getAliasName(),
+					holder.getColumn(),
+					holder.getType(),
+					chunk,
+					holder.getSpecifiedBucketing()));
+			whereList.add(withHolders(chunkHolderList));
+		}
+		return whereList;
+	}
+	
+	/**
+	 * 形状の作成
+	 * @param holderList SQL文の生成に使う条件ホルダリスト
+	 * @param dialect ダイアレクト
+	 */
+	private QueryShape createShape(List<WhereHolder> holderList, Dialect dialect) {
+		List<Object> parts = new ArrayList<>();
+		parts.add("WHERE");
+		parts.add(dialect);
+		appendShape(holderList, parts, dialect);
+		return new QueryShape(parts);
+	}
+	
+	/**
+	 * WHERE文の生成
+	 * @param holderList SQL文の生成に使う条件ホルダリスト
+	 * @param params 値リスト
+	 * @param dialect ダイアレクト
+	 * @return WHERE文
+	 */
+	private String render(List<WhereHolder> holderList, List<Object> params, Dialect dialect) {
+		StringBuilder where = new StringBuilder(holderList.size() * ESTIMATED_QUERY_LENGTH);
+		appendTo(holderList, where, params, dialect);
+		return where.toString();
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see com.yoidukigembu.sql.where.Where#appendTo(java.lang.StringBuilder, java.util.List, com.yoidukigembu.sql.dialect.Dialect)
+	 */
+	@Override
+	public void appendTo(StringBuilder where, List<Object> params, Dialect dialect) {
+		appendTo(renderHolderList(), where, params, dialect);
+	}
+	
+	/**
+	 * WHERE文を追加
+	 * @param holderList SQL文の生成に使う条件ホルダリスト
+	 * @param where 追加先
+	 * @param params 値リスト
+	 * @param dialect ダイアレクト
+	 */
+	private void appendTo(List<WhereHolder> holderList, StringBuilder where, List<Object> params, Dialect dialect) {
+		boolean addFlg = false;
+		
+		for (WhereHolder holder : holderList) {
+			if (addFlg) {
+				where.append(holder.getDelimiter().getValue())
+					.append(' ');
+			}
+			
+			addQuery(holder, where, params, dialect);
+			where.append(' ');
+			addFlg = true;
+		}
+	}
+	
+	
+	/**
+	 * クエリの追加
+	 * @param holder WHERE条件ホルダ
+	 * @param where WHERE文
+	 * @param params 値リスト
+	 * @param dialect ダイアレクト
+	 */
+	private void addQuery(WhereHolder holder, StringBuilder where, List<Object> params, Dialect dialect) {
+		switch (holder.getType()) {
+		case IS_NOT_NULL:
+		case IS_NULL:
+			addNoValueQuery(holder, where);
+			return;
+		
+		case IN:
+		case NOT_IN:
+			addMultiValueQuery(holder, where, params, dialect);
+			return;
+
 		default:
-			return obj;
+			addSingleValueQuery(holder, where, params);
+			return;
+		}
+	}
+	
+	/**
+	 * IS NULL など値を指定しないクエリを追加
+	 * @param holder WHERE条件ホルダ
+	 * @param where WHERE文
+	 */
+	private void addNoValueQuery(WhereHolder holder, StringBuilder where) {
+		holder.getType().appendQuery(where, holder.getAliasName(), holder.getColumn());
+	}
+	
+	/**
+	 * IN / NOT IN など、値を複数指定するクエリを追加
+	 * @param holder WHERE条件ホルダ
+	 * @param where WHERE文
+	 * @param params 値リスト
+	 * @param dialect ダイアレクト
+	 */
+	private void addMultiValueQuery(WhereHolder holder, StringBuilder where, List<Object> params, Dialect dialect) {
+		SqlArray array = toArray(holder, dialect);
+		if (array != null) {
+			dialect.appendArrayIn(where, holder.getType(), holder.getAliasName(), holder.getColumn());
+			params.add(array);
+			return;
+		}
+		
+		List<List<?>> chunkList = chunk(getMultiValue(holder));
+		if (chunkList.size() == 1) {
+			int count = addMultiValue(holder, chunkList.get(0), params);
+			holder.getType().appendQuery(where, holder.getAliasName(), holder.getColumn(), count);
+			return;
+		}
+		
+		// IN は OR、NOT IN は AND でつなぐ
+		String joint = holder.getType() == WhereType.IN ? " OR " : " AND ";
+		where.append('(');
+		int index = 0;
+		for (List<?> chunk : chunkList) {
+			if (index++ > 0) {
+				where.append(joint);
+			}
+			int count = addMultiValue(holder, chunk, params);
+			holder.getType().appendQuery(where, holder.getAliasName(), holder.getColumn(), count);
+		}
+		where.append(')');
+	}
+	
+	/**
+	 * IN / NOT IN の値を配列に変換<br>
+	 * ダイアレクトが配列に対応し、値がすべて配列にできる同じ型の場合のみ変換する。
+	 * @param holder WHERE条件ホルダ
+	 * @param dialect ダイアレクト
+	 * @return 配列。変換しない場合は null
+	 */
+	private SqlArray toArray(WhereHolder holder, Dialect dialect) {
+		if (!dialect.supportsArrayIn()) {
+			return null;
+		}
+		
+		Collection<?> values = getMultiValue(holder);
+		if (values instanceof PrimitiveValues) {
+			String typeName = dialect.arrayTypeName(((PrimitiveValues) values).getElementType());
+			return typeName == null ? null : new SqlArray(typeName, values);
+		}
+		
+		Class<?> type = null;
+		for (Object value : values) {
+			if (value == null) {
+				continue;
+			}
+			if (type == null) {
+				type = value.getClass();
+			} else if (type != value.getClass()) {
+				return null;
+			}
+		}
+		
+		String typeName = type == null ? null : dialect.arrayTypeName(type);
+		return typeName == null ? null : new SqlArray(typeName, values);
+	}
+	
+	/**
+	 * 複数指定の値を上限ごとに分割
+	 * @param values 値
+	 * @return 分割した値のリスト
+	 */
+	private List<List<?>> chunk(Collection<?> values) {
+		List<?> list = values instanceof List ? (List<?>) values : new ArrayList<>(values);
+		int max = getChunking().getMaxSize();
+		if (list.size() <= max) {
+			return Collections.singletonList(list);
+		}
+		
+		List<List<?>> chunkList = new ArrayList<>((list.size() + max - 1) / max);
+		for (int from = 0; from < list.size(); from += max) {
+			chunkList.add(list.subList(from, Math.min(from + max, list.size())));
+		}
+		return chunkList;
+	}
+	
+	/**
+	 * 複数指定の形状を追加 (分割数と、分割ごとのプレースホルダ数)
+	 * @param holder WHERE条件ホルダ
+	 * @param parts 形状の要素リスト
+	 */
+	private void appendChunkShape(WhereHolder holder, List<Object> parts) {
+		Object param = holder.getParamValue();
+		if (!(param instanceof Collection) || ((Collection<?>) param).isEmpty()) {
+			parts.add(0);
+			return;
+		}
+		
+		int size = ((Collection<?>) param).size();
+		int max = getChunking().getMaxSize();
+		parts.add((size + max - 1) / max);
+		for (int from = 0; from < size; from += max) {
+			parts.add(bucketSize(holder, Math.min(max, size - from)));
+		}
+	}
+	
+	/**
+	 * プレースホルダ数を取得 (分割の上限を超えない)
+	 * @param holder WHERE条件ホルダ
+	 * @param size 値の数
+	 */
+	private int bucketSize(WhereHolder holder, int size) {
+		return Math.max(size, Math.min(holder.getBucketing().bucketSize(size), getChunking().getMaxSize()));
+	}
+	
+	/**
+	 * 複数指定の値を追加<br>
+	 * バケットサイズに満たない分は最後の値を繰り返す。
+	 * @param holder WHERE条件ホルダ
+	 * @param values 値
+	 * @param params 値リスト
+	 * @return 追加した値の数 (プレースホルダ数)
+	 */
+	private int addMultiValue(WhereHolder holder, Collection<?> values, List<Object> params) {
+		if (values instanceof PrimitiveValues && params instanceof ParameterSink) {
+			((PrimitiveValues) values).addTo((ParameterSink) params);
+		} else {
+			params.addAll(values);
+		}
+		
+		int size = values.size();
+		int count = bucketSize(holder, size);
+		if (count > size) {
+			Object last = params.get(params.size() - 1);
+			for (int i = size; i < count; i++) {
+				params.add(last);
+			}
+		}
+		return count;
+	}
+	
+	
+	/**
+	 * 単体の検索条件を追加 (=, != など)
+	 * @param holder WHERE条件ホルダ
+	 * @param where WHERE文
+	 * @param params 値リスト
+	 */
+	private void addSingleValueQuery(WhereHolder holder, StringBuilder where, List<Object> params) {
+		holder.getType().appendQuery(where, holder.getAliasName(), holder.getColumn());
+		addSingleValue(holder, params);
+	}
+	
+	/**
+	 * 単体指定の値を追加<br>
+	 * long / int で指定された値は、値リストが {@link ParameterSink} の場合ボクシングせずに追加する。
+	 * @param holder WHERE条件ホルダ
+	 * @param params 値リスト
+	 */
+	private void addSingleValue(WhereHolder holder, List<Object> params) {
+		if (holder.isPrimitive() && params instanceof ParameterSink && !holder.getType().convertsParam()) {
+			holder.addPrimitiveTo((ParameterSink) params);
+			return;
+		}
+		params.add(convertParam(holder.getType(), getSingleValue(holder)));
+	}
+	
+	/**
+	 * 複数指定の値を取得
+	 * @param holder WHERE条件ホルダ
+	 * @return 値
+	 */
+	private Collection<?> getMultiValue(WhereHolder holder) {
+		Object param = holder.getParamValue();
+		if (param instanceof Param) {
+			throw new WhereException(String.format("param is not supported. query:[%s]", 
+					String.format(holder.getType().getQueryFormat(), holder.getAliasColumn(), param)));
+		}
+		if (param == null || ((Collection<?>) param).isEmpty()) {
+			throw new WhereException(String.format("value must not be EMPTY. query:[%s]", 
+					String.format(holder.getType().getQueryFormat(), holder.getAliasColumn(), "")));
+		}
+		return (Collection<?>) param;
+	}
+	
+	/**
+	 * 単体指定の値を取得
+	 * @param holder WHERE条件ホルダ
+	 * @return 値
+	 */
+	private Object getSingleValue(WhereHolder holder) {
+		Object param = holder.getParamValue();
+		if (param == null) {
+			throw new WhereException(String.format("value must not be NULL. query:[%s]", 
+					String.format(holder.getType().getQueryFormat(), holder.getAliasColumn())));
 		}
+		return param;
 	}
 }
@@ -1,11 +1,11 @@
 package com.yoidukigembu.sql.where;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.RandomAccess;
 
-import com.yoidukigembu.sql.exception.WhereException;
-import com.yoidukigembu.sql.util.SqlUtil;
+import com.yoidukigembu.sql.cache.QueryShape;
 
 /**
  * Whereの実装クラス
@@ -13,13 +13,88 @@ import com.yoidukigembu.sql.util.SqlUtil;
  * @author hilo
  *
  */
-public class BasicWhere extends AbstractWhere implements Where {
+public class BasicWhere extends AbstractWhere {
 
-	/** 条件ホルダリスト */
-	private final List<Where.WhereHolder> holderList;
+	/** 条件ホルダリスト (末尾への追加以外の変更を検知する) */
+	private final HolderList holderList;
+	
+	/** IN の分割方法 (null の場合はデフォルト) */
+	private InChunking chunking;
+	
+	/** 最適化するか (null の場合はデフォルト) */
+	private Boolean optimize;
+	
+	/** 形状 (条件の追加ごとに要素を足す) */
+	private QueryShape.Builder shapeBuilder;
+	
+	/** 形状に追加済みの条件の数 */
+	private int shapeCount;
+	
+	/** 作成済みの形状 (条件が変更された場合は null) */
+	private QueryShape shape;
 
 	public BasicWhere() {
-		this.holderList = new ArrayList<>();
+		this.holderList = new HolderList(new ArrayList<>());
+	}
+	
+	/**
+	 * @param holderList 条件ホルダリスト (コピーして保持する)
+	 */
+	private BasicWhere(List<Where.WhereHolder> holderList, InChunking chunking, Boolean optimize) {
+		this.holderList = new HolderList(new ArrayList<>(holderList));
+		this.chunking = chunking;
+		this.optimize = optimize;
+	}
+	
+	/**
+	 * IN の分割方法を指定
+	 * @param chunking 分割方法 (nullの場合はデフォルト)
+	 * @return 自身
+	 */
+	public BasicWhere chunking(InChunking chunking) {
+		this.chunking = chunking;
+		return this;
+	}
+	
+	/**
+	 * IN の分割方法を取得
+	 * @return 未指定の場合はデフォルト
+	 */
+	@Override
+	public InChunking getChunking() {
+		return chunking == null ? InChunking.getDefault() : chunking;
+	}
+	
+	/**
+	 * SQL文の生成前に最適化するかを指定
+	 * @param optimize 最適化する場合は true
+	 * @return 自身
+	 * @see WhereOptimizer
+	 */
+	public BasicWhere optimize(boolean optimize) {
+		this.optimize = optimize;
+		return this;
+	}
+	
+	@Override
+	public boolean isOptimize() {
+		return optimize == null ? WhereOptimizer.isEnabledByDefault() : optimize;
+	}
+	
+	/**
+	 * 指定された最適化の有無を取得
+	 * @return 未指定の場合は null
+	 */
+	Boolean getSpecifiedOptimize() {
+		return optimize;
+	}
+	
+	/**
+	 * 指定された IN の分割方法を取得
+	 * @return 未指定の場合は null
+	 */
+	InChunking getSpecifiedChunking() {
+		return chunking;
 	}
 
 	/*
@@ -30,101 +105,101 @@ public class BasicWhere extends AbstractWhere implements Where {
 	public List<Where.WhereHolder> getHolderList() {
 		return holderList;
 	}
-
-	/*
-	 * (non-Javadoc)
-	 * @see com.yoidukigembu.sql.where.Where#build(com.yoidukigembu.sql.where.Where.Consumer)
+	
+	/**
+	 * 形状を取得<br>
+	 * 前回の取得以降に末尾へ追加された条件のみを形状に足す。
+	 * 条件ホルダリストに追加以外の変更 (set / remove / clear など、イテレータやサブリストからの変更を含む) があった場合は作り直す。
 	 */
 	@Override
-	public void build(Consumer consumer) {
-		
-		boolean addFlg = false;
+	public QueryShape shape() {
+		int size = holderList.size();
+		if (shapeBuilder == null || holderList.modified) {
+			shapeBuilder = new QueryShape.Builder(Math.max(size, 4) * WhereHolder.SHAPE_PARTS);
+			shapeCount = 0;
+			shape = null;
+			holderList.modified = false;
+		}
 		
-		StringBuilder where = new StringBuilder("");
-		List<Object> params = new ArrayList<>();
-		for (WhereHolder holder : holderList) {
-			if (addFlg) {
-				where.append(holder.getDelimiter().getValue())
-					.append(" ");
+		if (shapeCount < size) {
+			for (; shapeCount < size; shapeCount++) {
+				holderList.get(shapeCount).appendShape(shapeBuilder);
 			}
-			
-			addQuery(holder, where, params);
-			where.append(" ");
-			addFlg = true;
+			shape = null;
 		}
 		
-		consumer.consume(where.toString(), params);
+		if (shape == null) {
+			shape = shapeBuilder.build();
+		}
+		return shape;
 	}
 	
-	
-	/**
-	 * クエリの追加
-	 * @param holder WHERE条件ホルダ
-	 * @param where WHERE文
-	 * @param params 値リスト
+	/*
+	 * (non-Javadoc)
+	 * @see com.yoidukigembu.sql.where.AbstractWhere#withHolders(java.util.List)
 	 */
-	private void addQuery(WhereHolder holder, StringBuilder where, List<Object> params) {
-		switch (holder.getType()) {
-		case IS_NOT_NULL:
-		case IS_NULL:
-			addNoValueQuery(holder, where);
-			return;
-		
-		case IN:
-		case NOT_IN:
-			addMultiValueQuery(holder, where, params);
-			return;
-
-		default:
-			addSingleValueQuery(holder, where, params);
-			return;
-		}
+	@Override
+	protected Where withHolders(List<Where.WhereHolder> holderList) {
+		return new BasicWhere(holderList, this.chunking, this.optimize);
 	}
 	
 	/**
-	 * IS NULL など値を指定しないクエリを追加
-	 * @param holder WHERE条件ホルダ
-	 * @param where WHERE文
+	 * SQL文の生成に使うWHEREを取得<br>
+	 * 最適化する場合は、最適化した条件ホルダリストを持つ最適化しないWHEREを作成する。
 	 */
-	private void addNoValueQuery(WhereHolder holder, StringBuilder where) {
-		String query = String.format(holder.getType().getQueryFormat(), holder.getAliasColumn());
-		where.append(query);
+	@Override
+	public Where forRender() {
+		return isOptimize() ? new BasicWhere(renderHolderList(), this.chunking, Boolean.FALSE) : this;
 	}
 	
 	/**
-	 * IN / NOT IN など、値を複数指定するクエリを追加
-	 * @param holder WHERE条件ホルダ
-	 * @param where WHERE文
-	 * @param params 値リスト
+	 * 条件ホルダリスト<br>
+	 * 変更は {@link #add(int, WhereHolder)} / {@link #set(int, WhereHolder)} / {@link #remove(int)} に集まるため、
+	 * 末尾への追加以外の変更があった場合に {@link #modified} を立てる。
 	 */
-	private void addMultiValueQuery(WhereHolder holder, StringBuilder where, List<Object> params) {
-		Collection<?> values =  holder.getParam()
-								.map(p -> (Collection<?>) p)
-								.filter(p -> !p.isEmpty())
-								.orElseThrow(() -> 
-								new WhereException(String.format("value must not be EMPTY. query:[%s]", String.format(holder.getType().getQueryFormat(), holder.getAliasColumn(), ""))));
+	private static final class HolderList extends AbstractList<WhereHolder> implements RandomAccess {
 		
+		/** 条件ホルダ */
+		private final List<WhereHolder> list;
 		
-		String questions = SqlUtil.createQuestions(values);
-		where.append(String.format(holder.getType().getQueryFormat(), holder.getAliasColumn(), questions));
-		params.addAll(values);
-	}
-	
-	
-	/**
-	 * 単体の検索条件を追加 (=, != など)
-	 * @param holder WHERE条件ホルダ
-	 * @param where WHERE文
-	 * @param params 値リスト
-	 */
-	private void addSingleValueQuery(WhereHolder holder, StringBuilder where, List<Object> params) {
-		String query = String.format(holder.getType().getQueryFormat(), holder.getAliasColumn());
-		Object value = holder.getParam()
-						.orElseThrow(() -> new WhereException(String.format("value must not be NULL. query:[%s]", query)));
+		/** 形状の作成以降に末尾への追加以外の変更があったか */
+		private boolean modified;
 		
-		where.append(query);
-		params.add(convertParam(holder.getType(), value));
+		private HolderList(List<WhereHolder> list) {
+			this.list = list;
+		}
+		
+		@Override
+		public WhereHolder get(int index) {
+			return list.get(index);
+		}
+		
+		@Override
+		public int size() {
+			return list.size();
+		}
+		
+		@Override
+		public void add(int index, WhereHolder holder) {
+			if (index != list.size()) {
+				modified = true;
+			}
+			list.add(index, holder);
+			modCount++;
+		}
+		
+		@Override
+		public WhereHolder set(int index, WhereHolder holder) {
+			modified = true;
+			return list.set(index, holder);
+		}
+		
+		@Override
+		public WhereHolder remove(int index) {
+			modified = true;
+			modCount++;
+			return list.remove(index);
+		}
 	}
 
-
 }
@@ -0,0 +1,199 @@
+package com.yoidukigembu.sql.where;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.yoidukigembu.sql.cache.QueryShape;
+
+/**
+ * 不変なWhere<br>
+ * 条件を追加するメソッドは自身を変更せず、条件を追加した新しいインスタンスを返す。
+ * 条件は末尾から前の条件をたどる連結リストで保持し、元のインスタンスと共有するため、
+ * 条件の追加はコピーを伴わない。<br>
+ * スレッドセーフのため、共通の条件を static final で定義し、リクエストごとに条件を追加して使える。
+ *
+ */
+public final class ImmutableWhere extends AbstractWhere {
+
+	/** 条件のないWHERE */
+	private static final ImmutableWhere EMPTY = new ImmutableWhere(null, 0, null, null);
+
+	/** 最後の条件 (条件がない場合は null) */
+	private final Node last;
+
+	/** 条件の数 */
+	private final int size;
+
+	/** IN の分割方法 (null の場合はデフォルト) */
+	private final InChunking chunking;
+
+	/** 最適化するか (null の場合はデフォルト) */
+	private final Boolean optimize;
+	
+	/** 条件ホルダリスト (初回の取得時に作成) */
+	private volatile List<WhereHolder> holderList;
+	
+	/** 形状 (初回の取得時に作成) */
+	private volatile QueryShape shape;
+	
+	/** 最適化した条件ホルダリスト (初回の生成時に作成) */
+	private volatile List<WhereHolder> optimizedList;
+
+	private ImmutableWhere(Node last, int size, InChunking chunking, Boolean optimize) {
+		this.last = last;
+		this.size = size;
+		this.chunking = chunking;
+		this.optimize = optimize;
+	}
+
+	/**
+	 * 条件のないWHEREを取得
+	 */
+	public static ImmutableWhere empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * WHEREの条件と分割方法をコピーして作成
+	 * @param where コピー元
+	 * @return 不変なWHERE (コピー元が不変な場合はそのまま)
+	 */
+	public static ImmutableWhere of(Where where) {
+		if (where instanceof ImmutableWhere) {
+			return (ImmutableWhere) where;
+		}
+
+		if (where instanceof BasicWhere) {
+			BasicWhere basic = (BasicWhere) where;
+			return new ImmutableWhere(null, 0, basic.getSpecifiedChunking(), basic.getSpecifiedOptimize())
+					.withHolders(where.getHolderList());
+		}
+		return EMPTY.withHolders(where.getHolderList());
+	}
+
+	/**
+	 * IN の分割方法を指定した新しいインスタンスを作成
+	 * @param chunking 分割方法 (nullの場合はデフォルト)
+	 */
+	public ImmutableWhere chunking(InChunking chunking) {
+		return new ImmutableWhere(last, size, chunking, optimize);
+	}
+	
+	/**
+	 * SQL文の生成前に最適化するかを指定した新しいインスタンスを作成
+	 * @param optimize 最適化する場合は true
+	 * @see WhereOptimizer
+	 */
+	public ImmutableWhere optimize(boolean optimize) {
+		return new ImmutableWhere(last, size, chunking, optimize);
+	}
+	
+	@Override
+	public boolean isOptimize() {
+		return optimize == null ? WhereOptimizer.isEnabledByDefault() : optimize;
+	}
+
+	@Override
+	public InChunking getChunking() {
+		return chunking == null ? InChunking.getDefault() : chunking;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.yoidukigembu.sql.where.Where#add(com.yoidukigembu.sql.where.Where.WhereHolder)
+	 */
+	@Override
+	public ImmutableWhere add(WhereHolder holder) {
+		if (holder.getParamValue() instanceof Collection && !(holder.getParamValue() instanceof PrimitiveValues)) {
+			// IN の値は呼び出し元で変更されないようにコピーする
+			holder = new WhereHolder(holder.getDelimiter(),
+					holder.getAliasName(),
+					holder.getColumn(),
+					holder.getType(),
+					Collections.unmodifiableList(new ArrayList<>((Collection<?>) holder.getParamValue())),
+					holder.getSpecifiedBucketing());
+		}
+		return new ImmutableWhere(new Node(holder, last), size + 1, chunking, optimize);
+	}
+
+	/**
+	 * 条件ホルダリストを取得 (変更不可)
+	 */
+	@Override
+	public List<WhereHolder> getHolderList() {
+		List<WhereHolder> list = holderList;
+		if (list == null) {
+			WhereHolder[] array = new WhereHolder[size];
+			Node node = last;
+			for (int i = size - 1; i >= 0; i--) {
+				array[i] = node.holder;
+				node = node.previous;
+			}
+			list = Collections.unmodifiableList(Arrays.asList(array));
+			holderList = list;
+		}
+		return list;
+	}
+
+	/**
+	 * 形状を取得<br>
+	 * 不変のため、初回の取得時に作成したものを返す。
+	 */
+	@Override
+	public QueryShape shape() {
+		QueryShape s = shape;
+		if (s == null) {
+			s = super.shape();
+			shape = s;
+		}
+		return s;
+	}
+
+	/**
+	 * SQL文の生成に使う条件ホルダリストを取得<br>
+	 * 不変のため、最適化した条件ホルダリストは初回の生成時に作成したものを返す。
+	 * 最適化は1回のみのため、{@link #forRender()} は自身を返す。
+	 */
+	@Override
+	protected List<WhereHolder> renderHolderList() {
+		if (!isOptimize()) {
+			return getHolderList();
+		}
+		
+		List<WhereHolder> list = optimizedList;
+		if (list == null) {
+			list = Collections.unmodifiableList(WhereOptimizer.optimize(getHolderList()));
+			optimizedList = list;
+		}
+		return list;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see com.yoidukigembu.sql.where.AbstractWhere#withHolders(java.util.List)
+	 */
+	@Override
+	protected ImmutableWhere withHolders(List<WhereHolder> holderList) {
+		ImmutableWhere where = new ImmutableWhere(null, 0, chunking, optimize);
+		for (WhereHolder holder : holderList) {
+			where = where.add(holder);
+		}
+		return where;
+	}
+
+	/**
+	 * 条件の連結リストの要素
+	 */
+	private static final class Node {
+		private final WhereHolder holder;
+		private final Node previous;
+
+		private Node(WhereHolder holder, Node previous) {
+			this.holder = holder;
+			this.previous = previous;
+		}
+	}
+}
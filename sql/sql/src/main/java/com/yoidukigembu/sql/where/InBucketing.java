@@ -0,0 +1,96 @@
+package com.yoidukigembu.sql.where;
+
+import java.util.Arrays;
+
+/**
+ * IN / NOT IN のプレースホルダ数の丸め方<br>
+ * 値の数をバケットサイズまで切り上げ、不足分は最後の値を繰り返してバインドする。
+ * リストの長さが変わってもSQL文の種類が増えないため、ステートメントキャッシュが効きやすくなる。
+ *
+ */
+public final class InBucketing {
+	
+	/** 丸めない (値の数のまま) */
+	public static final InBucketing NONE = new InBucketing(null);
+	
+	/** 2の累乗に丸める (1, 2, 4, 8, ...) */
+	public static final InBucketing POWER_OF_TWO = new InBucketing(new int[0]);
+	
+	/** デフォルト */
+	private static volatile InBucketing defaultBucketing = NONE;
+	
+	/**
+	 * バケットサイズの段階 (昇順)<br>
+	 * null の場合は丸めない、空の場合は2の累乗
+	 */
+	private final int[] ladder;
+	
+	private InBucketing(int[] ladder) {
+		this.ladder = ladder;
+	}
+	
+	/**
+	 * 指定した段階に丸める<br>
+	 * 最大の段階を超える場合は、最大の段階の倍数に丸める。
+	 * @param sizes バケットサイズ
+	 */
+	public static InBucketing ladder(int... sizes) {
+		if (sizes.length == 0) {
+			throw new IllegalArgumentException("sizes must not be EMPTY.");
+		}
+		
+		int[] sorted = Arrays.stream(sizes).distinct().sorted().toArray();
+		if (sorted[0] < 1) {
+			throw new IllegalArgumentException(String.format("sizes must be positive. sizes:%s", Arrays.toString(sizes)));
+		}
+		return new InBucketing(sorted);
+	}
+	
+	/**
+	 * デフォルトを取得
+	 */
+	public static InBucketing getDefault() {
+		return defaultBucketing;
+	}
+	
+	/**
+	 * デフォルトを設定
+	 * @param bucketing 丸め方
+	 */
+	public static void setDefault(InBucketing bucketing) {
+		defaultBucketing = bucketing == null ? NONE : bucketing;
+	}
+	
+	/**
+	 * プレースホルダ数を取得
+	 * @param size 値の数
+	 * @return 丸めた後のプレースホルダ数
+	 */
+	public int bucketSize(int size) {
+		if (ladder == null || size <= 1) {
+			return size;
+		}
+		
+		if (ladder.length == 0) {
+			int bucket = Integer.highestOneBit(size - 1) << 1;
+			return bucket > 0 ? bucket : size;
+		}
+		
+		for (int step : ladder) {
+			if (size <= step) {
+				return step;
+			}
+		}
+		
+		int max = ladder[ladder.length - 1];
+		return ((size + max - 1) / max) * max;
+	}
+	
+	@Override
+	public String toString() {
+		if (ladder == null) {
+			return "InBucketing[NONE]";
+		}
+		return ladder.length == 0 ? "InBucketing[POWER_OF_TWO]" : "InBucketing" + Arrays.toString(ladder);
+	}
+}
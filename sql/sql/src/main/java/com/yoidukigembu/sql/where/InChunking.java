@@ -0,0 +1,84 @@
+package com.yoidukigembu.sql.where;
+
+/**
+ * IN / NOT IN の値の数の上限と、上限を超えた場合の分割方法
+ *
+ */
+public final class InChunking {
+	
+	/**
+	 * 分割方法
+	 */
+	public enum Strategy {
+		/** 1つのSQL文の中で (col IN (...) OR col IN (...)) に分割 */
+		OR_GROUPS,
+		/** SQL文を複数に分割 ({@link Where#split()}) */
+		SPLIT_STATEMENTS,
+		;
+	}
+	
+	/** 分割しない */
+	public static final InChunking NONE = new InChunking(Integer.MAX_VALUE, Strategy.OR_GROUPS);
+	
+	/** デフォルト */
+	private static volatile InChunking defaultChunking = NONE;
+	
+	/** 値の数の上限 */
+	private final int maxSize;
+	
+	/** 分割方法 */
+	private final Strategy strategy;
+	
+	private InChunking(int maxSize, Strategy strategy) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(String.format("maxSize must be positive. maxSize:[%d]", maxSize));
+		}
+		this.maxSize = maxSize;
+		this.strategy = strategy;
+	}
+	
+	/**
+	 * 1つのSQL文の中で OR グループに分割
+	 * @param maxSize 1つの IN あたりの値の数の上限
+	 */
+	public static InChunking orGroups(int maxSize) {
+		return new InChunking(maxSize, Strategy.OR_GROUPS);
+	}
+	
+	/**
+	 * SQL文を複数に分割<br>
+	 * 分割すると結果が変わってしまう場合 (NOT IN、OR 条件との併用など) は OR グループに分割する。
+	 * @param maxSize 1つの IN あたりの値の数の上限
+	 */
+	public static InChunking splitStatements(int maxSize) {
+		return new InChunking(maxSize, Strategy.SPLIT_STATEMENTS);
+	}
+	
+	/**
+	 * デフォルトを取得
+	 */
+	public static InChunking getDefault() {
+		return defaultChunking;
+	}
+	
+	/**
+	 * デフォルトを設定
+	 * @param chunking 分割方法
+	 */
+	public static void setDefault(InChunking chunking) {
+		defaultChunking = chunking == null ? NONE : chunking;
+	}
+	
+	public int getMaxSize() {
+		return maxSize;
+	}
+	
+	public Strategy getStrategy() {
+		return strategy;
+	}
+	
+	@Override
+	public String toString() {
+		return this == NONE ? "InChunking[NONE]" : String.format("InChunking[%s, maxSize=%d]", strategy, maxSize);
+	}
+}
@@ -0,0 +1,86 @@
+package com.yoidukigembu.sql.where;
+
+import java.util.Optional;
+
+import com.yoidukigembu.sql.where.enums.WhereType;
+
+/**
+ * 後から値を指定するパラメータ<br>
+ * WHERE の値の代わりに指定すると、SQL文には ? のみを出力し、
+ * 値は {@link com.yoidukigembu.sql.select.PreparedQuery} の bind で指定する。
+ * 名前付き ({@link #param(String)}) と位置指定 ({@link #param(int)}) がある。
+ * IN / NOT IN には指定できない。
+ *
+ */
+public final class Param {
+
+	/** 名前 (位置指定の場合は null) */
+	private final String name;
+
+	/** 位置 (名前付きの場合は -1) */
+	private final int index;
+
+	/** 値の変換に使う WHERE のタイプ (null の場合は変換しない) */
+	private final WhereType type;
+
+	private Param(String name, int index, WhereType type) {
+		this.name = name;
+		this.index = index;
+		this.type = type;
+	}
+
+	/**
+	 * 名前付きのパラメータを作成
+	 * @param name 名前
+	 */
+	public static Param param(String name) {
+		if (name == null || name.isEmpty()) {
+			throw new IllegalArgumentException("param name must not be EMPTY.");
+		}
+		return new Param(name, -1, null);
+	}
+
+	/**
+	 * 位置指定のパラメータを作成
+	 * @param index bind(Object...) の引数の位置 (0から)
+	 */
+	public static Param param(int index) {
+		if (index < 0) {
+			throw new IllegalArgumentException("param index must not be negative. index:" + index);
+		}
+		return new Param(null, index, null);
+	}
+
+	/**
+	 * WHERE のタイプを指定したパラメータを作成 (LIKE の % の付与などを bind 時に行う)
+	 */
+	Param withType(WhereType type) {
+		return type == this.type ? this : new Param(name, index, type);
+	}
+
+	public Optional<String> getName() {
+		return Optional.ofNullable(name);
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public boolean isNamed() {
+		return name != null;
+	}
+
+	/**
+	 * 値を変換 (LIKE の場合は % を付与)
+	 * @param value 値
+	 * @return 変換した値
+	 */
+	public Object convert(Object value) {
+		return type == null ? value : type.convertParam(value);
+	}
+
+	@Override
+	public String toString() {
+		return isNamed() ? ":" + name : "?" + index;
+	}
+}
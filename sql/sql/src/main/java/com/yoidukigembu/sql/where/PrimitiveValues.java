@@ -0,0 +1,98 @@
+package com.yoidukigembu.sql.where;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import com.yoidukigembu.sql.jdbc.ParameterSink;
+
+/**
+ * long / int の配列で指定された IN / NOT IN の値 (変更不可)<br>
+ * 値リストが {@link ParameterSink} の場合はボクシングせずに追加する。
+ * {@link #get(int)} はその時点でボクシングする。
+ *
+ */
+final class PrimitiveValues extends AbstractList<Object> implements RandomAccess {
+
+	/** long の値 (int の場合は null) */
+	private final long[] longs;
+
+	/** int の値 (long の場合は null) */
+	private final int[] ints;
+
+	/** 開始位置 */
+	private final int from;
+
+	/** 終了位置 (含まない) */
+	private final int to;
+
+	private PrimitiveValues(long[] longs, int[] ints, int from, int to) {
+		this.longs = longs;
+		this.ints = ints;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * long の値から作成 (配列はコピーする)
+	 * @param values 値 (nullの場合は null を返す)
+	 */
+	static PrimitiveValues of(long[] values) {
+		return values == null ? null : new PrimitiveValues(values.clone(), null, 0, values.length);
+	}
+
+	/**
+	 * int の値から作成 (配列はコピーする)
+	 * @param values 値 (nullの場合は null を返す)
+	 */
+	static PrimitiveValues of(int[] values) {
+		return values == null ? null : new PrimitiveValues(null, values.clone(), 0, values.length);
+	}
+
+	/**
+	 * 要素の型 (Long / Integer)
+	 */
+	Class<?> getElementType() {
+		return longs != null ? Long.class : Integer.class;
+	}
+
+	/**
+	 * 値をボクシングせずに追加
+	 * @param sink 値リスト
+	 */
+	void addTo(ParameterSink sink) {
+		sink.ensureCapacity(sink.size() + (to - from));
+		if (longs != null) {
+			for (int i = from; i < to; i++) {
+				sink.addLong(longs[i]);
+			}
+		} else {
+			for (int i = from; i < to; i++) {
+				sink.addInt(ints[i]);
+			}
+		}
+	}
+
+	@Override
+	public Object get(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException(String.format("index:[%d] size:[%d]", index, size()));
+		}
+		return longs != null ? (Object) longs[from + index] : (Object) ints[from + index];
+	}
+
+	@Override
+	public int size() {
+		return to - from;
+	}
+
+	/**
+	 * 範囲の値を取得 (配列を共有する)
+	 */
+	@Override
+	public PrimitiveValues subList(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException(String.format("fromIndex:[%d] toIndex:[%d] size:[%d]", fromIndex, toIndex, size()));
+		}
+		return new PrimitiveValues(longs, ints, from + fromIndex, from + toIndex);
+	}
+}
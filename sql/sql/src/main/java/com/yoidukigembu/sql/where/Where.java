@@ -1,11 +1,15 @@
 package com.yoidukigembu.sql.where;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.dialect.Dialect;
+import com.yoidukigembu.sql.jdbc.ParameterSink;
 import com.yoidukigembu.sql.util.SqlUtil;
 import com.yoidukigembu.sql.where.enums.WhereDelimiter;
 import com.yoidukigembu.sql.where.enums.WhereType;
@@ -20,7 +24,175 @@ public interface Where {
 	/** ホルダリストの取得 */
 	List<WhereHolder> getHolderList();
 	
-	public void build(Consumer consumer);
+	/**
+	 * 条件を追加<br>
+	 * 条件を追加するメソッドはすべてこのメソッドを経由する。
+	 * 不変な実装 ({@link ImmutableWhere}) では、条件を追加した新しいインスタンスを返す。
+	 * @param holder 条件
+	 * @return 自身 (不変な実装の場合は新しいインスタンス)
+	 */
+	public default Where add(WhereHolder holder) {
+		getHolderList().add(holder);
+		return this;
+	}
+	
+	/**
+	 * WHERE文を生成 (デフォルトのダイアレクト)<br>
+	 * このメソッドと {@link #build(Dialect, Consumer)} の少なくとも一方を実装すること。
+	 * @param consumer WHERE文と値リストの処理
+	 */
+	public default void build(Consumer consumer) {
+		build(Dialect.getDefault(), consumer);
+	}
+	
+	/**
+	 * WHERE文を生成<br>
+	 * デフォルトの実装はダイアレクトを使わずに {@link #build(Consumer)} を呼ぶ。
+	 * @param dialect ダイアレクト
+	 * @param consumer WHERE文と値リストの処理
+	 */
+	public default void build(Dialect dialect, Consumer consumer) {
+		build(consumer);
+	}
+	
+	/**
+	 * SQL文の生成に使うWHEREを取得<br>
+	 * 最適化する実装は、最適化した条件を持ち最適化しないWHEREを返す。
+	 * 1回の生成で形状・値・WHERE文を別々に取得する場合に、最適化を1回で済ませるために使う。
+	 * @return デフォルトの実装は自身
+	 */
+	public default Where forRender() {
+		return this;
+	}
+	
+	/**
+	 * 値を除いた条件の構造 (形状) を取得<br>
+	 * 条件ごとのデリミタ、タイプ、エイリアス、カラム、IN の値の数で決まり、ダイアレクトや分割方法には依存しない。
+	 * SQL文を生成せずに、キャッシュやメトリクスのキーとして使える。
+	 * @return 形状
+	 */
+	public default QueryShape shape() {
+		QueryShape.Builder builder = new QueryShape.Builder(getHolderList().size() * WhereHolder.SHAPE_PARTS);
+		for (WhereHolder holder : getHolderList()) {
+			holder.appendShape(builder);
+		}
+		return builder.build();
+	}
+	
+	/**
+	 * 値を除いた条件の構造をリストに追加 (デフォルトのダイアレクト)
+	 * @param parts 形状の要素リスト
+	 */
+	public default void appendShape(List<Object> parts) {
+		appendShape(parts, Dialect.getDefault());
+	}
+	
+	/**
+	 * 値を除いた条件の構造をリストに追加<br>
+	 * デフォルトの実装は生成したWHERE文を追加する。
+	 * @param parts 形状の要素リスト
+	 * @param dialect ダイアレクト
+	 */
+	public default void appendShape(List<Object> parts, Dialect dialect) {
+		build(dialect, (where, params) -> parts.add(where));
+	}
+	
+	/**
+	 * 値のみをリストに追加 (デフォルトのダイアレクト)
+	 * @param params 値リスト
+	 */
+	public default void collectParams(List<Object> params) {
+		collectParams(params, Dialect.getDefault());
+	}
+	
+	/**
+	 * 値のみをリストに追加 (SQL文は生成しない)<br>
+	 * デフォルトの実装は {@link #build(Dialect, Consumer)} の値リストを追加する。
+	 * @param params 値リスト
+	 * @param dialect ダイアレクト
+	 */
+	public default void collectParams(List<Object> params, Dialect dialect) {
+		build(dialect, (where, values) -> params.addAll(values));
+	}
+	
+	/**
+	 * WHERE文を追加先に直接生成 (デフォルトのダイアレクト)
+	 * @param sql 追加先
+	 * @param params 値リスト
+	 */
+	public default void appendTo(StringBuilder sql, List<Object> params) {
+		appendTo(sql, params, Dialect.getDefault());
+	}
+	
+	/**
+	 * WHERE文を追加先に直接生成<br>
+	 * デフォルトの実装は {@link #build(Dialect, Consumer)} の結果を追加する。
+	 * @param sql 追加先
+	 * @param params 値リスト
+	 * @param dialect ダイアレクト
+	 */
+	public default void appendTo(StringBuilder sql, List<Object> params, Dialect dialect) {
+		build(dialect, (where, values) -> {
+			sql.append(where);
+			params.addAll(values);
+		});
+	}
+	
+	/**
+	 * 後ろに AND で条件を続けられる形で追加 (デフォルトのダイアレクト)
+	 * @param sql 追加先
+	 * @param params 値リスト
+	 */
+	public default void appendAndTo(StringBuilder sql, List<Object> params) {
+		appendAndTo(sql, params, Dialect.getDefault());
+	}
+	
+	/**
+	 * 後ろに AND で条件を続けられる形で追加<br>
+	 * OR を含む場合は括弧で囲み、末尾に "AND " を付ける。条件がない場合は何も追加しない。
+	 * @param sql 追加先
+	 * @param params 値リスト
+	 * @param dialect ダイアレクト
+	 */
+	public default void appendAndTo(StringBuilder sql, List<Object> params, Dialect dialect) {
+		if (getHolderList().isEmpty()) {
+			return;
+		}
+		
+		boolean hasOr = hasOr();
+		if (hasOr) {
+			sql.append('(');
+		}
+		appendTo(sql, params, dialect);
+		if (hasOr) {
+			sql.setLength(sql.length() - 1);
+			sql.append(") ");
+		}
+		sql.append("AND ");
+	}
+	
+	/**
+	 * OR で結合した条件を含むかどうか
+	 */
+	public default boolean hasOr() {
+		List<WhereHolder> holderList = getHolderList();
+		for (int i = 1; i < holderList.size(); i++) {
+			if (holderList.get(i).getDelimiter() == WhereDelimiter.OR) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 複数のSQL文に分割<br>
+	 * {@link InChunking.Strategy#SPLIT_STATEMENTS} で上限を超える IN がある場合に、
+	 * IN の値を分割したWHEREのリストを返す。
+	 * @return 分割したWHERE。分割しない場合は自身のみ
+	 */
+	public default List<Where> split() {
+		return Collections.singletonList(this);
+	}
 	
 	/**
 	 * IS NOT NULL クエリをANDで追加
@@ -70,13 +242,11 @@ public interface Where {
 	 * @return 自身
 	 */
 	public default Where isNotNull(WhereDelimiter delimiter, String alias, String column) {
-		getHolderList().add(
-				new WhereHolder(delimiter, 
-						alias,
-						column,
-						WhereType.IS_NOT_NULL,
-						null));
-		return this;
+		return add(new WhereHolder(delimiter, 
+				alias,
+				column,
+				WhereType.IS_NOT_NULL,
+				null));
 	}
 	
 	
@@ -128,12 +298,11 @@ public interface Where {
 	 * @return 自身
 	 */
 	public default Where isNull(WhereDelimiter delimiter, String alias, String column) {
-		getHolderList().add(new WhereHolder(delimiter, 
+		return add(new WhereHolder(delimiter, 
 				alias,
 				column,
 				WhereType.IS_NULL,
 				null));
-		return this;
 	}
 	
 	
@@ -183,444 +352,2316 @@ public interface Where {
 	 * @return 自身
 	 */
 	public default Where eq(WhereDelimiter delimiter, String alias, String column, Object param) {
-		getHolderList()
-			.add(new WhereHolder(delimiter,
+		return add(new WhereHolder(delimiter,
 					alias,
 					column,
 					WhereType.EQUALS,
 					param));
-		return this;
 	}
 	
-	
 	/**
-	 * column != ? をANDで追加
+	 * column = ? をANDで追加 (long の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where ne(String column, Object param) {
-		return ne(null, column, param);
+	public default Where eq(String column, long param) {
+		return eq(null, column, param);
 	}
 	
 	/**
-	 * column != ? をANDで追加
+	 * column = ? をANDで追加 (long の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where ne(String alias, String column, Object param) {
-		return ne(WhereDelimiter.AND, alias, column, param);
+	public default Where eq(String alias, String column, long param) {
+		return eq(WhereDelimiter.AND, alias, column, param);
 	}
 	
 	/**
-	 * column != ? をORで追加
+	 * column = ? をORで追加 (long の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orNe(String column, Object param) {
-		return orNe(null, column, param);
+	public default Where orEq(String column, long param) {
+		return orEq(null, column, param);
 	}
 	
 	/**
-	 * column != ? をORで追加
+	 * column = ? をORで追加 (long の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orNe(String alias, String column, Object param) {
-		return ne(WhereDelimiter.OR, alias, column, param);
+	public default Where orEq(String alias, String column, long param) {
+		return eq(WhereDelimiter.OR, alias, column, param);
 	}
 	
 	/**
-	 * column != ? を追加
+	 * column = ? を追加 (long の値をボクシングせずに保持)
 	 * @param delimiter デリミタ
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where ne(WhereDelimiter delimiter, String alias, String column, Object param) {
-		getHolderList()
-			.add(new WhereHolder(delimiter,
+	public default Where eq(WhereDelimiter delimiter, String alias, String column, long param) {
+		return add(new WhereHolder(delimiter,
 					alias,
 					column,
-					WhereType.NOT_EQUALS,
+					WhereType.EQUALS,
 					param));
-		return this;
 	}
 	
 	/**
-	 * column > ? をANDで追加
+	 * column = ? をANDで追加 (int の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where gt(String column, Object param) {
-		return gt(null, column, param);
+	public default Where eq(String column, int param) {
+		return eq(null, column, param);
 	}
 	
 	/**
-	 * column > ? をANDで追加
+	 * column = ? をANDで追加 (int の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where gt(String alias, String column, Object param) {
-		return gt(WhereDelimiter.AND, alias, column, param);
+	public default Where eq(String alias, String column, int param) {
+		return eq(WhereDelimiter.AND, alias, column, param);
 	}
 	
 	/**
-	 * column > ? をORで追加
+	 * column = ? をORで追加 (int の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orGt(String column, Object param) {
-		return orGt(null, column, param);
+	public default Where orEq(String column, int param) {
+		return orEq(null, column, param);
 	}
 	
 	/**
-	 * column > ? をORで追加
+	 * column = ? をORで追加 (int の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orGt(String alias, String column, Object param) {
-		return gt(WhereDelimiter.OR, alias, column, param);
+	public default Where orEq(String alias, String column, int param) {
+		return eq(WhereDelimiter.OR, alias, column, param);
 	}
 	
 	/**
-	 * column > ? を追加
+	 * column = ? を追加 (int の値をボクシングせずに保持)
 	 * @param delimiter デリミタ
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where gt(WhereDelimiter delimiter, String alias, String column, Object param) {
-		getHolderList()
-			.add(new WhereHolder(delimiter,
+	public default Where eq(WhereDelimiter delimiter, String alias, String column, int param) {
+		return add(new WhereHolder(delimiter,
 					alias,
 					column,
-					WhereType.GREATER_THAN,
+					WhereType.EQUALS,
 					param));
-		return this;
 	}
 	
-	
 	/**
-	 * column >= ? をANDで追加
+	 * column = ? をANDで追加 (short の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where ge(String column, Object param) {
-		return ge(null, column, param);
+	public default Where eq(String column, short param) {
+		return eq(null, column, param);
 	}
 	
 	/**
-	 * column >= ? をANDで追加
+	 * column = ? をANDで追加 (short の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where ge(String alias, String column, Object param) {
-		return ge(WhereDelimiter.AND, alias, column, param);
+	public default Where eq(String alias, String column, short param) {
+		return eq(WhereDelimiter.AND, alias, column, param);
 	}
 	
-	
 	/**
-	 * column >= ? をORで追加
+	 * column = ? をORで追加 (short の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orGe(String column, Object param) {
-		return orGe(null, column, param);
+	public default Where orEq(String column, short param) {
+		return orEq(null, column, param);
 	}
 	
 	/**
-	 * column >= ? をORで追加
+	 * column = ? をORで追加 (short の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orGe(String alias, String column, Object param) {
-		return ge(WhereDelimiter.OR, alias, column, param);
+	public default Where orEq(String alias, String column, short param) {
+		return eq(WhereDelimiter.OR, alias, column, param);
 	}
 	
 	/**
-	 * column >= ? を追加
+	 * column = ? を追加 (short の値をボクシングせずに保持)
 	 * @param delimiter デリミタ
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where ge(WhereDelimiter delimiter, String alias, String column, Object param) {
-		getHolderList()
-			.add(new WhereHolder(delimiter,
+	public default Where eq(WhereDelimiter delimiter, String alias, String column, short param) {
+		return add(new WhereHolder(delimiter,
 					alias,
 					column,
-					WhereType.GREATER_EQUALS,
+					WhereType.EQUALS,
 					param));
-		return this;
 	}
 	
-	
 	/**
-	 * column < ? をANDで追加
+	 * column = ? をANDで追加 (byte の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where lt(String column, Object param) {
-		return lt(null, column, param);
+	public default Where eq(String column, byte param) {
+		return eq(null, column, param);
 	}
 	
 	/**
-	 * column < ? をANDで追加
+	 * column = ? をANDで追加 (byte の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where lt(String alias, String column, Object param) {
-		return lt(WhereDelimiter.AND, alias, column, param);
+	public default Where eq(String alias, String column, byte param) {
+		return eq(WhereDelimiter.AND, alias, column, param);
 	}
 	
-	
 	/**
-	 * column < ? をORで追加
+	 * column = ? をORで追加 (byte の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orLt(String column, Object param) {
-		return orLt(null, column, param);
+	public default Where orEq(String column, byte param) {
+		return orEq(null, column, param);
 	}
 	
 	/**
-	 * column < ? をORで追加
+	 * column = ? をORで追加 (byte の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orLt(String alias, String column, Object param) {
-		return lt(WhereDelimiter.OR, alias, column, param);
+	public default Where orEq(String alias, String column, byte param) {
+		return eq(WhereDelimiter.OR, alias, column, param);
 	}
 	
 	/**
-	 * column < ? を追加
+	 * column = ? を追加 (byte の値をボクシングせずに保持)
 	 * @param delimiter デリミタ
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where lt(WhereDelimiter delimiter, String alias, String column, Object param) {
-		getHolderList()
-			.add(new WhereHolder(delimiter,
+	public default Where eq(WhereDelimiter delimiter, String alias, String column, byte param) {
+		return add(new WhereHolder(delimiter,
 					alias,
 					column,
-					WhereType.LESS_THAN,
+					WhereType.EQUALS,
 					param));
-		return this;
 	}
 	
-	
 	/**
-	 * column <= ? をANDで追加
+	 * column = ? をANDで追加 (char は int に広げず、文字列として扱う)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where le(String column, Object param) {
-		return le(null, column, param);
+	public default Where eq(String column, char param) {
+		return eq(column, String.valueOf(param));
 	}
 	
 	/**
-	 * column <= ? をANDで追加
+	 * column = ? をANDで追加 (char は int に広げず、文字列として扱う)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where le(String alias, String column, Object param) {
-		return le(WhereDelimiter.AND, alias, column, param);
+	public default Where eq(String alias, String column, char param) {
+		return eq(alias, column, String.valueOf(param));
 	}
 	
-	
 	/**
-	 * column <= ? をORで追加
+	 * column = ? をORで追加 (char は int に広げず、文字列として扱う)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orLe(String column, Object param) {
-		return orLe(null, column, param);
+	public default Where orEq(String column, char param) {
+		return orEq(column, String.valueOf(param));
 	}
 	
 	/**
-	 * column <= ? をORで追加
+	 * column = ? をORで追加 (char は int に広げず、文字列として扱う)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orLe(String alias, String column, Object param) {
-		return le(WhereDelimiter.OR, alias, column, param);
+	public default Where orEq(String alias, String column, char param) {
+		return orEq(alias, column, String.valueOf(param));
 	}
 	
 	/**
-	 * column <= ? を追加
+	 * column = ? を追加 (char は int に広げず、文字列として扱う)
 	 * @param delimiter デリミタ
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where le(WhereDelimiter delimiter, String alias, String column, Object param) {
-		getHolderList()
-			.add(new WhereHolder(delimiter,
-					alias,
-					column,
-					WhereType.LESS_EQUALS,
-					param));
-		return this;
+	public default Where eq(WhereDelimiter delimiter, String alias, String column, char param) {
+		return eq(delimiter, alias, column, String.valueOf(param));
 	}
 	
 	/**
-	 * column IN (?, ?,...) をANDで追加
+	 * column != ? をANDで追加
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where in(String column, Collection<?> params) {
-		return in(null, column, params);
+	public default Where ne(String column, Object param) {
+		return ne(null, column, param);
 	}
 	
 	/**
-	 * column IN (?, ?,...) をANDで追加
+	 * column != ? をANDで追加
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where in(String alias, String column, Collection<?> params) {
-		return in(WhereDelimiter.AND, alias, column, params);
+	public default Where ne(String alias, String column, Object param) {
+		return ne(WhereDelimiter.AND, alias, column, param);
 	}
 	
 	/**
-	 * column IN (?, ?,...) をORで追加
+	 * column != ? をORで追加
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orIn(String column, Collection<?> params) {
-		return orIn(null, column, params);
+	public default Where orNe(String column, Object param) {
+		return orNe(null, column, param);
 	}
 	
 	/**
-	 * column IN (?, ?,...) をORで追加
+	 * column != ? をORで追加
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orIn(String alias, String column, Collection<?> params) {
-		return in(WhereDelimiter.OR, alias, column, params);
+	public default Where orNe(String alias, String column, Object param) {
+		return ne(WhereDelimiter.OR, alias, column, param);
 	}
 	
 	/**
-	 * column IN (?, ?,...) を追加
+	 * column != ? を追加
 	 * @param delimiter デリミタ
+	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where in(WhereDelimiter delimiter, String alias, String column, Collection<?> params) {
-		getHolderList()
-			.add(new WhereHolder(delimiter,
+	public default Where ne(WhereDelimiter delimiter, String alias, String column, Object param) {
+		return add(new WhereHolder(delimiter,
 					alias,
 					column,
-					WhereType.IN,
-					params));
-		return this;
+					WhereType.NOT_EQUALS,
+					param));
 	}
 	
-	
 	/**
-	 * column NOT IN (?, ?,...) をANDで追加
+	 * column != ? をANDで追加 (long の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where notIn(String column, Collection<?> params) {
-		return notIn(null, column, params);
+	public default Where ne(String column, long param) {
+		return ne(null, column, param);
 	}
 	
 	/**
-	 * column NOT IN (?, ?,...) をANDで追加
+	 * column != ? をANDで追加 (long の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where notIn(String alias, String column, Collection<?> params) {
-		return notIn(WhereDelimiter.AND, alias, column, params);
+	public default Where ne(String alias, String column, long param) {
+		return ne(WhereDelimiter.AND, alias, column, param);
 	}
 	
 	/**
-	 * column NOT IN (?, ?,...) をORで追加
+	 * column != ? をORで追加 (long の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orNotIn(String column, Collection<?> params) {
-		return orNotIn(null, column, params);
+	public default Where orNe(String column, long param) {
+		return orNe(null, column, param);
 	}
 	
 	/**
-	 * column NOT IN (?, ?,...) をORで追加
+	 * column != ? をORで追加 (long の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orNotIn(String alias, String column, Collection<?> params) {
-		return notIn(WhereDelimiter.OR, alias, column, params);
+	public default Where orNe(String alias, String column, long param) {
+		return ne(WhereDelimiter.OR, alias, column, param);
 	}
 	
 	/**
-	 * column NOT IN (?, ?,...) を追加
+	 * column != ? を追加 (long の値をボクシングせずに保持)
 	 * @param delimiter デリミタ
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where notIn(WhereDelimiter delimiter, String alias, String column, Collection<?> params) {
-		getHolderList()
-			.add(new WhereHolder(delimiter,
+	public default Where ne(WhereDelimiter delimiter, String alias, String column, long param) {
+		return add(new WhereHolder(delimiter,
 					alias,
 					column,
-					WhereType.NOT_IN,
-					params));
-		return this;
+					WhereType.NOT_EQUALS,
+					param));
 	}
 	
-	
 	/**
-	 * column LIKE 'str%' をANDで追加
+	 * column != ? をANDで追加 (int の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where beginWith(String column, String param) {
-		return beginWith(null, column, param);
+	public default Where ne(String column, int param) {
+		return ne(null, column, param);
 	}
 	
 	/**
-	 * column LIKE 'str%' をANDで追加
+	 * column != ? をANDで追加 (int の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where beginWith(String alias, String column, String param) {
-		return beginWith(WhereDelimiter.AND, alias, column, param);
+	public default Where ne(String alias, String column, int param) {
+		return ne(WhereDelimiter.AND, alias, column, param);
 	}
 	
 	/**
-	 * column LIKE 'str%' をORで追加
+	 * column != ? をORで追加 (int の値をボクシングせずに保持)
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orBeginWith(String column, String param) {
-		return orBeginWith(null, column, param);
+	public default Where orNe(String column, int param) {
+		return orNe(null, column, param);
 	}
 	
 	/**
-	 * column LIKE 'str%' をORで追加
+	 * column != ? をORで追加 (int の値をボクシングせずに保持)
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orBeginWith(String alias, String column, String param) {
-		return beginWith(WhereDelimiter.OR, alias, column, param);
+	public default Where orNe(String alias, String column, int param) {
+		return ne(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column != ? を追加 (int の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(WhereDelimiter delimiter, String alias, String column, int param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.NOT_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column != ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(String column, short param) {
+		return ne(null, column, param);
+	}
+	
+	/**
+	 * column != ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(String alias, String column, short param) {
+		return ne(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column != ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNe(String column, short param) {
+		return orNe(null, column, param);
+	}
+	
+	/**
+	 * column != ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNe(String alias, String column, short param) {
+		return ne(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column != ? を追加 (short の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(WhereDelimiter delimiter, String alias, String column, short param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.NOT_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column != ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(String column, byte param) {
+		return ne(null, column, param);
+	}
+	
+	/**
+	 * column != ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(String alias, String column, byte param) {
+		return ne(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column != ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNe(String column, byte param) {
+		return orNe(null, column, param);
+	}
+	
+	/**
+	 * column != ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNe(String alias, String column, byte param) {
+		return ne(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column != ? を追加 (byte の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(WhereDelimiter delimiter, String alias, String column, byte param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.NOT_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column != ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(String column, char param) {
+		return ne(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column != ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(String alias, String column, char param) {
+		return ne(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column != ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNe(String column, char param) {
+		return orNe(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column != ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNe(String alias, String column, char param) {
+		return orNe(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column != ? を追加 (char は int に広げず、文字列として扱う)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ne(WhereDelimiter delimiter, String alias, String column, char param) {
+		return ne(delimiter, alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column > ? をANDで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String column, Object param) {
+		return gt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String alias, String column, Object param) {
+		return gt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String column, Object param) {
+		return orGt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String alias, String column, Object param) {
+		return gt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column > ? を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(WhereDelimiter delimiter, String alias, String column, Object param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_THAN,
+					param));
+	}
+	
+	/**
+	 * column > ? をANDで追加 (long の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String column, long param) {
+		return gt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をANDで追加 (long の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String alias, String column, long param) {
+		return gt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加 (long の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String column, long param) {
+		return orGt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加 (long の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String alias, String column, long param) {
+		return gt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column > ? を追加 (long の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(WhereDelimiter delimiter, String alias, String column, long param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_THAN,
+					param));
+	}
+	
+	/**
+	 * column > ? をANDで追加 (int の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String column, int param) {
+		return gt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をANDで追加 (int の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String alias, String column, int param) {
+		return gt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加 (int の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String column, int param) {
+		return orGt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加 (int の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String alias, String column, int param) {
+		return gt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column > ? を追加 (int の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(WhereDelimiter delimiter, String alias, String column, int param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_THAN,
+					param));
+	}
+	
+	/**
+	 * column > ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String column, short param) {
+		return gt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String alias, String column, short param) {
+		return gt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String column, short param) {
+		return orGt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String alias, String column, short param) {
+		return gt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column > ? を追加 (short の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(WhereDelimiter delimiter, String alias, String column, short param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_THAN,
+					param));
+	}
+	
+	/**
+	 * column > ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String column, byte param) {
+		return gt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String alias, String column, byte param) {
+		return gt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String column, byte param) {
+		return orGt(null, column, param);
+	}
+	
+	/**
+	 * column > ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String alias, String column, byte param) {
+		return gt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column > ? を追加 (byte の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(WhereDelimiter delimiter, String alias, String column, byte param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_THAN,
+					param));
+	}
+	
+	/**
+	 * column > ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String column, char param) {
+		return gt(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column > ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(String alias, String column, char param) {
+		return gt(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column > ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String column, char param) {
+		return orGt(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column > ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGt(String alias, String column, char param) {
+		return orGt(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column > ? を追加 (char は int に広げず、文字列として扱う)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where gt(WhereDelimiter delimiter, String alias, String column, char param) {
+		return gt(delimiter, alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column >= ? をANDで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String column, Object param) {
+		return ge(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String alias, String column, Object param) {
+		return ge(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	
+	/**
+	 * column >= ? をORで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String column, Object param) {
+		return orGe(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String alias, String column, Object param) {
+		return ge(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column >= ? を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(WhereDelimiter delimiter, String alias, String column, Object param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (long の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String column, long param) {
+		return ge(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (long の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String alias, String column, long param) {
+		return ge(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column >= ? をORで追加 (long の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String column, long param) {
+		return orGe(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をORで追加 (long の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String alias, String column, long param) {
+		return ge(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column >= ? を追加 (long の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(WhereDelimiter delimiter, String alias, String column, long param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (int の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String column, int param) {
+		return ge(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (int の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String alias, String column, int param) {
+		return ge(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column >= ? をORで追加 (int の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String column, int param) {
+		return orGe(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をORで追加 (int の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String alias, String column, int param) {
+		return ge(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column >= ? を追加 (int の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(WhereDelimiter delimiter, String alias, String column, int param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String column, short param) {
+		return ge(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String alias, String column, short param) {
+		return ge(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column >= ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String column, short param) {
+		return orGe(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String alias, String column, short param) {
+		return ge(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column >= ? を追加 (short の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(WhereDelimiter delimiter, String alias, String column, short param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String column, byte param) {
+		return ge(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String alias, String column, byte param) {
+		return ge(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column >= ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String column, byte param) {
+		return orGe(null, column, param);
+	}
+	
+	/**
+	 * column >= ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String alias, String column, byte param) {
+		return ge(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column >= ? を追加 (byte の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(WhereDelimiter delimiter, String alias, String column, byte param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.GREATER_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String column, char param) {
+		return ge(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column >= ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(String alias, String column, char param) {
+		return ge(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column >= ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String column, char param) {
+		return orGe(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column >= ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orGe(String alias, String column, char param) {
+		return orGe(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column >= ? を追加 (char は int に広げず、文字列として扱う)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where ge(WhereDelimiter delimiter, String alias, String column, char param) {
+		return ge(delimiter, alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column < ? をANDで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String column, Object param) {
+		return lt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String alias, String column, Object param) {
+		return lt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	
+	/**
+	 * column < ? をORで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String column, Object param) {
+		return orLt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String alias, String column, Object param) {
+		return lt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column < ? を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(WhereDelimiter delimiter, String alias, String column, Object param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_THAN,
+					param));
+	}
+	
+	/**
+	 * column < ? をANDで追加 (long の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String column, long param) {
+		return lt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をANDで追加 (long の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String alias, String column, long param) {
+		return lt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column < ? をORで追加 (long の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String column, long param) {
+		return orLt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をORで追加 (long の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String alias, String column, long param) {
+		return lt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column < ? を追加 (long の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(WhereDelimiter delimiter, String alias, String column, long param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_THAN,
+					param));
+	}
+	
+	/**
+	 * column < ? をANDで追加 (int の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String column, int param) {
+		return lt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をANDで追加 (int の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String alias, String column, int param) {
+		return lt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column < ? をORで追加 (int の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String column, int param) {
+		return orLt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をORで追加 (int の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String alias, String column, int param) {
+		return lt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column < ? を追加 (int の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(WhereDelimiter delimiter, String alias, String column, int param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_THAN,
+					param));
+	}
+	
+	/**
+	 * column < ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String column, short param) {
+		return lt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String alias, String column, short param) {
+		return lt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column < ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String column, short param) {
+		return orLt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String alias, String column, short param) {
+		return lt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column < ? を追加 (short の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(WhereDelimiter delimiter, String alias, String column, short param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_THAN,
+					param));
+	}
+	
+	/**
+	 * column < ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String column, byte param) {
+		return lt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String alias, String column, byte param) {
+		return lt(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column < ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String column, byte param) {
+		return orLt(null, column, param);
+	}
+	
+	/**
+	 * column < ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String alias, String column, byte param) {
+		return lt(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column < ? を追加 (byte の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(WhereDelimiter delimiter, String alias, String column, byte param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_THAN,
+					param));
+	}
+	
+	/**
+	 * column < ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String column, char param) {
+		return lt(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column < ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(String alias, String column, char param) {
+		return lt(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column < ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String column, char param) {
+		return orLt(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column < ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLt(String alias, String column, char param) {
+		return orLt(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column < ? を追加 (char は int に広げず、文字列として扱う)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where lt(WhereDelimiter delimiter, String alias, String column, char param) {
+		return lt(delimiter, alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column <= ? をANDで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String column, Object param) {
+		return le(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String alias, String column, Object param) {
+		return le(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	
+	/**
+	 * column <= ? をORで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String column, Object param) {
+		return orLe(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String alias, String column, Object param) {
+		return le(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column <= ? を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(WhereDelimiter delimiter, String alias, String column, Object param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (long の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String column, long param) {
+		return le(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (long の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String alias, String column, long param) {
+		return le(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column <= ? をORで追加 (long の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String column, long param) {
+		return orLe(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をORで追加 (long の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String alias, String column, long param) {
+		return le(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column <= ? を追加 (long の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(WhereDelimiter delimiter, String alias, String column, long param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (int の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String column, int param) {
+		return le(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (int の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String alias, String column, int param) {
+		return le(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column <= ? をORで追加 (int の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String column, int param) {
+		return orLe(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をORで追加 (int の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String alias, String column, int param) {
+		return le(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column <= ? を追加 (int の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(WhereDelimiter delimiter, String alias, String column, int param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String column, short param) {
+		return le(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String alias, String column, short param) {
+		return le(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column <= ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String column, short param) {
+		return orLe(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をORで追加 (short の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String alias, String column, short param) {
+		return le(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column <= ? を追加 (short の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(WhereDelimiter delimiter, String alias, String column, short param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String column, byte param) {
+		return le(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String alias, String column, byte param) {
+		return le(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column <= ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String column, byte param) {
+		return orLe(null, column, param);
+	}
+	
+	/**
+	 * column <= ? をORで追加 (byte の値をボクシングせずに保持)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String alias, String column, byte param) {
+		return le(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column <= ? を追加 (byte の値をボクシングせずに保持)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(WhereDelimiter delimiter, String alias, String column, byte param) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.LESS_EQUALS,
+					param));
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String column, char param) {
+		return le(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column <= ? をANDで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(String alias, String column, char param) {
+		return le(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column <= ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String column, char param) {
+		return orLe(column, String.valueOf(param));
+	}
+	
+	/**
+	 * column <= ? をORで追加 (char は int に広げず、文字列として扱う)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orLe(String alias, String column, char param) {
+		return orLe(alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column <= ? を追加 (char は int に広げず、文字列として扱う)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where le(WhereDelimiter delimiter, String alias, String column, char param) {
+		return le(delimiter, alias, column, String.valueOf(param));
+	}
+	
+	/**
+	 * column IN (?, ?,...) をANDで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where in(String column, Collection<?> params) {
+		return in(null, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where in(String alias, String column, Collection<?> params) {
+		return in(WhereDelimiter.AND, alias, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をORで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orIn(String column, Collection<?> params) {
+		return orIn(null, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orIn(String alias, String column, Collection<?> params) {
+		return in(WhereDelimiter.OR, alias, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) を追加
+	 * @param delimiter デリミタ
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where in(WhereDelimiter delimiter, String alias, String column, Collection<?> params) {
+		return in(delimiter, alias, column, params, null);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をANDで追加
+	 * @param column カラム名
+	 * @param bucketing プレースホルダ数の丸め方
+	 * @return 自身
+	 */
+	public default Where in(String column, Collection<?> params, InBucketing bucketing) {
+		return in(null, column, params, bucketing);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param bucketing プレースホルダ数の丸め方
+	 * @return 自身
+	 */
+	public default Where in(String alias, String column, Collection<?> params, InBucketing bucketing) {
+		return in(WhereDelimiter.AND, alias, column, params, bucketing);
+	}
+	
+	/**
+	 * column IN (?, ?,...) を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param bucketing プレースホルダ数の丸め方 (nullの場合はデフォルト)
+	 * @return 自身
+	 */
+	public default Where in(WhereDelimiter delimiter, String alias, String column, Collection<?> params, InBucketing bucketing) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.IN,
+					params,
+					bucketing));
+	}
+	
+	/**
+	 * column IN (?, ?,...) をANDで追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where inLongs(String column, long[] params) {
+		return inLongs(null, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をANDで追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where inLongs(String alias, String column, long[] params) {
+		return inLongs(WhereDelimiter.AND, alias, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をORで追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orInLongs(String column, long[] params) {
+		return orInLongs(null, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をORで追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orInLongs(String alias, String column, long[] params) {
+		return inLongs(WhereDelimiter.OR, alias, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) を追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where inLongs(WhereDelimiter delimiter, String alias, String column, long[] params) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.IN,
+					PrimitiveValues.of(params),
+					null));
+	}
+	
+	/**
+	 * column IN (?, ?,...) をANDで追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where inInts(String column, int[] params) {
+		return inInts(null, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をANDで追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where inInts(String alias, String column, int[] params) {
+		return inInts(WhereDelimiter.AND, alias, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をORで追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orInInts(String column, int[] params) {
+		return orInInts(null, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) をORで追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orInInts(String alias, String column, int[] params) {
+		return inInts(WhereDelimiter.OR, alias, column, params);
+	}
+	
+	/**
+	 * column IN (?, ?,...) を追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where inInts(WhereDelimiter delimiter, String alias, String column, int[] params) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.IN,
+					PrimitiveValues.of(params),
+					null));
+	}
+	
+	
+	/**
+	 * column NOT IN (?, ?,...) をANDで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where notIn(String column, Collection<?> params) {
+		return notIn(null, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where notIn(String alias, String column, Collection<?> params) {
+		return notIn(WhereDelimiter.AND, alias, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をORで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNotIn(String column, Collection<?> params) {
+		return orNotIn(null, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNotIn(String alias, String column, Collection<?> params) {
+		return notIn(WhereDelimiter.OR, alias, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where notIn(WhereDelimiter delimiter, String alias, String column, Collection<?> params) {
+		return notIn(delimiter, alias, column, params, null);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をANDで追加
+	 * @param column カラム名
+	 * @param bucketing プレースホルダ数の丸め方
+	 * @return 自身
+	 */
+	public default Where notIn(String column, Collection<?> params, InBucketing bucketing) {
+		return notIn(null, column, params, bucketing);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param bucketing プレースホルダ数の丸め方
+	 * @return 自身
+	 */
+	public default Where notIn(String alias, String column, Collection<?> params, InBucketing bucketing) {
+		return notIn(WhereDelimiter.AND, alias, column, params, bucketing);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param bucketing プレースホルダ数の丸め方 (nullの場合はデフォルト)
+	 * @return 自身
+	 */
+	public default Where notIn(WhereDelimiter delimiter, String alias, String column, Collection<?> params, InBucketing bucketing) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.NOT_IN,
+					params,
+					bucketing));
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をANDで追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where notInLongs(String column, long[] params) {
+		return notInLongs(null, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をANDで追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where notInLongs(String alias, String column, long[] params) {
+		return notInLongs(WhereDelimiter.AND, alias, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をORで追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNotInLongs(String column, long[] params) {
+		return orNotInLongs(null, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をORで追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNotInLongs(String alias, String column, long[] params) {
+		return notInLongs(WhereDelimiter.OR, alias, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) を追加 (long の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where notInLongs(WhereDelimiter delimiter, String alias, String column, long[] params) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.NOT_IN,
+					PrimitiveValues.of(params),
+					null));
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をANDで追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where notInInts(String column, int[] params) {
+		return notInInts(null, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をANDで追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where notInInts(String alias, String column, int[] params) {
+		return notInInts(WhereDelimiter.AND, alias, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をORで追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNotInInts(String column, int[] params) {
+		return orNotInInts(null, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) をORで追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orNotInInts(String alias, String column, int[] params) {
+		return notInInts(WhereDelimiter.OR, alias, column, params);
+	}
+	
+	/**
+	 * column NOT IN (?, ?,...) を追加 (int の配列の値をボクシングせずに保持。配列はコピーする)
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where notInInts(WhereDelimiter delimiter, String alias, String column, int[] params) {
+		return add(new WhereHolder(delimiter,
+					alias,
+					column,
+					WhereType.NOT_IN,
+					PrimitiveValues.of(params),
+					null));
+	}
+	
+	
+	/**
+	 * column LIKE 'str%' をANDで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where beginWith(String column, Object param) {
+		return beginWith(null, column, param);
+	}
+	
+	/**
+	 * column LIKE 'str%' をANDで追加
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where beginWith(String column, String param) {
+		return beginWith(column, (Object) param);
+	}
+	
+	/**
+	 * column LIKE 'str%' をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where beginWith(String alias, String column, Object param) {
+		return beginWith(WhereDelimiter.AND, alias, column, param);
+	}
+	
+	/**
+	 * column LIKE 'str%' をANDで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where beginWith(String alias, String column, String param) {
+		return beginWith(alias, column, (Object) param);
+	}
+	
+	/**
+	 * column LIKE 'str%' をORで追加
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orBeginWith(String column, Object param) {
+		return orBeginWith(null, column, param);
+	}
+	
+	/**
+	 * column LIKE 'str%' をORで追加
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where orBeginWith(String column, String param) {
+		return orBeginWith(column, (Object) param);
+	}
+	
+	/**
+	 * column LIKE 'str%' をORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @return 自身
+	 */
+	public default Where orBeginWith(String alias, String column, Object param) {
+		return beginWith(WhereDelimiter.OR, alias, column, param);
+	}
+	
+	/**
+	 * column LIKE 'str%' をORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where orBeginWith(String alias, String column, String param) {
+		return orBeginWith(alias, column, (Object) param);
 	}
 	
 	
@@ -633,15 +2674,24 @@ public interface Where {
 	 */
 	public default Where beginWith(WhereDelimiter delimiter,
 									String alias,
-									String column, String param) {
-		getHolderList()
-			.add(new WhereHolder(delimiter, 
+									String column, Object param) {
+		return add(new WhereHolder(delimiter, 
 					alias,
 					column,
 					WhereType.BEGIN_WITH,
 					param));
-		
-		return this;
+	}
+	
+	/**
+	 * column LIKE 'str%' を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where beginWith(WhereDelimiter delimiter, String alias, String column, String param) {
+		return beginWith(delimiter, alias, column, (Object) param);
 	}
 	
 	/**
@@ -649,39 +2699,81 @@ public interface Where {
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where endsWith(String column, String param) {
+	public default Where endsWith(String column, Object param) {
 		return endsWith(null, column, param);
 	}
 	
+	/**
+	 * column LIKE '%str' ANDで追加
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where endsWith(String column, String param) {
+		return endsWith(column, (Object) param);
+	}
+	
 	/**
 	 * column LIKE '%str' ANDで追加
 	 * @param alias エイリアス@param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where endsWith(String alias, String column, String param) {
+	public default Where endsWith(String alias, String column, Object param) {
 		return endsWith(WhereDelimiter.AND, alias, column, param);
 	}
 	
+	/**
+	 * column LIKE '%str' ANDで追加
+	 * @param alias エイリアス@param alias エイリアス
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where endsWith(String alias, String column, String param) {
+		return endsWith(alias, column, (Object) param);
+	}
+	
 	/**
 	 * column LIKE '%str' ORで追加
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orEndsWith(String column, String param) {
+	public default Where orEndsWith(String column, Object param) {
 		return orEndsWith(null, column, param);
 	}
 	
+	/**
+	 * column LIKE '%str' ORで追加
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where orEndsWith(String column, String param) {
+		return orEndsWith(column, (Object) param);
+	}
+	
 	/**
 	 * column LIKE '%str' ORで追加
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orEndsWith(String alias, String column, String param) {
+	public default Where orEndsWith(String alias, String column, Object param) {
 		return endsWith(WhereDelimiter.OR, alias, column, param);
 	}
 	
+	/**
+	 * column LIKE '%str' ORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where orEndsWith(String alias, String column, String param) {
+		return orEndsWith(alias, column, (Object) param);
+	}
+	
 	/**
 	 * column LIKE '%str' を追加
 	 * @param delimiter デリミタ
@@ -689,15 +2781,24 @@ public interface Where {
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where endsWith(WhereDelimiter delimiter, String alias, String column, String param) {
-		getHolderList()
-			.add(new WhereHolder(delimiter, 
+	public default Where endsWith(WhereDelimiter delimiter, String alias, String column, Object param) {
+		return add(new WhereHolder(delimiter, 
 					alias,
 					column,
 					WhereType.ENDS_WITH,
 					param));
-		
-		return this;
+	}
+	
+	/**
+	 * column LIKE '%str' を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where endsWith(WhereDelimiter delimiter, String alias, String column, String param) {
+		return endsWith(delimiter, alias, column, (Object) param);
 	}
 	
 	/**
@@ -705,39 +2806,81 @@ public interface Where {
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where contains(String column, String param) {
+	public default Where contains(String column, Object param) {
 		return contains(null, column, param);
 	}
 	
+	/**
+	 * column LIKE '%str%' をANDで追加
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where contains(String column, String param) {
+		return contains(column, (Object) param);
+	}
+	
 	/**
 	 * column LIKE '%str%' をANDで追加
 	 * @param alias エイリアス 
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where contains(String alias, String column, String param) {
+	public default Where contains(String alias, String column, Object param) {
 		return contains(WhereDelimiter.AND, alias, column, param);
 	}
 	
+	/**
+	 * column LIKE '%str%' をANDで追加
+	 * @param alias エイリアス 
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where contains(String alias, String column, String param) {
+		return contains(alias, column, (Object) param);
+	}
+	
 	/**
 	 * column LIKE '%str%' をORで追加
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orContains(String column, String param) {
+	public default Where orContains(String column, Object param) {
 		return orContains(null, column, param);
 	}
 	
+	/**
+	 * column LIKE '%str%' をORで追加
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where orContains(String column, String param) {
+		return orContains(column, (Object) param);
+	}
+	
 	/**
 	 * column LIKE '%str%' をORで追加
 	 * @param alias エイリアス
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where orContains(String alias, String column, String param) {
+	public default Where orContains(String alias, String column, Object param) {
 		return contains(WhereDelimiter.OR, alias, column, param);
 	}
 	
+	/**
+	 * column LIKE '%str%' をORで追加
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where orContains(String alias, String column, String param) {
+		return orContains(alias, column, (Object) param);
+	}
+	
 	/**
 	 * column LIKE '%str%' を追加
 	 * @param delimiter デリミタ
@@ -745,15 +2888,24 @@ public interface Where {
 	 * @param column カラム名
 	 * @return 自身
 	 */
-	public default Where contains(WhereDelimiter delimiter, String alias, String column, String param) {
-		getHolderList()
-			.add(new WhereHolder(delimiter, 
+	public default Where contains(WhereDelimiter delimiter, String alias, String column, Object param) {
+		return add(new WhereHolder(delimiter, 
 					alias,
 					column,
 					WhereType.CONTAINS,
 					param));
-		
-		return this;
+	}
+	
+	/**
+	 * column LIKE '%str%' を追加
+	 * @param delimiter デリミタ
+	 * @param alias エイリアス
+	 * @param column カラム名
+	 * @param param 値
+	 * @return 自身
+	 */
+	public default Where contains(WhereDelimiter delimiter, String alias, String column, String param) {
+		return contains(delimiter, alias, column, (Object) param);
 	}
 	
 	
@@ -763,20 +2915,32 @@ public interface Where {
 	 *
 	 */
 	public static class WhereHolder {
+		/** 形状の要素数 */
+		static final int SHAPE_PARTS = 5;
+		
 		/** デリミタ */
 		private final WhereDelimiter delimiter;
 		
-		/** エイリアス */
-		private final Optional<String> alias;
+		/** エイリアス (null可) */
+		private final String alias;
 		
 		/** カラム */
-		private String column;
+		private final String column;
 		
 		/** クエリ */
 		private final WhereType type;
 		
-		/** パラメータ */
-		private final Optional<?> param;
+		/** パラメータ (null可) */
+		private final Object param;
+		
+		/** IN のプレースホルダ数の丸め方 (null可) */
+		private final InBucketing bucketing;
+		
+		/** long / int / short / byte で指定された値 */
+		private final long primitive;
+		
+		/** プリミティブで指定された値の型 (long.class / int.class / short.class / byte.class。それ以外は null) */
+		private final Class<?> primitiveType;
 		
 		
 		public WhereHolder(WhereDelimiter delimiter, 
@@ -784,12 +2948,79 @@ public interface Where {
 							String column, 
 							WhereType type,
 							Object param) {
+			this(delimiter, alias, column, type, param, null);
+		}
+		
+		/**
+		 * long の値を指定 (ボクシングせずに保持する)
+		 */
+		public WhereHolder(WhereDelimiter delimiter, 
+							String alias, 
+							String column, 
+							WhereType type,
+							long param) {
+			this(delimiter, alias, column, type, null, null, param, long.class);
+		}
+		
+		/**
+		 * int の値を指定 (ボクシングせずに保持する)
+		 */
+		public WhereHolder(WhereDelimiter delimiter, 
+							String alias, 
+							String column, 
+							WhereType type,
+							int param) {
+			this(delimiter, alias, column, type, null, null, param, int.class);
+		}
+		
+		/**
+		 * short の値を指定 (ボクシングせずに保持する)
+		 */
+		public WhereHolder(WhereDelimiter delimiter, 
+							String alias, 
+							String column, 
+							WhereType type,
+							short param) {
+			this(delimiter, alias, column, type, null, null, param, short.class);
+		}
+		
+		/**
+		 * byte の値を指定 (ボクシングせずに保持する)
+		 */
+		public WhereHolder(WhereDelimiter delimiter, 
+							String alias, 
+							String column, 
+							WhereType type,
+							byte param) {
+			this(delimiter, alias, column, type, null, null, param, byte.class);
+		}
+		
+		public WhereHolder(WhereDelimiter delimiter, 
+							String alias, 
+							String column, 
+							WhereType type,
+							Object param,
+							InBucketing bucketing) {
+			this(delimiter, alias, column, type, param, bucketing, 0L, null);
+		}
+		
+		private WhereHolder(WhereDelimiter delimiter, 
+							String alias, 
+							String column, 
+							WhereType type,
+							Object param,
+							InBucketing bucketing,
+							long primitive,
+							Class<?> primitiveType) {
 			
 			this.delimiter = delimiter;
-			this.alias = Optional.ofNullable(alias);
+			this.alias = alias;
 			this.column = column;
 			this.type = type;
-			this.param = Optional.ofNullable(param);
+			this.param = param;
+			this.bucketing = bucketing;
+			this.primitive = primitive;
+			this.primitiveType = primitiveType;
 		}
 		
 		
@@ -804,10 +3035,69 @@ public interface Where {
 		}
 		
 		public Optional<?> getParam() {
+			return Optional.ofNullable(getParamValue());
+		}
+		
+		/**
+		 * パラメータを取得 (プリミティブで指定された値は指定された型でボクシングする)
+		 * @return パラメータ。未指定の場合はnull
+		 */
+		public Object getParamValue() {
+			if (primitiveType == long.class) {
+				return primitive;
+			}
+			if (primitiveType == int.class) {
+				return (int) primitive;
+			}
+			if (primitiveType == short.class) {
+				return (short) primitive;
+			}
+			if (primitiveType == byte.class) {
+				return (byte) primitive;
+			}
 			return param;
 		}
 		
+		/**
+		 * 値がプリミティブで指定されたかどうか
+		 */
+		boolean isPrimitive() {
+			return primitiveType != null;
+		}
+		
+		/**
+		 * プリミティブで指定された値を指定された型のままボクシングせずに追加
+		 * @param sink 値リスト
+		 */
+		void addPrimitiveTo(ParameterSink sink) {
+			if (primitiveType == int.class) {
+				sink.addInt((int) primitive);
+			} else if (primitiveType == short.class) {
+				sink.addShort((short) primitive);
+			} else if (primitiveType == byte.class) {
+				sink.addByte((byte) primitive);
+			} else {
+				sink.addLong(primitive);
+			}
+		}
+		
+		/**
+		 * デリミタを差し替えたコピーを作成 (プリミティブの値はそのまま保持する)
+		 * @param delimiter デリミタ
+		 */
+		WhereHolder withDelimiter(WhereDelimiter delimiter) {
+			return new WhereHolder(delimiter, alias, column, type, param, bucketing, primitive, primitiveType);
+		}
+		
 		public Optional<String> getAlias() {
+			return Optional.ofNullable(alias);
+		}
+		
+		/**
+		 * エイリアスを取得
+		 * @return エイリアス。未指定の場合はnull
+		 */
+		public String getAliasName() {
 			return alias;
 		}
 		
@@ -815,8 +3105,37 @@ public interface Where {
 			return column;
 		}
 		
+		/**
+		 * IN のプレースホルダ数の丸め方を取得
+		 * @return 未指定の場合はデフォルト
+		 */
+		public InBucketing getBucketing() {
+			return bucketing == null ? InBucketing.getDefault() : bucketing;
+		}
+		
+		/**
+		 * 指定された IN のプレースホルダ数の丸め方を取得
+		 * @return 未指定の場合は null
+		 */
+		InBucketing getSpecifiedBucketing() {
+			return bucketing;
+		}
+		
 		public String getAliasColumn() {
-			return SqlUtil.alias(alias, column);
+			return SqlUtil.alias(getAlias(), column);
+		}
+		
+		/**
+		 * 値を除いた構造を形状に追加<br>
+		 * IN / NOT IN は値の数、それ以外は -1 を値の数とする。
+		 * @param builder 形状
+		 */
+		void appendShape(QueryShape.Builder builder) {
+			builder.add(delimiter)
+				.add(type)
+				.add(alias)
+				.add(column)
+				.add(param instanceof Collection ? ((Collection<?>) param).size() : -1);
 		}
 		
 		@Override
@@ -826,6 +3145,10 @@ public interface Where {
 		
 	}
 	
+	/**
+	 * WHERE文と値リストの処理<br>
+	 * 値リストは {@link ParameterSink} で、long / int / short / byte で指定された値はボクシングせずに保持する。
+	 */
 	@FunctionalInterface
 	public interface Consumer {
 		public void consume(String where, List<Object> params);
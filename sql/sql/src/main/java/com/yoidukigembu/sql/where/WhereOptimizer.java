@@ -0,0 +1,233 @@
+package com.yoidukigembu.sql.where;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.yoidukigembu.sql.where.Where.WhereHolder;
+import com.yoidukigembu.sql.where.enums.WhereDelimiter;
+import com.yoidukigembu.sql.where.enums.WhereType;
+
+/**
+ * WHERE条件の最適化<br>
+ * 条件ホルダリストは AND が OR より優先されるため、OR で区切った AND グループの並びとして扱い、
+ * 結果が変わらない範囲で次の変換を行う。
+ * <ul>
+ * <li>AND グループ内の重複した条件を除く</li>
+ * <li>同じ条件の AND グループを除く</li>
+ * <li>条件が1つだけの AND グループの、同じカラムの = / IN を1つの IN にまとめる</li>
+ * <li>IN / NOT IN の重複した値を除く (値が1つになった場合は = / != にする)</li>
+ * </ul>
+ * {@link Param} を値に持つ条件はまとめない。
+ *
+ */
+public final class WhereOptimizer {
+
+	/** デフォルトで最適化するか */
+	private static volatile boolean enabledByDefault = false;
+
+	private WhereOptimizer() {}
+
+	/**
+	 * デフォルトで最適化するかどうか
+	 */
+	public static boolean isEnabledByDefault() {
+		return enabledByDefault;
+	}
+
+	/**
+	 * デフォルトで最適化するかを設定
+	 * @param enabled 最適化する場合は true
+	 */
+	public static void setEnabledByDefault(boolean enabled) {
+		enabledByDefault = enabled;
+	}
+
+	/**
+	 * 条件ホルダリストを最適化
+	 * @param holderList 条件ホルダリスト
+	 * @return 最適化した条件ホルダリスト
+	 */
+	public static List<WhereHolder> optimize(List<WhereHolder> holderList) {
+		if (holderList.isEmpty()) {
+			return holderList;
+		}
+
+		// OR で区切った AND グループに分け、グループ内の重複を除く
+		List<List<WhereHolder>> groupList = new ArrayList<>();
+		List<Object> keyList = null;
+		List<WhereHolder> group = null;
+		for (int i = 0; i < holderList.size(); i++) {
+			WhereHolder holder = holderList.get(i);
+			if (i == 0 || holder.getDelimiter() == WhereDelimiter.OR) {
+				group = new ArrayList<>();
+				keyList = new ArrayList<>();
+				groupList.add(group);
+			}
+
+			holder = distinctValues(holder);
+			Object key = key(holder);
+			if (!keyList.contains(key)) {
+				keyList.add(key);
+				group.add(holder);
+			}
+		}
+
+		groupList = mergeEquals(groupList);
+
+		// 同じ条件のグループを除く
+		Set<Set<Object>> groupKeySet = new LinkedHashSet<>();
+		List<WhereHolder> result = new ArrayList<>(holderList.size());
+		for (List<WhereHolder> g : groupList) {
+			Set<Object> groupKey = new LinkedHashSet<>();
+			for (WhereHolder holder : g) {
+				groupKey.add(key(holder));
+			}
+			if (!groupKeySet.add(groupKey)) {
+				continue;
+			}
+
+			for (int i = 0; i < g.size(); i++) {
+				WhereDelimiter delimiter = i > 0 ? WhereDelimiter.AND
+						: result.isEmpty() ? holderList.get(0).getDelimiter() : WhereDelimiter.OR;
+				result.add(withDelimiter(g.get(i), delimiter));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 条件が1つだけのグループの、同じカラムの = / IN を1つの IN にまとめる
+	 */
+	private static List<List<WhereHolder>> mergeEquals(List<List<WhereHolder>> groupList) {
+		if (groupList.size() < 2) {
+			return groupList;
+		}
+
+		// カラムごとの値 (最初に現れた位置にまとめる)
+		Map<List<String>, Set<Object>> valueMap = new LinkedHashMap<>();
+		Map<List<String>, WhereHolder> firstMap = new LinkedHashMap<>();
+		for (List<WhereHolder> g : groupList) {
+			if (!isMergeable(g)) {
+				continue;
+			}
+			WhereHolder holder = g.get(0);
+			List<String> column = Arrays.asList(holder.getAliasName(), holder.getColumn());
+			firstMap.putIfAbsent(column, holder);
+			Set<Object> values = valueMap.computeIfAbsent(column, k -> new LinkedHashSet<>());
+			if (holder.getType() == WhereType.IN) {
+				values.addAll((Collection<?>) holder.getParamValue());
+			} else {
+				values.add(holder.getParamValue());
+			}
+		}
+
+		List<List<WhereHolder>> result = new ArrayList<>(groupList.size());
+		for (List<WhereHolder> g : groupList) {
+			if (!isMergeable(g)) {
+				result.add(g);
+				continue;
+			}
+
+			WhereHolder holder = g.get(0);
+			List<String> column = Arrays.asList(holder.getAliasName(), holder.getColumn());
+			if (firstMap.get(column) != holder) {
+				// まとめた条件に含まれる
+				continue;
+			}
+
+			List<Object> values = new ArrayList<>(valueMap.get(column));
+			WhereHolder merged = values.size() == 1
+					? new WhereHolder(holder.getDelimiter(), holder.getAliasName(), holder.getColumn(),
+							WhereType.EQUALS, values.get(0))
+					: new WhereHolder(holder.getDelimiter(), holder.getAliasName(), holder.getColumn(),
+							WhereType.IN, values, holder.getSpecifiedBucketing());
+			result.add(Collections.singletonList(merged));
+		}
+		return result;
+	}
+
+	/**
+	 * IN にまとめられるグループか (条件が1つで、値が指定された = / IN)<br>
+	 * null を含む IN は = null や null を含む IN にまとまらないよう、まとめない。
+	 */
+	private static boolean isMergeable(List<WhereHolder> group) {
+		if (group.size() != 1) {
+			return false;
+		}
+
+		WhereHolder holder = group.get(0);
+		Object param = holder.getParamValue();
+		if (param == null || param instanceof Param) {
+			return false;
+		}
+
+		switch (holder.getType()) {
+		case EQUALS:
+			return true;
+		case IN:
+			return param instanceof Collection && !((Collection<?>) param).isEmpty()
+					&& ((Collection<?>) param).stream().noneMatch(Objects::isNull);
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * IN / NOT IN の重複した値を除く
+	 */
+	private static WhereHolder distinctValues(WhereHolder holder) {
+		if (holder.getType() != WhereType.IN && holder.getType() != WhereType.NOT_IN) {
+			return holder;
+		}
+
+		Object param = holder.getParamValue();
+		if (!(param instanceof Collection) || ((Collection<?>) param).isEmpty()) {
+			return holder;
+		}
+
+		Collection<?> values = (Collection<?>) param;
+		Set<Object> distinct = new LinkedHashSet<>(values);
+		if (distinct.size() == 1 && distinct.contains(null)) {
+			// = null は値を指定できないため変更しない
+			return holder;
+		}
+		if (distinct.size() == 1) {
+			WhereType type = holder.getType() == WhereType.IN ? WhereType.EQUALS : WhereType.NOT_EQUALS;
+			return new WhereHolder(holder.getDelimiter(), holder.getAliasName(), holder.getColumn(),
+					type, distinct.iterator().next());
+		}
+
+		if (distinct.size() == values.size()) {
+			return holder;
+		}
+
+		return new WhereHolder(holder.getDelimiter(), holder.getAliasName(), holder.getColumn(),
+				holder.getType(), new ArrayList<>(distinct), holder.getSpecifiedBucketing());
+	}
+
+	/**
+	 * 条件の同一性を判定するキー (デリミタを除く)
+	 */
+	private static Object key(WhereHolder holder) {
+		Object param = holder.getParamValue();
+		if (param instanceof Collection && !(param instanceof List)) {
+			param = new ArrayList<>((Collection<?>) param);
+		}
+		return Arrays.asList(holder.getType(), holder.getAliasName(), holder.getColumn(), param);
+	}
+
+	private static WhereHolder withDelimiter(WhereHolder holder, WhereDelimiter delimiter) {
+		if (holder.getDelimiter() == delimiter) {
+			return holder;
+		}
+		return holder.withDelimiter(delimiter);
+	}
+}
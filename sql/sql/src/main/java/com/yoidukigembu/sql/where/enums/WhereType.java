@@ -1,5 +1,7 @@
 package com.yoidukigembu.sql.where.enums;
 
+import com.yoidukigembu.sql.util.SqlUtil;
+
 /**
  * WHEREのタイプ
  * @author hilo
@@ -28,20 +30,90 @@ public enum WhereType {
 	/** column NOT IN (?,?...) */
 	NOT_IN("%s NOT IN (%s)"),
 	/** column LIKE 'str%' */
-	BEGIN_WITH("%s LIKE ?"),
+	BEGIN_WITH("%s LIKE ?", "", "%"),
 	/** column LIKE '%str' */
-	ENDS_WITH("%s LIKE ?"),
+	ENDS_WITH("%s LIKE ?", "%", ""),
 	/** column LIKE '%str%' */
-	CONTAINS("%s LIKE ?"),
+	CONTAINS("%s LIKE ?", "%", "%"),
 	;
 	
 	private String queryFormat;
 	
+	/** queryFormat を %s で分割したもの */
+	private final String[] fragments;
+	
+	/** 値の前に付与する文字列 (LIKE のみ) */
+	private final String paramPrefix;
+	
+	/** 値の後に付与する文字列 (LIKE のみ) */
+	private final String paramSuffix;
+	
 	private WhereType(String queryFormat) {
+		this(queryFormat, null, null);
+	}
+	
+	private WhereType(String queryFormat, String paramPrefix, String paramSuffix) {
 		this.queryFormat = queryFormat;
+		this.fragments = queryFormat.split("%s", -1);
+		this.paramPrefix = paramPrefix;
+		this.paramSuffix = paramSuffix;
 	}
 	
 	public String getQueryFormat() {
 		return queryFormat;
 	}
+	
+	/**
+	 * クエリを追加 (IS NULL, = ? など)
+	 * @param sb 追加先
+	 * @param alias エイリアス (null可)
+	 * @param column カラム名
+	 * @return 追加先
+	 */
+	public StringBuilder appendQuery(StringBuilder sb, String alias, String column) {
+		sb.append(fragments[0]);
+		SqlUtil.appendAlias(sb, alias, column);
+		return sb.append(fragments[1]);
+	}
+	
+	/**
+	 * 値を複数指定するクエリを追加 (IN など)
+	 * @param sb 追加先
+	 * @param alias エイリアス (null可)
+	 * @param column カラム名
+	 * @param count プレースホルダの数
+	 * @return 追加先
+	 */
+	public StringBuilder appendQuery(StringBuilder sb, String alias, String column, int count) {
+		sb.append(fragments[0]);
+		SqlUtil.appendAlias(sb, alias, column);
+		sb.append(fragments[1]);
+		SqlUtil.appendQuestions(sb, count);
+		return sb.append(fragments[2]);
+	}
+	
+	/**
+	 * バインドする値を変換するかどうか (LIKE のみ)
+	 */
+	public boolean convertsParam() {
+		return paramPrefix != null;
+	}
+	
+	/**
+	 * バインドする値に変換 (LIKE のパターン作成)
+	 * @param value 値
+	 * @return 変換後の値
+	 */
+	public Object convertParam(Object value) {
+		if (paramPrefix == null) {
+			return value;
+		}
+		
+		String str = String.valueOf(value);
+		return new StringBuilder(str.length() + 2)
+				.append(paramPrefix)
+				.append(str)
+				.append(paramSuffix)
+				.toString();
+	}
 }
@@ -0,0 +1,59 @@
+package com.yoidukigembu.sql.jfr;
+
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.enums.QueryKind;
+
+/**
+ * JFR へのイベントの記録<br>
+ * {@link QueryEvents} からリフレクションで作成する。
+ *
+ */
+final class JfrQueryEventRecorder implements QueryEventRecorder {
+
+	@Override
+	public Object beginBuild() {
+		QueryBuildEvent event = new QueryBuildEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitBuild(Object event, QueryKind kind, QueryShape shape, int sqlLength, int paramCount) {
+		QueryBuildEvent e = (QueryBuildEvent) event;
+		e.end();
+		if (e.shouldCommit()) {
+			e.kind = kind.name();
+			e.fingerprint = shape.getFingerprint();
+			e.sqlLength = sqlLength;
+			e.paramCount = paramCount;
+			e.commit();
+		}
+	}
+
+	@Override
+	public Object beginExecution() {
+		QueryExecutionEvent event = new QueryExecutionEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitExecution(Object event, QueryKind kind, QueryShape shape, int sqlLength, int paramCount, long rows) {
+		QueryExecutionEvent e = (QueryExecutionEvent) event;
+		e.end();
+		if (e.shouldCommit()) {
+			e.kind = kind.name();
+			e.fingerprint = shape.getFingerprint();
+			e.sqlLength = sqlLength;
+			e.paramCount = paramCount;
+			e.rows = rows;
+			e.commit();
+		}
+	}
+}
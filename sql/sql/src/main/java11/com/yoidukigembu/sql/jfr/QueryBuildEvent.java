@@ -0,0 +1,33 @@
+package com.yoidukigembu.sql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SQL文の生成のイベント<br>
+ * jdk.jfr を参照するため、{@link QueryEvents} から JFR の存在を確認した後にのみ読み込む。
+ *
+ */
+@Name("com.yoidukigembu.sql.QueryBuild")
+@Label("Query Build")
+@Category({"SQL"})
+@Description("SQL文の生成")
+@StackTrace(false)
+final class QueryBuildEvent extends Event {
+
+	@Label("Kind")
+	String kind;
+
+	@Label("Fingerprint")
+	long fingerprint;
+
+	@Label("SQL Length")
+	int sqlLength;
+
+	@Label("Param Count")
+	int paramCount;
+}
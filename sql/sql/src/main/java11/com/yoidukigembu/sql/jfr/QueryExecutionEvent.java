@@ -0,0 +1,34 @@
+package com.yoidukigembu.sql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * クエリの実行のイベント (行の変換を含む)<br>
+ * jdk.jfr を参照するため、{@link QueryEvents} から JFR の存在を確認した後にのみ読み込む。
+ *
+ */
+@Name("com.yoidukigembu.sql.QueryExecution")
+@Label("Query Execution")
+@Category({"SQL"})
+@Description("クエリの実行")
+final class QueryExecutionEvent extends Event {
+
+	@Label("Kind")
+	String kind;
+
+	@Label("Fingerprint")
+	long fingerprint;
+
+	@Label("SQL Length")
+	int sqlLength;
+
+	@Label("Param Count")
+	int paramCount;
+
+	@Label("Rows")
+	long rows;
+}
@@ -0,0 +1,39 @@
+package com.yoidukigembu.sql.cache;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class QueryTemplateCacheTest extends TestCase {
+
+	@Test
+	public void 最大保持数を超えた場合の破棄のテスト() {
+		QueryTemplateCache cache = new QueryTemplateCache(2);
+		QueryShape first = shape(1);
+		QueryShape second = shape(2);
+		cache.put(first, "SQL1", 1);
+		cache.put(second, "SQL2", 2);
+		assertEquals("SQL1", cache.get(first));
+		
+		cache.put(shape(3), "SQL3", 3);
+		assertEquals(2, cache.size());
+		// 参照されたものは残る
+		assertEquals("SQL1", cache.get(first));
+		assertNull(cache.get(second));
+		
+		for (int i = 4; i < 100; i++) {
+			cache.put(shape(i), "SQL" + i, i);
+			assertTrue(cache.size() <= 2);
+		}
+		assertEquals(99, cache.getTemplate(shape(99)).getParamCount());
+	}
+	
+	private static QueryShape shape(int i) {
+		return new QueryShape(Arrays.asList("shape", i));
+	}
+}
@@ -0,0 +1,192 @@
+package com.yoidukigembu.sql.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.jdbc.RowMapper;
+import com.yoidukigembu.sql.jdbc.TestDataSource;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.update.Update;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class ResultCacheTest extends TestCase {
+
+	private DataSource dataSource;
+
+	private ResultCache cache = ResultCache.getDefault();
+
+	@Before
+	public void before() throws SQLException {
+		dataSource = TestDataSource.create("resultCache", 10);
+		cache.clear();
+		cache.setTtl(DummyEntity.class, Duration.ofMinutes(10));
+	}
+
+	@After
+	public void after() {
+		cache.setTtl(DummyEntity.class, null);
+		cache.clear();
+	}
+
+	@Test
+	public void 結果をキャッシュするテスト() throws SQLException {
+		Select<DummyEntity> select = Select.from(DummyEntity.class).where(new BasicWhere().eq("id", 1L));
+		assertEquals("name1", select.one(dataSource).get().getName());
+
+		// データベースを直接更新してもキャッシュから取得する
+		execute("UPDATE schema.dummy SET name = 'changed' WHERE id = 1");
+		assertEquals("name1", select.one(dataSource).get().getName());
+		assertEquals(1L, cache.getHitCount());
+
+		// 値が異なる場合は別の結果
+		assertEquals("name2", Select.from(DummyEntity.class)
+				.where(new BasicWhere().eq("id", 2L))
+				.one(dataSource).get().getName());
+	}
+
+	@Test
+	public void 更新で無効になるテスト() {
+		Select<DummyEntity> select = Select.from(DummyEntity.class).where(new BasicWhere().le("id", 3L));
+		assertEquals(3, select.list(dataSource).size());
+		assertEquals(3L, select.count(dataSource));
+
+		Update.table(DummyEntity.class)
+			.set("name", "updated")
+			.where(new BasicWhere().eq("id", 1L))
+			.execute(dataSource);
+
+		assertEquals("updated", select.list(dataSource).get(0).getName());
+		assertEquals(0L, cache.getHitCount());
+	}
+
+	@Test
+	public void ページの件数をキャッシュするテスト() throws SQLException {
+		Select<DummyEntity> select = Select.from(DummyEntity.class).where(new BasicWhere().le("id", 5L)).limit(2);
+		assertEquals(5L, select.count(dataSource));
+
+		// 別スレッドでの件数の取得も count と同じキャッシュを使う
+		execute("DELETE FROM schema.dummy WHERE id = 5");
+		assertEquals(5L, select.page(dataSource, Runnable::run).getTotal());
+		assertEquals(1L, cache.getHitCount());
+	}
+
+	@Test
+	public void 分割更新の主キーの取得はキャッシュしないテスト() {
+		Update.table(DummyEntity.class)
+			.set("name", "updated")
+			.where(new BasicWhere().le("id", 5L))
+			.executeInChunks(dataSource, 2);
+
+		assertEquals(0, cache.size());
+		assertEquals(0L, cache.getMissCount());
+	}
+
+	@Test
+	public void 取得したリストを変更しても影響しないテスト() {
+		Select<DummyEntity> select = Select.from(DummyEntity.class);
+		select.list(dataSource).clear();
+		assertEquals(10, select.list(dataSource).size());
+		assertEquals(1L, cache.getHitCount());
+	}
+
+	@Test
+	public void 取得したエンティティを変更しても影響しないテスト() {
+		Select<DummyEntity> select = Select.from(DummyEntity.class).where(new BasicWhere().le("id", 3L));
+		select.list(dataSource).get(0).setName("changed");
+		assertEquals("name1", select.list(dataSource).get(0).getName());
+		
+		Select<DummyEntity> one = Select.from(DummyEntity.class).where(new BasicWhere().eq("id", 1L));
+		one.one(dataSource).get().setName("changed");
+		assertEquals("name1", one.one(dataSource).get().getName());
+		assertEquals(2L, cache.getHitCount());
+	}
+
+	@Test
+	public void コピーできないRowMapperはキャッシュしないテスト() {
+		Select<DummyEntity> select = Select.from(DummyEntity.class).columns("name");
+		RowMapper<String> mapper = (rs, rowNum) -> rs.getString(1);
+		select.list(dataSource, mapper);
+		select.list(dataSource, mapper);
+		assertEquals(0, cache.size());
+		
+		// 変更できない値の RowMapper はキャッシュする
+		RowMapper<String> immutable = RowMapper.immutable(mapper);
+		select.list(dataSource, immutable);
+		assertEquals(10, select.list(dataSource, immutable).size());
+		assertEquals(1L, cache.getHitCount());
+	}
+
+	@Test
+	public void TTL未指定のテーブルはキャッシュしないテスト() {
+		cache.setTtl(DummyEntity.class, null);
+		Select<DummyEntity> select = Select.from(DummyEntity.class);
+		select.list(dataSource);
+		select.list(dataSource);
+		assertEquals(0, cache.size());
+		assertEquals(0L, cache.getHitCount() + cache.getMissCount());
+	}
+
+	@Test
+	public void 有効期限切れのテスト() {
+		ResultCache cache = new ResultCache(ResultCache.DEFAULT_MAX_BYTES);
+		cache.setTtl("t", Duration.ofNanos(1));
+		cache.get("t", "SELECT", Collections.emptyList(), null, List::size, () -> Arrays.asList(1));
+		assertEquals(Arrays.asList(2),
+				cache.get("t", "SELECT", Collections.emptyList(), null, List::size, () -> Arrays.asList(2)));
+		assertEquals(0L, cache.getHitCount());
+	}
+
+	@Test
+	public void 最大バイト数で破棄するテスト() {
+		ResultCache cache = new ResultCache(1000);
+		cache.setRowBytes(100);
+		cache.setTtl("t", Duration.ofMinutes(1));
+
+		for (int i = 0; i < 3; i++) {
+			int value = i;
+			cache.get("t", "SELECT " + i, Collections.emptyList(), null, List::size,
+					() -> Collections.nCopies(3, value));
+			if (i == 0) {
+				// 参照済みにする
+				cache.get("t", "SELECT 0", Collections.emptyList(), null, List::size, () -> Collections.nCopies(3, 9));
+			}
+		}
+		// 1件あたり 128 + 16 + 300 バイトのため2件まで
+		assertEquals(2, cache.size());
+		assertTrue(cache.getBytes() <= 1000);
+
+		// 参照されていないものが破棄され、参照済みのものと追加したものが残る
+		assertEquals(Collections.nCopies(3, 0),
+				cache.get("t", "SELECT 0", Collections.emptyList(), null, List::size, () -> Collections.nCopies(3, 9)));
+		assertEquals(Collections.nCopies(3, 2),
+				cache.get("t", "SELECT 2", Collections.emptyList(), null, List::size, () -> Collections.nCopies(3, 9)));
+
+		// 最大バイト数を超える結果は保持しない
+		cache.get("t", "SELECT big", Collections.emptyList(), null, List::size, () -> Collections.nCopies(100, 0));
+		assertEquals(2, cache.size());
+	}
+
+	private void execute(String sql) throws SQLException {
+		try (Connection con = dataSource.getConnection();
+				Statement st = con.createStatement()) {
+			st.execute(sql);
+		}
+	}
+}
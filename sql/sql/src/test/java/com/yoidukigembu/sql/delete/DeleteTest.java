@@ -0,0 +1,68 @@
+package com.yoidukigembu.sql.delete;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.enums.ChunkMode;
+import com.yoidukigembu.sql.jdbc.TestDataSource;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class DeleteTest extends TestCase {
+
+	private DataSource dataSource;
+
+	@Before
+	public void before() throws SQLException {
+		dataSource = TestDataSource.create("delete", 100);
+	}
+
+	@Test
+	public void SQL文生成のテスト() {
+		Delete.from(DummyEntity.class)
+			.where(new BasicWhere().eq("name", "a").orEq("name", "b"))
+			.generate((sql, params) -> {
+				assertEquals("DELETE FROM schema.dummy WHERE name = ? OR name = ? ", sql);
+				assertEquals(Arrays.asList("a", "b"), params);
+				return null;
+			});
+	}
+
+	@Test
+	public void デリート実行のテスト() {
+		assertEquals(10, Delete.from(DummyEntity.class)
+				.where(new BasicWhere().le("id", 10))
+				.execute(dataSource));
+		assertEquals(90L, Select.from(DummyEntity.class).count(dataSource));
+	}
+
+	@Test
+	public void キーセットでの分割デリートのテスト() {
+		assertEquals(53, Delete.from(DummyEntity.class)
+				.where(new BasicWhere().gt("id", 50).orLe("id", 3))
+				.executeInChunks(dataSource, 10));
+		assertEquals(47L, Select.from(DummyEntity.class).count(dataSource));
+		assertEquals(0L, Select.from(DummyEntity.class)
+				.where(new BasicWhere().gt("id", 50))
+				.count(dataSource));
+	}
+
+	@Test
+	public void LIMITでの分割デリートのテスト() {
+		assertEquals(25, Delete.from(DummyEntity.class)
+				.where(new BasicWhere().le("id", 25))
+				.executeInChunks(dataSource, 10, ChunkMode.LIMIT));
+		assertEquals(75L, Select.from(DummyEntity.class).count(dataSource));
+	}
+}
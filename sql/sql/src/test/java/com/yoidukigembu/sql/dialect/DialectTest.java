@@ -0,0 +1,138 @@
+package com.yoidukigembu.sql.dialect;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.delete.Delete;
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.enums.ChunkMode;
+import com.yoidukigembu.sql.exception.SqlExecutionException;
+import com.yoidukigembu.sql.jdbc.SqlArray;
+import com.yoidukigembu.sql.jdbc.TestDataSource;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class DialectTest extends TestCase {
+
+	private DataSource dataSource;
+
+	@Before
+	public void before() throws SQLException {
+		dataSource = TestDataSource.create("dialect", 10);
+	}
+
+	@Test
+	public void デフォルトは従来のLIMIT_OFFSETのテスト() {
+		Select.from(DummyEntity.class)
+			.columns("id")
+			.limit(10)
+			.offset(20)
+			.generate((sql, params) -> {
+				assertEquals("SELECT id FROM schema.dummy LIMIT 10 OFFSET 20", sql);
+				return null;
+			});
+	}
+
+	@Test
+	public void ANSIのLIMIT_OFFSETのテスト() {
+		Select.from(DummyEntity.class)
+			.columns("id")
+			.limit(10)
+			.offset(20)
+			.dialect(StandardDialect.ANSI)
+			.generate((sql, params) -> {
+				assertEquals("SELECT id FROM schema.dummy OFFSET 20 ROWS FETCH FIRST 10 ROWS ONLY", sql);
+				return null;
+			});
+	}
+
+	@Test
+	public void MySQLのOFFSETのみのテスト() {
+		Select.from(DummyEntity.class)
+			.columns("id")
+			.offset(20)
+			.dialect(StandardDialect.MYSQL)
+			.generate((sql, params) -> {
+				assertEquals("SELECT id FROM schema.dummy LIMIT 18446744073709551615 OFFSET 20", sql);
+				return null;
+			});
+	}
+
+	@Test
+	public void 配列でのINのテスト() {
+		List<Long> ids = Arrays.asList(1L, 2L, 3L);
+		Select.from(DummyEntity.class)
+			.columns("id")
+			.where(new BasicWhere().in("id", ids).notIn("name", Arrays.asList("a", "b")))
+			.dialect(StandardDialect.POSTGRESQL)
+			.generate((sql, params) -> {
+				assertEquals("SELECT id FROM schema.dummy WHERE id = ANY(?) AND NOT (name = ANY(?)) ", sql);
+				assertEquals(Arrays.asList(new SqlArray("BIGINT", ids), new SqlArray("VARCHAR", Arrays.asList("a", "b"))), params);
+				return null;
+			});
+
+		// 値の数が違っても同じSQL文
+		Select.from(DummyEntity.class)
+			.columns("id")
+			.where(new BasicWhere().in("id", Collections.nCopies(500, 1L)))
+			.dialect(StandardDialect.POSTGRESQL)
+			.generate((sql, params) -> {
+				assertEquals("SELECT id FROM schema.dummy WHERE id = ANY(?) ", sql);
+				assertEquals(1, params.size());
+				return null;
+			});
+	}
+
+	@Test
+	public void 配列にできない値のINは展開するテスト() {
+		Select.from(DummyEntity.class)
+			.columns("id")
+			.where(new BasicWhere().in("id", Arrays.asList(1L, 2)))
+			.dialect(StandardDialect.H2)
+			.generate((sql, params) -> {
+				assertEquals("SELECT id FROM schema.dummy WHERE id IN (?, ?) ", sql);
+				assertEquals(Arrays.asList(1L, 2), params);
+				return null;
+			});
+	}
+
+	@Test
+	public void H2での配列のIN実行のテスト() {
+		List<Long> ids = Select.from(DummyEntity.class)
+				.columns("id")
+				.where(new BasicWhere().in("id", Arrays.asList(2L, 4L, 6L)).notIn("name", Arrays.asList("name4")))
+				.orderBy("id")
+				.dialect(StandardDialect.H2)
+				.list(dataSource, (rs, rowNum) -> rs.getLong(1));
+		assertEquals(Arrays.asList(2L, 6L), ids);
+
+		assertEquals(3L, Select.from(DummyEntity.class)
+				.where(new BasicWhere().in("id", Arrays.asList(1L, 2L, 3L)))
+				.dialect(StandardDialect.H2)
+				.count(dataSource));
+	}
+
+	@Test
+	public void DELETE_LIMITに未対応のテスト() {
+		try {
+			Delete.from(DummyEntity.class)
+				.dialect(StandardDialect.POSTGRESQL)
+				.executeInChunks(dataSource, 10, ChunkMode.LIMIT);
+			fail();
+		} catch (SqlExecutionException e) {
+		}
+		assertEquals(10L, Select.from(DummyEntity.class).count(dataSource));
+	}
+}
@@ -1,5 +1,7 @@
 package com.yoidukigembu.sql.entity;
 
+import javax.persistence.Column;
+import javax.persistence.Id;
 import javax.persistence.Table;
 
 @Table(name = DummyEntity.TABLE_NAME, schema = DummyEntity.SCHEMA)
@@ -9,4 +11,59 @@ public class DummyEntity {
 	public static final String TABLE_NAME = "dummy";
 	
 	public static final String SCHEMA = "schema";
+	
+	@Id
+	@Column(name = "id")
+	private Long id;
+	
+	@Column(name = "name")
+	private String name;
+	
+	@Column(name = "mail_address")
+	private String mailAddress;
+	
+	@Column
+	private Integer age;
+	
+	private String memo;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getMailAddress() {
+		return mailAddress;
+	}
+
+	public void setMailAddress(String mailAddress) {
+		this.mailAddress = mailAddress;
+	}
+
+	public Integer getAge() {
+		return age;
+	}
+
+	public void setAge(Integer age) {
+		this.age = age;
+	}
+
+	public String getMemo() {
+		return memo;
+	}
+
+	public void setMemo(String memo) {
+		this.memo = memo;
+	}
 }
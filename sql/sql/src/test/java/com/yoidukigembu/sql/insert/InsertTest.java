@@ -0,0 +1,88 @@
+package com.yoidukigembu.sql.insert;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.jdbc.TestDataSource;
+import com.yoidukigembu.sql.orderBy.OrderBy;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class InsertTest extends TestCase {
+
+	private DataSource dataSource;
+
+	@Before
+	public void before() throws SQLException {
+		dataSource = TestDataSource.create("insert", 0);
+	}
+
+	@Test
+	public void SQL文生成のテスト() {
+		List<String> sqlList = Insert.into(DummyEntity.class)
+			.columns("id", "name")
+			.rowsPerStatement(2)
+			.generateEach(entities(3), (sql, params) -> sql + params)
+			.collect(Collectors.toList());
+
+		assertEquals(Arrays.asList(
+				"INSERT INTO schema.dummy (id, name) VALUES (?, ?), (?, ?)[1, name1, 2, name2]",
+				"INSERT INTO schema.dummy (id, name) VALUES (?, ?)[3, name3]"), sqlList);
+	}
+
+	@Test
+	public void インサート実行のテスト() {
+		int count = Insert.into(DummyEntity.class)
+			.rowsPerStatement(3)
+			.statementsPerBatch(2)
+			.execute(dataSource, entities(17));
+		assertEquals(17, count);
+
+		assertEquals(17L, Select.from(DummyEntity.class).count(dataSource));
+
+		List<DummyEntity> list = Select.from(DummyEntity.class)
+			.where(new BasicWhere().in("id", Arrays.asList(1L, 17L)))
+			.orderBy(new OrderBy("id"))
+			.list(dataSource);
+		assertEquals("name17", list.get(1).getName());
+		assertEquals("mail17@example.com", list.get(1).getMailAddress());
+		assertEquals(Integer.valueOf(37), list.get(1).getAge());
+	}
+
+	@Test
+	public void バッチなしのインサート実行のテスト() {
+		int count = Insert.into(DummyEntity.class)
+			.rowsPerStatement(4)
+			.statementsPerBatch(1)
+			.execute(dataSource, entities(9));
+		assertEquals(9, count);
+		assertEquals(9L, Select.from(DummyEntity.class).count(dataSource));
+	}
+
+	private static List<DummyEntity> entities(int size) {
+		List<DummyEntity> list = new ArrayList<>();
+		for (long i = 1; i <= size; i++) {
+			DummyEntity entity = new DummyEntity();
+			entity.setId(i);
+			entity.setName("name" + i);
+			entity.setMailAddress("mail" + i + "@example.com");
+			entity.setAge((int) (20 + i));
+			list.add(entity);
+		}
+		return list;
+	}
+}
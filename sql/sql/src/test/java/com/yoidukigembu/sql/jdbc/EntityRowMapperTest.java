@@ -0,0 +1,101 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.orderBy.OrderBy;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class EntityRowMapperTest extends TestCase {
+	
+	private DataSource dataSource;
+	
+	@Before
+	public void before() throws SQLException {
+		dataSource = TestDataSource.create("mapper", 3);
+		try (Connection con = dataSource.getConnection();
+				Statement st = con.createStatement()) {
+			st.execute("UPDATE schema.dummy SET age = NULL WHERE id = 3");
+		}
+	}
+
+	@Test
+	public void カラム指定のテスト() {
+		List<DummyEntity> list = Select.from(DummyEntity.class)
+			.columns("id", "mail_address", "age", "UPPER(name)")
+			.orderBy(new OrderBy("id"))
+			.list(dataSource);
+		
+		assertEquals(3, list.size());
+		DummyEntity entity = list.get(0);
+		assertEquals(Long.valueOf(1L), entity.getId());
+		assertEquals("mail1@example.com", entity.getMailAddress());
+		assertEquals(Integer.valueOf(21), entity.getAge());
+		assertNull(entity.getName());
+		
+		assertNull(list.get(2).getAge());
+	}
+	
+	@Test
+	public void 全カラムのテスト() {
+		Optional<DummyEntity> entity = Select.from(DummyEntity.class)
+			.where(new BasicWhere().eq("id", 2L))
+			.one(dataSource);
+		
+		assertEquals(Long.valueOf(2L), entity.get().getId());
+		assertEquals("name2", entity.get().getName());
+		assertEquals("mail2@example.com", entity.get().getMailAddress());
+		assertEquals(Integer.valueOf(22), entity.get().getAge());
+	}
+	
+	@Test
+	public void RowMapperのキャッシュのテスト() {
+		Select<DummyEntity> select = Select.from(DummyEntity.class).columns("id", "name");
+		assertSame(select.mapper(), select.mapper());
+		assertSame(select.mapper(), Select.from(DummyEntity.class).columns("id", "name").mapper());
+		assertNotSame(select.mapper(), Select.from(DummyEntity.class).columns("id").mapper());
+	}
+	
+	@Test
+	public void setterがないエンティティのテスト() {
+		List<FieldEntity> list = Select.from(FieldEntity.class)
+			.columns("id", "name")
+			.orderBy(new OrderBy().desc("id"))
+			.list(dataSource);
+		
+		assertEquals(3, list.size());
+		assertEquals(3L, list.get(0).id);
+		assertEquals("name3", list.get(0).name);
+	}
+	
+	/**
+	 * setter がなく、public でないエンティティ
+	 */
+	@Table(name = "dummy", schema = "schema")
+	static class FieldEntity {
+		@Id
+		@Column(name = "id")
+		private long id;
+		
+		@Column(name = "name")
+		private String name;
+	}
+}
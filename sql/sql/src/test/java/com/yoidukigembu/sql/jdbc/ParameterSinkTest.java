@@ -0,0 +1,143 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.dialect.StandardDialect;
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class ParameterSinkTest extends TestCase {
+
+	@Test
+	public void 型ごとに保持するテスト() {
+		ParameterSink sink = new ParameterSink(1);
+		sink.addLong(1L)
+			.addInt(2)
+			.addDouble(1.5)
+			.addBoolean(true)
+			.addString("a")
+			.addString(null)
+			.addShort((short) 4)
+			.addByte((byte) 5);
+		sink.add(3L);
+		sink.add('c');
+		sink.add((short) 6);
+
+		assertEquals(11, sink.size());
+		assertEquals(Arrays.asList(1L, 2, 1.5, true, "a", null, (short) 4, (byte) 5, 3L, 'c', (short) 6), sink);
+		assertEquals(Long.class, sink.get(0).getClass());
+		assertEquals(Integer.class, sink.get(1).getClass());
+		assertEquals(Short.class, sink.get(6).getClass());
+		assertEquals(Byte.class, sink.get(7).getClass());
+		assertEquals(Short.class, sink.get(10).getClass());
+
+		sink.clear();
+		assertTrue(sink.isEmpty());
+		sink.addInt(5);
+		assertEquals(Arrays.asList(5), sink);
+	}
+
+	@Test
+	public void 値を変更するテスト() {
+		ParameterSink sink = new ParameterSink(1);
+		sink.addLong(1L).addInt(2).addString("a");
+
+		assertEquals(2, sink.set(1, "b"));
+		sink.add(0, (short) 3);
+		sink.add(sink.size(), 4L);
+		assertEquals(Arrays.asList((short) 3, 1L, "b", "a", 4L), sink);
+		assertEquals(Short.class, sink.get(0).getClass());
+
+		assertEquals("b", sink.remove(2));
+		assertEquals(1L, sink.remove(1));
+		assertEquals(Arrays.asList((short) 3, "a", 4L), sink);
+
+		sink.set(1, null);
+		sink.subList(0, 1).clear();
+		assertEquals(Arrays.asList(null, 4L), sink);
+		assertEquals(Long.class, sink.get(1).getClass());
+
+		try {
+			sink.add(3, 1);
+			fail("IndexOutOfBoundsException must be occured");
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(2, sink.size());
+		}
+	}
+
+	@Test
+	public void 生成した値リストを変更するテスト() throws SQLException {
+		// generate に渡す値リストは呼び出し元で変更できる
+		DataSource dataSource = TestDataSource.create("sinkGenerate", 3);
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			List<Long> list = Select.from(DummyEntity.class)
+				.columns("id")
+				.where(new BasicWhere().eq("id", 1L))
+				.generate((sql, params) -> {
+					assertTrue(params instanceof ParameterSink);
+					params.set(0, 2L);
+					params.add(3L);
+					params.remove(1);
+					return QueryExecutor.list(session, sql, params, (rs, rowNum) -> rs.getLong(1));
+				});
+			assertEquals(Arrays.asList(2L), list);
+		}
+	}
+
+	@Test
+	public void 指定された型のセッターでバインドするテスト() throws SQLException {
+		List<String> calls = new ArrayList<>();
+		PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] {PreparedStatement.class},
+				(proxy, method, args) -> {
+					calls.add(method.getName() + ":" + args[0] + ":" + args[1]);
+					return null;
+				});
+
+		ParameterSink sink = new ParameterSink();
+		new BasicWhere()
+			.eq("a", 1L)
+			.eq("b", 2)
+			.eq("c", (short) 3)
+			.eq("d", (byte) 4)
+			.eq("e", 'x')
+			.build((where, params) -> sink.addAll(params));
+		sink.bindTo(ps);
+		assertEquals(Arrays.asList("setLong:1:1", "setInt:2:2", "setShort:3:3", "setByte:4:4", "setString:5:x"), calls);
+	}
+
+	@Test
+	public void プリミティブの値でバインドするテスト() throws SQLException {
+		DataSource dataSource = TestDataSource.create("sink", 10);
+
+		List<Long> list = Select.from(DummyEntity.class)
+			.columns("id")
+			.where(new BasicWhere().gt("id", 2L).inLongs("id", new long[] {1, 3, 5}).orEq("id", 9))
+			.list(dataSource, (rs, rowNum) -> rs.getLong(1));
+		assertEquals(Arrays.asList(3L, 5L, 9L), list);
+
+		// 配列で IN をバインドするダイアレクト
+		List<Long> arrayList = Select.from(DummyEntity.class)
+			.columns("id")
+			.where(new BasicWhere().notInInts("id", new int[] {1, 2, 3}))
+			.dialect(StandardDialect.H2)
+			.limit(2)
+			.list(dataSource, (rs, rowNum) -> rs.getLong(1));
+		assertEquals(Arrays.asList(4L, 5L), arrayList);
+	}
+}
@@ -0,0 +1,256 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.enums.OrderType;
+import com.yoidukigembu.sql.exception.SelectException;
+import com.yoidukigembu.sql.exception.SqlExecutionException;
+import com.yoidukigembu.sql.orderBy.OrderBy;
+import com.yoidukigembu.sql.select.Page;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+import com.yoidukigembu.sql.where.InChunking;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class QueryExecutorTest extends TestCase {
+	
+	private DataSource dataSource;
+	
+	@Before
+	public void before() throws SQLException {
+		dataSource = TestDataSource.create("executor", 10);
+	}
+
+	@Test
+	public void listのテスト() {
+		List<String> list = Select.from(DummyEntity.class)
+			.columns("name")
+			.where(new BasicWhere().in("id", Arrays.asList(2L, 3L)).contains("name", "name"))
+			.orderBy(new OrderBy("id"))
+			.list(dataSource, (rs, rowNum) -> rs.getString(1));
+		
+		assertEquals(Arrays.asList("name2", "name3"), list);
+	}
+	
+	@Test
+	public void oneのテスト() {
+		Optional<Long> id = Select.from(DummyEntity.class)
+			.columns("id")
+			.where(new BasicWhere().eq("name", "name5"))
+			.one(dataSource, (rs, rowNum) -> rs.getLong(1));
+		assertEquals(Long.valueOf(5L), id.get());
+		
+		id = Select.from(DummyEntity.class)
+			.columns("id")
+			.where(new BasicWhere().eq("name", "none"))
+			.one(dataSource, (rs, rowNum) -> rs.getLong(1));
+		assertFalse(id.isPresent());
+		
+		try {
+			Select.from(DummyEntity.class)
+				.columns("id")
+				.one(dataSource, (rs, rowNum) -> rs.getLong(1));
+			fail("SqlExecutionException must be occured");
+		} catch (SqlExecutionException e) {
+			assertTrue(e.getMessage().startsWith("more than one row returned."));
+		}
+	}
+	
+	@Test
+	public void countのテスト() {
+		assertEquals(10L, Select.from(DummyEntity.class).count(dataSource));
+		assertEquals(3L, Select.from(DummyEntity.class)
+				.where(new BasicWhere().le("id", 3))
+				.count(dataSource));
+		assertEquals(3L, Select.from(DummyEntity.class)
+				.where(new BasicWhere().le("id", 3))
+				.orderBy("id")
+				.limit(1)
+				.count(dataSource));
+	}
+	
+	@Test
+	public void 集約関数とDISTINCTのcountのテスト() throws SQLException {
+		// age は 21 ～ 70 の 50 種類
+		DataSource dataSource = TestDataSource.create("countDistinct", 100);
+		assertEquals(50L, Select.from(DummyEntity.class)
+				.columns("DISTINCT age")
+				.count(dataSource));
+		assertEquals(1L, Select.from(DummyEntity.class)
+				.columns("MAX(age)")
+				.count(dataSource));
+		assertEquals(1L, Select.from(DummyEntity.class)
+				.columns("MAX(age)")
+				.where(new BasicWhere().gt("id", 1000L))
+				.count(dataSource));
+	}
+	
+	@Test
+	public void pageのテスト() {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Page<DummyEntity> page = Select.from(DummyEntity.class)
+				.where(new BasicWhere().ge("id", 2))
+				.orderBy(new OrderBy("id"))
+				.limit(4)
+				.offset(4)
+				.page(dataSource, executor);
+			assertEquals(Arrays.asList(6L, 7L, 8L, 9L), 
+					page.getContent().stream().map(DummyEntity::getId).collect(Collectors.toList()));
+			assertEquals(9L, page.getTotal());
+			assertTrue(page.hasNext());
+			
+			Page<Long> shortPage = Select.from(DummyEntity.class)
+				.columns("id")
+				.orderBy(new OrderBy("id"))
+				.limit(4)
+				.offset(8)
+				.page(dataSource, (rs, rowNum) -> rs.getLong(1), executor, true);
+			assertEquals(Arrays.asList(9L, 10L), shortPage.getContent());
+			assertEquals(10L, shortPage.getTotal());
+			assertFalse(shortPage.hasNext());
+			
+			Page<Long> emptyPage = Select.from(DummyEntity.class)
+				.columns("id")
+				.limit(4)
+				.offset(20)
+				.page(dataSource, (rs, rowNum) -> rs.getLong(1), executor, true);
+			assertTrue(emptyPage.getContent().isEmpty());
+			assertEquals(10L, emptyPage.getTotal());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void ウィンドウ関数でのpageのテスト() {
+		Page<DummyEntity> page = Select.from(DummyEntity.class)
+			.where(new BasicWhere().ge("id", 2))
+			.orderBy(new OrderBy("id"))
+			.limit(4)
+			.offset(4)
+			.pageWithWindowCount(dataSource);
+		assertEquals(Arrays.asList(6L, 7L, 8L, 9L), 
+				page.getContent().stream().map(DummyEntity::getId).collect(Collectors.toList()));
+		assertEquals("name6", page.getContent().get(0).getName());
+		assertEquals(9L, page.getTotal());
+		
+		Page<Long> emptyPage = Select.from(DummyEntity.class)
+			.columns("id")
+			.limit(4)
+			.offset(20)
+			.pageWithWindowCount(dataSource, (rs, rowNum) -> rs.getLong(1));
+		assertTrue(emptyPage.getContent().isEmpty());
+		assertEquals(10L, emptyPage.getTotal());
+	}
+	
+	@Test
+	public void 内容の取得に失敗したpageのテスト() {
+		// 件数の取得は実行せずに保持し、内容の取得の失敗後に実行する
+		List<Runnable> queued = new ArrayList<>();
+		AtomicInteger connections = new AtomicInteger();
+		DataSource counting = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] {DataSource.class},
+				(proxy, method, args) -> {
+					if (method.getName().equals("getConnection")) {
+						connections.incrementAndGet();
+					}
+					return method.invoke(dataSource, args);
+				});
+		
+		try {
+			Select.from(DummyEntity.class)
+				.columns("id")
+				.limit(4)
+				.page(counting, (rs, rowNum) -> {
+					throw new SQLException("mapping failed");
+				}, queued::add, false);
+			fail("SqlExecutionException must be occured");
+		} catch (SqlExecutionException e) {
+			assertEquals(1, connections.get());
+		}
+		
+		// 取り消した件数の取得はコネクションを取得しない
+		queued.forEach(Runnable::run);
+		assertEquals(1, queued.size());
+		assertEquals(1, connections.get());
+	}
+	
+	@Test(expected = SelectException.class)
+	public void limitなしのpageのテスト() {
+		Select.from(DummyEntity.class).page(dataSource, Runnable::run);
+	}
+	
+	@Test
+	public void セッションでのステートメント再利用のテスト() {
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			for (long i = 1; i <= 3; i++) {
+				Optional<String> name = Select.from(DummyEntity.class)
+					.columns("name")
+					.where(new BasicWhere().eq("id", i))
+					.one(session, (rs, rowNum) -> rs.getString(1));
+				assertEquals("name" + i, name.get());
+			}
+		}
+	}
+	
+	@Test
+	public void 型ごとのバインドのテスト() {
+		List<Integer> list = Select.from(DummyEntity.class)
+			.columns("age")
+			.where(new BasicWhere()
+					.eq("id", (short) 1)
+					.ne("name", 'x')
+					.isNotNull("mail_address")
+					.lt("age", new java.math.BigDecimal("100")))
+			.list(dataSource, (rs, rowNum) -> rs.getInt(1));
+		assertEquals(Arrays.asList(21), list);
+	}
+	
+	@Test
+	public void 分割生成の並び順のテスト() {
+		try (JdbcSession session = new JdbcSession(dataSource)) {
+			Select<DummyEntity> select = Select.from(DummyEntity.class)
+				.columns("id")
+				.where(new BasicWhere()
+						.chunking(InChunking.splitStatements(3))
+						.in("id", Arrays.asList(1L, 9L, 2L, 8L, 3L, 7L)))
+				.orderBy(new OrderBy("id", OrderType.DESC));
+			
+			List<Long> ids = select
+				.generateEach((sql, params) -> QueryExecutor.list(session, sql, params, (rs, rowNum) -> rs.getLong(1)))
+				.flatMap(List::stream)
+				.collect(Collectors.toList());
+			assertEquals(Arrays.asList(9L, 8L, 7L, 3L, 2L, 1L), ids);
+			
+			List<Long> counts = Select.from(DummyEntity.class)
+				.columns("COUNT(*)")
+				.where(new BasicWhere()
+						.chunking(InChunking.splitStatements(3))
+						.in("id", Arrays.asList(1L, 9L, 2L, 8L, 3L, 7L)))
+				.generateEach((sql, params) -> QueryExecutor.list(session, sql, params, (rs, rowNum) -> rs.getLong(1)))
+				.flatMap(List::stream)
+				.collect(Collectors.toList());
+			assertEquals(Arrays.asList(6L), counts);
+		}
+	}
+}
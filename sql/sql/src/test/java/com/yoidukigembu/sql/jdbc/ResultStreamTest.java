@@ -0,0 +1,109 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.orderBy.OrderBy;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class ResultStreamTest extends TestCase {
+	
+	/** 取得したコネクション */
+	private final List<Connection> connectionList = new ArrayList<>();
+	
+	private DataSource dataSource;
+	
+	@Before
+	public void before() throws SQLException {
+		DataSource original = TestDataSource.create("stream", 5000);
+		
+		// 取得したコネクションを記録する
+		dataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), 
+				new Class<?>[] {DataSource.class}, 
+				(proxy, method, args) -> {
+					Object result = method.invoke(original, args);
+					if (result instanceof Connection) {
+						connectionList.add((Connection) result);
+					}
+					return result;
+				});
+	}
+
+	@Test
+	public void 全件読み込みのテスト() throws SQLException {
+		try (Stream<Long> stream = Select.from(DummyEntity.class)
+				.columns("id")
+				.where(new BasicWhere().gt("id", 100))
+				.orderBy(new OrderBy("id"))
+				.stream(dataSource, (rs, rowNum) -> rs.getLong(1), 100)) {
+			
+			assertEquals(4900L, stream.count());
+		}
+		assertTrue(connectionList.get(0).isClosed());
+	}
+	
+	@Test
+	public void 途中で閉じた場合のテスト() throws SQLException {
+		Stream<String> stream = Select.from(DummyEntity.class)
+				.columns("name")
+				.orderBy(new OrderBy("id"))
+				.stream(dataSource, (rs, rowNum) -> rs.getString(1));
+		
+		Iterator<String> it = stream.iterator();
+		assertEquals("name1", it.next());
+		assertEquals("name2", it.next());
+		assertFalse(connectionList.get(0).isClosed());
+		
+		stream.close();
+		assertTrue(connectionList.get(0).isClosed());
+	}
+	
+	@Test
+	public void 読み取り専用のコネクションのテスト() throws SQLException {
+		DataSource original = dataSource;
+		List<Object> readOnlyList = new ArrayList<>();
+		DataSource readOnlySource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), 
+				new Class<?>[] {DataSource.class}, 
+				(proxy, method, args) -> {
+					Connection con = (Connection) method.invoke(original, args);
+					return Proxy.newProxyInstance(getClass().getClassLoader(), 
+							new Class<?>[] {Connection.class}, 
+							(p, m, a) -> {
+								if (m.getName().equals("isReadOnly")) {
+									return true;
+								}
+								if (m.getName().equals("setReadOnly")) {
+									readOnlyList.add(a[0]);
+								}
+								return m.invoke(con, a);
+							});
+				});
+		
+		try (Stream<Long> stream = Select.from(DummyEntity.class)
+				.columns("id")
+				.where(new BasicWhere().le("id", 3L))
+				.stream(readOnlySource, (rs, rowNum) -> rs.getLong(1))) {
+			assertEquals(3, stream.count());
+		}
+		// 開始時に読み取り専用のコネクションは読み取り専用のまま戻す
+		assertTrue(readOnlyList.isEmpty());
+		assertTrue(connectionList.get(0).isClosed());
+	}
+}
@@ -0,0 +1,53 @@
+package com.yoidukigembu.sql.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+
+/**
+ * テスト用の H2 インメモリデータベース<br>
+ * schema.dummy テーブルに id = 1 から rows 件のデータを登録する。
+ *
+ */
+public class TestDataSource {
+
+	private TestDataSource() {}
+	
+	/**
+	 * DataSource を作成
+	 * @param name データベース名
+	 * @param rows 登録する件数
+	 */
+	public static DataSource create(String name, int rows) throws SQLException {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+		
+		try (Connection con = dataSource.getConnection();
+				Statement st = con.createStatement()) {
+			st.execute("DROP SCHEMA IF EXISTS schema CASCADE");
+			st.execute("CREATE SCHEMA schema");
+			st.execute("CREATE TABLE schema.dummy ("
+					+ "id BIGINT PRIMARY KEY, "
+					+ "name VARCHAR(100), "
+					+ "mail_address VARCHAR(100), "
+					+ "age INT)");
+			
+			try (PreparedStatement ps = con.prepareStatement("INSERT INTO schema.dummy VALUES (?, ?, ?, ?)")) {
+				for (int i = 1; i <= rows; i++) {
+					ps.setLong(1, i);
+					ps.setString(2, "name" + i);
+					ps.setString(3, "mail" + i + "@example.com");
+					ps.setInt(4, 20 + i % 50);
+					ps.addBatch();
+				}
+				ps.executeBatch();
+			}
+		}
+		return dataSource;
+	}
+}
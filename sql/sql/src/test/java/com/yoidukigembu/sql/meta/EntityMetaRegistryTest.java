@@ -0,0 +1,54 @@
+package com.yoidukigembu.sql.meta;
+
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.exception.EntityException;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class EntityMetaRegistryTest extends TestCase {
+
+	@Test
+	public void テーブル情報のテスト() {
+		TableMeta meta = EntityMetaRegistry.get(DummyEntity.class);
+		assertEquals("schema", meta.getSchema().get());
+		assertEquals("dummy", meta.getName());
+		assertEquals("schema.dummy", meta.getQualifiedName());
+		assertSame(meta, EntityMetaRegistry.get(DummyEntity.class));
+	}
+	
+	@Test
+	public void カラム情報のテスト() {
+		TableMeta meta = EntityMetaRegistry.get(DummyEntity.class);
+		assertEquals("[id, name, mail_address, age]", meta.getColumnList().stream()
+				.map(ColumnMeta::getColumnName)
+				.collect(Collectors.toList())
+				.toString());
+		
+		assertEquals(1, meta.getIdList().size());
+		assertEquals("id", meta.getIdList().get(0).getColumnName());
+		assertEquals("mailAddress", meta.getColumn("mail_address").get().getFieldName());
+		assertFalse(meta.getColumn("memo").isPresent());
+	}
+	
+	@Test
+	public void Tableがない場合のテスト() {
+		try {
+			EntityMetaRegistry.get(String.class);
+			fail("EntityException must be occured");
+		} catch (EntityException e) {
+			assertEquals("@Table is not present. class:[java.lang.String]", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void パッケージの事前解析テスト() {
+		assertEquals(1, EntityMetaRegistry.preload("com.yoidukigembu.sql.entity"));
+	}
+}
@@ -0,0 +1,132 @@
+package com.yoidukigembu.sql.metrics;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.cache.QueryShape;
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.enums.QueryKind;
+import com.yoidukigembu.sql.jdbc.TestDataSource;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class QueryMetricsTest extends TestCase {
+
+	private DataSource dataSource;
+
+	private QueryMetrics metrics = QueryMetrics.getDefault();
+
+	@Before
+	public void before() throws SQLException {
+		dataSource = TestDataSource.create("metrics", 10);
+		metrics.reset();
+		metrics.setEnabled(true);
+	}
+
+	@After
+	public void after() {
+		metrics.setEnabled(false);
+		metrics.reset();
+	}
+
+	@Test
+	public void ヒストグラムのテスト() {
+		Histogram histogram = new Histogram();
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i);
+		}
+
+		Histogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(1000, snapshot.getCount());
+		assertEquals(500500, snapshot.getSum());
+		assertEquals(1000, snapshot.getMax());
+		// 相対誤差 12.5% 以内
+		assertTrue(Math.abs(snapshot.getValueAtPercentile(50) - 500) <= 500 / 8);
+		assertTrue(Math.abs(snapshot.getValueAtPercentile(99) - 990) <= 990 / 8);
+		assertEquals(1000, snapshot.getValueAtPercentile(100));
+		assertEquals(0, new Histogram().snapshot().getValueAtPercentile(50));
+	}
+
+	@Test
+	public void バケットの境界のテスト() {
+		for (long v : new long[] {0, 1, 7, 8, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE}) {
+			long upper = Histogram.upperBound(Histogram.index(v));
+			assertTrue(v + " <= " + upper, v <= upper);
+			assertTrue(v + " > " + upper, upper - v <= Math.max(0, v / 8));
+		}
+	}
+
+	@Test
+	public void 形状ごとに記録するテスト() {
+		for (long id = 1; id <= 3; id++) {
+			Select.from(DummyEntity.class)
+				.where(new BasicWhere().le("id", id))
+				.limit(10)
+				.list(dataSource);
+		}
+		Select.from(DummyEntity.class).where(new BasicWhere().le("id", 5L)).count(dataSource);
+
+		MetricsSnapshot snapshot = metrics.snapshot();
+		assertEquals(2, snapshot.getShapeList().size());
+
+		ShapeMetrics.Snapshot select = snapshot.getShapeList().stream()
+				.filter(s -> s.getKind() == QueryKind.SELECT)
+				.findFirst().get();
+		assertEquals(3, select.getExecutionCount());
+		assertEquals(3, select.getBuildTime().getCount());
+		assertEquals(6, select.getRows().getSum());
+		assertEquals(3, select.getRows().getMax());
+		assertFalse(select.getTemplate().contains("LIMIT"));
+		assertEquals(Select.from(DummyEntity.class).where(new BasicWhere().le("id", 1L)).limit(10).shape().getFingerprint(), 
+				select.getFingerprint());
+		assertTrue(snapshot.getShape(select.getFingerprint()).isPresent());
+
+		assertEquals(0.25, snapshot.getCountQueryShare(), 0.0001);
+
+		String export = snapshot.export();
+		assertEquals(3, export.split("\n").length);
+		assertTrue(export.contains(select.getFingerprintHex() + "\tSELECT\t3\t0\t"));
+	}
+
+	@Test
+	public void ページの件数を1回記録するテスト() {
+		Select.from(DummyEntity.class)
+			.where(new BasicWhere().le("id", 5L))
+			.limit(2)
+			.page(dataSource, Runnable::run);
+
+		ShapeMetrics.Snapshot count = metrics.snapshot().getShapeList().stream()
+				.filter(s -> s.getKind() == QueryKind.COUNT)
+				.findFirst().get();
+		assertEquals(1, count.getBuildTime().getCount());
+		assertEquals(1, count.getExecutionCount());
+	}
+
+	@Test
+	public void 無効の場合は記録しないテスト() {
+		metrics.setEnabled(false);
+		Select.from(DummyEntity.class).list(dataSource);
+		assertTrue(metrics.snapshot().getShapeList().isEmpty());
+	}
+
+	@Test
+	public void 最大形状数のテスト() {
+		QueryMetrics metrics = new QueryMetrics(1);
+		QueryShape shape1 = new QueryShape.Builder().add("SELECT 1").build();
+		QueryShape shape2 = new QueryShape.Builder().add("SELECT 2").build();
+		assertNotNull(metrics.get(QueryKind.SELECT, shape1, "SELECT 1"));
+		assertNull(metrics.get(QueryKind.SELECT, shape2, "SELECT 2"));
+		assertNotNull(metrics.get(QueryKind.SELECT, shape1, "SELECT 1"));
+		assertEquals(1, metrics.snapshot().getDroppedCount());
+	}
+}
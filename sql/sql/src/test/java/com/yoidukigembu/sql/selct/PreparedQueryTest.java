@@ -0,0 +1,59 @@
+package com.yoidukigembu.sql.selct;
+
+import static com.yoidukigembu.sql.where.Param.param;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.exception.SelectException;
+import com.yoidukigembu.sql.select.PreparedQuery;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class PreparedQueryTest extends TestCase {
+
+	@Test
+	public void 名前付きパラメータのテスト() {
+		PreparedQuery<DummyEntity> query = Select.from(DummyEntity.class)
+			.columns("id")
+			.where(new BasicWhere()
+					.eq("age", param("age"))
+					.in("id", Arrays.asList(1L, 2L))
+					.contains("name", param("name")))
+			.prepare();
+		assertEquals("SELECT id FROM schema.dummy WHERE age = ? AND id IN (?, ?) AND name LIKE ? ", query.getSql());
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("age", 20);
+		values.put("name", "abc");
+		assertEquals(Arrays.asList(20, 1L, 2L, "%abc%"), query.bind(values).getParams());
+
+		values.put("age", 30);
+		assertEquals(Arrays.asList(30, 1L, 2L, "%abc%"), query.bind(values).getParams());
+	}
+
+	@Test
+	public void 位置指定パラメータのテスト() {
+		PreparedQuery<DummyEntity> query = Select.from(DummyEntity.class)
+			.where(new BasicWhere().ge("age", param(1)).beginWith("name", param(0)))
+			.prepare();
+		assertEquals(Arrays.asList(20, "ab%"), query.bind("ab", 20).getParams());
+	}
+
+	@Test(expected = SelectException.class)
+	public void 値の指定がないテスト() {
+		Select.from(DummyEntity.class)
+			.where(new BasicWhere().eq("age", param("age")))
+			.prepare()
+			.bind(new HashMap<>());
+	}
+}
@@ -1,17 +1,26 @@
 package com.yoidukigembu.sql.selct;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import com.yoidukigembu.sql.cache.QueryTemplateCache;
 import com.yoidukigembu.sql.entity.DummyEntity;
 import com.yoidukigembu.sql.enums.OrderType;
+import com.yoidukigembu.sql.exception.SelectException;
 import com.yoidukigembu.sql.orderBy.OrderBy;
 import com.yoidukigembu.sql.select.Select;
 import com.yoidukigembu.sql.where.BasicWhere;
+import com.yoidukigembu.sql.where.InChunking;
 import com.yoidukigembu.sql.where.Where;
+import com.yoidukigembu.sql.where.Where.WhereHolder;
 
 import junit.framework.TestCase;
 
@@ -160,4 +169,263 @@ public class SelectTest extends TestCase {
 		
 			
 	}
+	
+	@Test
+	public void テンプレートキャッシュのテスト() {
+		QueryTemplateCache cache = QueryTemplateCache.getDefault();
+		
+		Select.from(DummyEntity.class, "d")
+			.where(new BasicWhere().eq("d", "id", 1).in("d", "type", Arrays.asList(1, 2)))
+			.limit(10)
+			.generate((sql, params) -> null);
+		
+		Select.from(DummyEntity.class, "d")
+			.where(new BasicWhere().eq("d", "id", 2).in("d", "type", Arrays.asList(3, 4)))
+			.limit(20)
+			.offset(40)
+			.generate((sql, params) -> {
+				assertEquals("SELECT d.* FROM schema.dummy d WHERE d.id = ? AND d.type IN (?, ?)  LIMIT 20 OFFSET 40", sql.trim());
+				assertEquals(Arrays.asList(2, 3, 4), params);
+				return null;
+			});
+		
+		long hit = cache.getHitCount();
+		Select.from(DummyEntity.class, "d")
+			.where(new BasicWhere().eq("d", "id", 3).in("d", "type", Arrays.asList(5, 6)))
+			.limit(30)
+			.offset(60)
+			.generate((sql, params) -> {
+				assertEquals("SELECT d.* FROM schema.dummy d WHERE d.id = ? AND d.type IN (?, ?)  LIMIT 30 OFFSET 60", sql.trim());
+				assertEquals(Arrays.asList(3, 5, 6), params);
+				return null;
+			});
+		assertEquals(hit + 1, cache.getHitCount());
+		
+		Select.from(DummyEntity.class, "d")
+			.where(new BasicWhere().eq("d", "id", 3).in("d", "type", Arrays.asList(5, 6, 7)))
+			.generate((sql, params) -> {
+				assertEquals("SELECT d.* FROM schema.dummy d WHERE d.id = ? AND d.type IN (?, ?, ?)", sql.trim());
+				assertEquals(Arrays.asList(3, 5, 6, 7), params);
+				return null;
+			});
+	}
+	
+	@Test
+	public void 独自実装のWHEREのテスト() {
+		// build(Consumer) のみを実装した WHERE
+		Where where = new Where() {
+			private final List<WhereHolder> holderList = new ArrayList<>();
+			
+			@Override
+			public List<WhereHolder> getHolderList() {
+				return holderList;
+			}
+			
+			@Override
+			public void build(Consumer consumer) {
+				consumer.consume("id = ? ", Arrays.asList(1L));
+			}
+		};
+		
+		Select.from(DummyEntity.class)
+			.where(where)
+			.generate((sql, params) -> {
+				assertEquals("SELECT * FROM schema.dummy WHERE id = ?", sql.trim());
+				assertEquals(Arrays.asList(1L), params);
+				return null;
+			});
+	}
+	
+	@Test
+	public void 分割生成のテスト() {
+		Where where = new BasicWhere()
+				.chunking(InChunking.splitStatements(2))
+				.in("id", Arrays.asList(1, 2, 3));
+		
+		List<String> sqlList = Select.from(DummyEntity.class)
+			.where(where)
+			.generateEach((sql, params) -> sql.trim() + params)
+			.collect(Collectors.toList());
+		assertEquals(Arrays.asList(
+				"SELECT * FROM schema.dummy WHERE id IN (?, ?)[1, 2]",
+				"SELECT * FROM schema.dummy WHERE id IN (?)[3]"), sqlList);
+		
+		sqlList = Select.from(DummyEntity.class)
+			.where(where)
+			.limit(10)
+			.generateEach((sql, params) -> sql.trim() + params)
+			.collect(Collectors.toList());
+		assertEquals(Arrays.asList(
+				"SELECT * FROM schema.dummy WHERE (id IN (?, ?) OR id IN (?))  LIMIT 10[1, 2, 3]"), sqlList);
+	}
+	
+	@Test
+	public void キーセットページングのテスト() {
+		Select.from(DummyEntity.class)
+			.orderBy(new OrderBy("id"))
+			.after(10L)
+			.limit(20)
+			.generate((sql, params) -> {
+				assertEquals("SELECT * FROM schema.dummy WHERE id > ? ORDER BY id ASC LIMIT 20", sql);
+				assertEquals(Arrays.asList(10L), params);
+				return null;
+			});
+		
+		Select.from(DummyEntity.class, "d")
+			.where(new BasicWhere().eq("d", "age", 30).orEq("d", "age", 31))
+			.orderBy(new OrderBy().desc("d", "age").desc("d", "id"))
+			.after(30, 5L)
+			.generate((sql, params) -> {
+				assertEquals("SELECT d.* FROM schema.dummy d WHERE (d.age = ? OR d.age = ?) AND (d.age, d.id) < (?, ?) ORDER BY d.age DESC, d.id DESC", sql);
+				assertEquals(Arrays.asList(30, 31, 30, 5L), params);
+				return null;
+			});
+		
+		Select.from(DummyEntity.class)
+			.where(new BasicWhere().eq("name", "a"))
+			.orderBy(new OrderBy().asc("age").desc("id"))
+			.after(30, 5L)
+			.generate((sql, params) -> {
+				assertEquals("SELECT * FROM schema.dummy WHERE name = ? AND age >= ? AND (age > ? OR (age = ? AND id < ?)) ORDER BY age ASC, id DESC", sql);
+				assertEquals(Arrays.asList("a", 30, 30, 30, 5L), params);
+				return null;
+			});
+	}
+	
+	@Test(expected = SelectException.class)
+	public void キーセットページングの値の数が不一致のテスト() {
+		Select.from(DummyEntity.class)
+			.orderBy(new OrderBy().asc("age").asc("id"))
+			.after(30)
+			.generate((sql, params) -> null);
+	}
+	
+	@Test
+	public void カウントのテスト() {
+		Select.from(DummyEntity.class, "d")
+			.columns("id", "name")
+			.where(new BasicWhere().gt("d", "age", 20))
+			.orderBy(new OrderBy("d", "id", OrderType.ASC))
+			.after(10L)
+			.limit(20)
+			.offset(40)
+			.generateCount((sql, params) -> {
+				assertEquals("SELECT COUNT(*) FROM schema.dummy d WHERE d.age > ? ", sql);
+				assertEquals(Arrays.asList(20), params);
+				return null;
+			});
+		
+		Select.from(DummyEntity.class)
+			.groupBy("age")
+			.orderBy("age")
+			.limit(5)
+			.generateCount((sql, params) -> {
+				assertEquals("SELECT COUNT(*) FROM (SELECT age FROM schema.dummy GROUP BY age) _C", sql);
+				assertEquals(0, params.size());
+				return null;
+			});
+		
+		// 集約関数・DISTINCT のカラムは SELECT カラムごと派生テーブルにする
+		Select.from(DummyEntity.class)
+			.columns("DISTINCT age")
+			.where(new BasicWhere().gt("age", 20))
+			.generateCount((sql, params) -> {
+				assertEquals("SELECT COUNT(*) FROM (SELECT DISTINCT age FROM schema.dummy WHERE age > ? ) _C", sql);
+				assertEquals(Arrays.asList(20), params);
+				return null;
+			});
+		
+		Select.from(DummyEntity.class)
+			.columns("MAX(age)")
+			.generateCount((sql, params) -> {
+				assertEquals("SELECT COUNT(*) FROM (SELECT MAX(age) FROM schema.dummy) _C", sql);
+				return null;
+			});
+	}
+	
+	@Test
+	public void 不変なセレクトのテスト() {
+		Select<DummyEntity> base = Select.from(DummyEntity.class)
+			.where(new BasicWhere().gt("age", 20))
+			.orderBy(new OrderBy("id"))
+			.freeze();
+		assertTrue(base.isFrozen());
+		
+		Select<DummyEntity> derived = base.columns("id").limit(10);
+		assertNotSame(base, derived);
+		assertTrue(derived.isFrozen());
+		
+		base.generate((sql, params) -> {
+			assertEquals("SELECT * FROM schema.dummy WHERE age > ?  ORDER BY id ASC", sql);
+			assertEquals(Arrays.asList(20), params);
+			return null;
+		});
+		derived.generate((sql, params) -> {
+			assertEquals("SELECT id FROM schema.dummy WHERE age > ?  ORDER BY id ASC LIMIT 10", sql);
+			assertEquals(Arrays.asList(20), params);
+			return null;
+		});
+		
+		Select<DummyEntity> plain = Select.from(DummyEntity.class);
+		assertSame(plain, plain.limit(1));
+	}
+
+	@Test
+	public void 形状のテスト() {
+		Select<DummyEntity> a = Select.from(DummyEntity.class)
+				.columns("id", "name")
+				.where(new BasicWhere().eq("name", "a"))
+				.orderBy(new OrderBy("id", OrderType.DESC))
+				.limit(10);
+		Select<DummyEntity> b = Select.from(DummyEntity.class)
+				.columns("id", "name")
+				.where(new BasicWhere().eq("name", "b"))
+				.orderBy(new OrderBy("id", OrderType.DESC))
+				.limit(20);
+
+		assertEquals(a.shape(), b.shape());
+		assertEquals(a.shape().getFingerprint(), b.shape().getFingerprint());
+		assertFalse(a.shape().equals(b.offset(5).shape()));
+		assertFalse(a.shape().equals(b.orderBy(new OrderBy("id", OrderType.ASC)).shape()));
+		assertFalse(a.shape().equals(b.groupBy("name").shape()));
+		
+		Select<DummyEntity> frozen = a.freeze();
+		assertSame(frozen.shape(), frozen.shape());
+		assertEquals(a.shape(), frozen.shape());
+	}
+
+	@Test
+	public void 追加先に直接生成するテスト() throws IOException {
+		Select<DummyEntity> select = Select.from(DummyEntity.class)
+				.columns("id")
+				.where(new BasicWhere().eq("name", "a").in("id", Arrays.asList(1, 2)))
+				.orderBy(new OrderBy("id", OrderType.DESC))
+				.limit(10);
+		String expected = "SELECT id FROM schema.dummy WHERE name = ? AND id IN (?, ?)  ORDER BY id DESC LIMIT 10";
+		
+		StringBuilder sql = new StringBuilder();
+		List<Object> params = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			sql.setLength(0);
+			params.clear();
+			select.renderTo(sql, params);
+			assertEquals(expected, sql.toString());
+			assertEquals(Arrays.asList("a", 1, 2), params);
+		}
+		
+		// 追加先の既存の内容は残す
+		sql.setLength(0);
+		sql.append("/* x */ ");
+		params.clear();
+		params.add("first");
+		select.renderTo(sql, params);
+		assertEquals("/* x */ " + expected, sql.toString());
+		assertEquals(Arrays.asList("first", "a", 1, 2), params);
+		
+		StringWriter writer = new StringWriter();
+		params.clear();
+		select.renderTo(writer, params);
+		assertEquals(expected, writer.toString());
+		assertEquals(Arrays.asList("a", 1, 2), params);
+	}
 }
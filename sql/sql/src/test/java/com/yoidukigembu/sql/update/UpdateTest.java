@@ -0,0 +1,64 @@
+package com.yoidukigembu.sql.update;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.jdbc.TestDataSource;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class UpdateTest extends TestCase {
+
+	private DataSource dataSource;
+
+	@Before
+	public void before() throws SQLException {
+		dataSource = TestDataSource.create("update", 30);
+	}
+
+	@Test
+	public void SQL文生成のテスト() {
+		Update.table(DummyEntity.class)
+			.set("name", "x")
+			.set("age", 1)
+			.where(new BasicWhere().eq("id", 3L))
+			.generate((sql, params) -> {
+				assertEquals("UPDATE schema.dummy SET name = ?, age = ? WHERE id = ? ", sql);
+				assertEquals(Arrays.asList("x", 1, 3L), params);
+				return null;
+			});
+	}
+
+	@Test
+	public void アップデート実行のテスト() {
+		assertEquals(1, Update.table(DummyEntity.class)
+				.set("name", "updated")
+				.where(new BasicWhere().eq("id", 3L))
+				.execute(dataSource));
+		assertEquals("updated", Select.from(DummyEntity.class)
+				.where(new BasicWhere().eq("id", 3L))
+				.one(dataSource).get().getName());
+	}
+
+	@Test
+	public void キーセットでの分割アップデートのテスト() {
+		assertEquals(25, Update.table(DummyEntity.class)
+				.set("age", 0)
+				.where(new BasicWhere().gt("id", 5))
+				.executeInChunks(dataSource, 7));
+		assertEquals(25L, Select.from(DummyEntity.class)
+				.where(new BasicWhere().eq("age", 0))
+				.count(dataSource));
+	}
+}
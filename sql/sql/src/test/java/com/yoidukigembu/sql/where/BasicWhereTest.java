@@ -1588,4 +1588,127 @@ public class BasicWhereTest extends TestCase {
 			assertEquals(String.format(NULL_FORMAT, "ALIAS.ex LIKE ?"), e.getMessage());
 		}
 	}
+	
+	@Test
+	public void inBucketing() {
+		assertEquals(1, InBucketing.POWER_OF_TWO.bucketSize(1));
+		assertEquals(4, InBucketing.POWER_OF_TWO.bucketSize(3));
+		assertEquals(8, InBucketing.POWER_OF_TWO.bucketSize(8));
+		assertEquals(16, InBucketing.POWER_OF_TWO.bucketSize(9));
+		
+		InBucketing ladder = InBucketing.ladder(100, 10, 50);
+		assertEquals(10, ladder.bucketSize(3));
+		assertEquals(50, ladder.bucketSize(11));
+		assertEquals(100, ladder.bucketSize(100));
+		assertEquals(300, ladder.bucketSize(201));
+		
+		assertEquals(3, InBucketing.NONE.bucketSize(3));
+	}
+	
+	@Test
+	public void inBucketingQuery() {
+		Where where = new BasicWhere();
+		where.in("id", Arrays.asList(1, 2, 3), InBucketing.POWER_OF_TWO)
+			.notIn("ALIAS", "type", Arrays.asList(7, 8, 9), InBucketing.ladder(5));
+		where.build((query, params) -> {
+			assertEquals("id IN (?, ?, ?, ?) AND ALIAS.type NOT IN (?, ?, ?, ?, ?)", query.trim());
+			assertEquals(Arrays.asList(1, 2, 3, 3, 7, 8, 9, 9, 9), params);
+		});
+	}
+	
+	@Test
+	public void inBucketingDefault() {
+		InBucketing.setDefault(InBucketing.POWER_OF_TWO);
+		try {
+			Where where = new BasicWhere();
+			where.in("id", Arrays.asList(1, 2, 3))
+				.in("type", Arrays.asList(1, 2, 3), InBucketing.NONE);
+			where.build((query, params) -> {
+				assertEquals("id IN (?, ?, ?, ?) AND type IN (?, ?, ?)", query.trim());
+				assertEquals(Arrays.asList(1, 2, 3, 3, 1, 2, 3), params);
+			});
+		} finally {
+			InBucketing.setDefault(null);
+		}
+	}
+	
+	@Test
+	public void inChunkingOrGroups() {
+		Where where = new BasicWhere().chunking(InChunking.orGroups(2));
+		where.in("id", Arrays.asList(1, 2, 3, 4, 5))
+			.notIn("type", Arrays.asList(6, 7, 8));
+		where.build((query, params) -> {
+			assertEquals("(id IN (?, ?) OR id IN (?, ?) OR id IN (?)) AND (type NOT IN (?, ?) AND type NOT IN (?))", query.trim());
+			assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), params);
+		});
+		
+		where = new BasicWhere().chunking(InChunking.orGroups(4));
+		where.in("id", Arrays.asList(1, 2, 3, 4, 5), InBucketing.POWER_OF_TWO);
+		where.build((query, params) -> {
+			assertEquals("(id IN (?, ?, ?, ?) OR id IN (?))", query.trim());
+			assertEquals(Arrays.asList(1, 2, 3, 4, 5), params);
+		});
+	}
+	
+	@Test
+	public void inChunkingSplitStatements() {
+		Where where = new BasicWhere().chunking(InChunking.splitStatements(2));
+		where.eq("status", 1)
+			.in("id", Arrays.asList(1, 2, 3));
+		
+		List<Where> whereList = where.split();
+		assertEquals(2, whereList.size());
+		whereList.get(0).build((query, params) -> {
+			assertEquals("status = ? AND id IN (?, ?)", query.trim());
+			assertEquals(Arrays.asList(1, 1, 2), params);
+		});
+		whereList.get(1).build((query, params) -> {
+			assertEquals("status = ? AND id IN (?)", query.trim());
+			assertEquals(Arrays.asList(1, 3), params);
+		});
+		
+		// 分割後も丸め方の未指定を保持し、デフォルトの変更に従う
+		assertNull(whereList.get(0).getHolderList().get(1).getSpecifiedBucketing());
+		
+		where.orEq("status", 2);
+		assertEquals(1, where.split().size());
+		where.build((query, params) -> {
+			assertEquals("status = ? AND (id IN (?, ?) OR id IN (?)) OR status = ?", query.trim());
+		});
+	}
+	
+	@Test
+	public void プリミティブの値のテスト() {
+		long id = 10L;
+		Where where = new BasicWhere()
+				.eq("id", id)
+				.orGe("a", "age", 20)
+				.ne("initial", 'x')
+				.inLongs("id", new long[] {1L, 2L})
+				.orNotInInts("age", new int[] {3});
+		where.build((query, params) -> {
+			assertEquals("id = ? OR a.age >= ? AND initial != ? AND id IN (?, ?) OR age NOT IN (?)", query.trim());
+			// char は int に広げず文字列として保持する
+			assertEquals(Arrays.asList(10L, 20, "x", 1L, 2L, 3), params);
+		});
+		
+		// short は int に広げず short のまま保持する
+		new BasicWhere().ne("grade", (short) 3).build((query, params) -> {
+			assertEquals(Arrays.asList((short) 3), params);
+			assertEquals(Short.class, params.get(0).getClass());
+		});
+		
+		// 配列は追加時にコピーする
+		long[] values = {1L, 2L};
+		where = new BasicWhere().inLongs("id", values);
+		values[0] = 5L;
+		where.build((query, params) -> assertEquals(Arrays.asList(1L, 2L), params));
+		
+		try {
+			new BasicWhere().inLongs("ex", new long[0]).build((query, params) -> {});
+			fail("WhereException must be occured");
+		} catch (WhereException e) {
+			assertEquals(String.format(EMPTY_FORMAT, "ex IN ()"), e.getMessage());
+		}
+	}
 }
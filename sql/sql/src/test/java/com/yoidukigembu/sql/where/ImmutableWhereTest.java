@@ -0,0 +1,101 @@
+package com.yoidukigembu.sql.where;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class ImmutableWhereTest extends TestCase {
+
+	@Test
+	public void 条件追加で元のWHEREが変わらないテスト() {
+		Where base = ImmutableWhere.empty().eq("age", 20);
+		Where byName = base.eq("name", "a");
+		Where byMail = base.orEq("mail_address", "b");
+
+		base.build((query, params) -> {
+			assertEquals("age = ?", query.trim());
+			assertEquals(Arrays.asList(20), params);
+		});
+		byName.build((query, params) -> {
+			assertEquals("age = ? AND name = ?", query.trim());
+			assertEquals(Arrays.asList(20, "a"), params);
+		});
+		byMail.build((query, params) -> {
+			assertEquals("age = ? OR mail_address = ?", query.trim());
+			assertEquals(Arrays.asList(20, "b"), params);
+		});
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void 条件リストが変更できないテスト() {
+		ImmutableWhere.empty().eq("age", 20).getHolderList().clear();
+	}
+
+	@Test
+	public void INの値がコピーされるテスト() {
+		List<Integer> values = new ArrayList<>(Arrays.asList(1, 2));
+		Where where = ImmutableWhere.empty().in("id", values);
+		values.add(3);
+
+		where.build((query, params) -> {
+			assertEquals("id IN (?, ?)", query.trim());
+			assertEquals(Arrays.asList(1, 2), params);
+		});
+	}
+
+	@Test
+	public void BasicWhereからの変換のテスト() {
+		BasicWhere basic = new BasicWhere().chunking(InChunking.orGroups(2));
+		basic.in("id", Arrays.asList(1, 2, 3));
+		ImmutableWhere where = ImmutableWhere.of(basic);
+		basic.eq("name", "a");
+
+		where.build((query, params) -> {
+			assertEquals("(id IN (?, ?) OR id IN (?))", query.trim());
+			assertEquals(Arrays.asList(1, 2, 3), params);
+		});
+		assertSame(where, ImmutableWhere.of(where));
+	}
+
+	@Test
+	public void 形状のテスト() {
+		Where base = ImmutableWhere.empty().eq("age", 20);
+		Where a = base.in("id", Arrays.asList(1, 2)).orIsNull("name");
+		Where b = base.in("id", Arrays.asList(3, 4)).orIsNull("name");
+
+		assertEquals(a.shape(), b.shape());
+		assertEquals(a.shape().getFingerprint(), b.shape().getFingerprint());
+		assertSame(a.shape(), a.shape());
+		assertFalse(a.shape().equals(base.in("id", Arrays.asList(1, 2, 3)).orIsNull("name").shape()));
+		assertFalse(a.shape().equals(base.in("id", Arrays.asList(1, 2)).isNull("name").shape()));
+		assertFalse(a.shape().equals(base.in("x", "id", Arrays.asList(1, 2)).orIsNull("name").shape()));
+
+		BasicWhere basic = new BasicWhere();
+		basic.eq("age", 30);
+		assertEquals(base.shape(), basic.shape());
+		basic.in("id", Arrays.asList(5, 6)).orIsNull("name");
+		assertEquals(a.shape(), basic.shape());
+		assertEquals(a.shape().hashCode(), basic.shape().hashCode());
+
+		// 途中が変更された場合は作り直す
+		basic.getHolderList().remove(2);
+		basic.isNull("name");
+		assertFalse(a.shape().equals(basic.shape()));
+		
+		// 最後の条件が同じでも、途中の変更は形状に反映する
+		BasicWhere edited = new BasicWhere();
+		edited.eq("age", 30).in("id", Arrays.asList(5, 6)).orIsNull("name");
+		assertEquals(a.shape(), edited.shape());
+		edited.getHolderList().set(0, new BasicWhere().eq("x", 1).getHolderList().get(0));
+		assertFalse(a.shape().equals(edited.shape()));
+		edited.getHolderList().subList(0, 1).clear();
+		assertEquals(new BasicWhere().in("id", Arrays.asList(5, 6)).orIsNull("name").shape(), edited.shape());
+	}
+}
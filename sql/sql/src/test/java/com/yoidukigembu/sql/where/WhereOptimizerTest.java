@@ -0,0 +1,135 @@
+package com.yoidukigembu.sql.where;
+
+import static com.yoidukigembu.sql.where.Param.param;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class WhereOptimizerTest extends TestCase {
+
+	@Test
+	public void ORの等価条件をINにまとめるテスト() {
+		new BasicWhere().optimize(true)
+			.eq("a", 1)
+			.orEq("a", 2)
+			.orIn("a", Arrays.asList(2, 3))
+			.orEq("b", 4)
+			.build((query, params) -> {
+				assertEquals("a IN (?, ?, ?) OR b = ?", query.trim());
+				assertEquals(Arrays.asList(1, 2, 3, 4), params);
+			});
+	}
+
+	@Test
+	public void AND条件を含むグループはまとめないテスト() {
+		new BasicWhere().optimize(true)
+			.eq("a", 1)
+			.eq("b", 2)
+			.orEq("a", 3)
+			.orEq("a", 4)
+			.build((query, params) -> {
+				assertEquals("a = ? AND b = ? OR a IN (?, ?)", query.trim());
+				assertEquals(Arrays.asList(1, 2, 3, 4), params);
+			});
+	}
+
+	@Test
+	public void 重複した条件を除くテスト() {
+		new BasicWhere().optimize(true)
+			.eq("a", 1)
+			.gt("b", 2)
+			.eq("a", 1)
+			.orGt("b", 2)
+			.eq("a", 1)
+			.build((query, params) -> {
+				assertEquals("a = ? AND b > ?", query.trim());
+				assertEquals(Arrays.asList(1, 2), params);
+			});
+	}
+
+	@Test
+	public void INの重複した値を除くテスト() {
+		new BasicWhere().optimize(true)
+			.in("a", Arrays.asList(1, 2, 1, 2))
+			.notIn("b", Arrays.asList(3, 3))
+			.build((query, params) -> {
+				assertEquals("a IN (?, ?) AND b != ?", query.trim());
+				assertEquals(Arrays.asList(1, 2, 3), params);
+			});
+	}
+
+	@Test
+	public void nullのみのINは変更しないテスト() {
+		new BasicWhere().optimize(true)
+			.in("a", Arrays.asList(null, null))
+			.notIn("b", Arrays.asList((Object) null))
+			.build((query, params) -> {
+				assertEquals("a IN (?, ?) AND b NOT IN (?)", query.trim());
+				assertEquals(Arrays.asList(null, null, null), params);
+			});
+	}
+
+	@Test
+	public void nullを含むINはORでまとめないテスト() {
+		new BasicWhere().optimize(true)
+			.in("a", Arrays.asList(null, null))
+			.orEq("b", 1)
+			.build((query, params) -> {
+				assertEquals("a IN (?, ?) OR b = ?", query.trim());
+				assertEquals(Arrays.asList(null, null, 1), params);
+			});
+		
+		new BasicWhere().optimize(true)
+			.in("a", Arrays.asList(1, null))
+			.orEq("a", 2)
+			.build((query, params) -> {
+				assertEquals("a IN (?, ?) OR a = ?", query.trim());
+				assertEquals(Arrays.asList(1, null, 2), params);
+			});
+	}
+
+	@Test
+	public void パラメータはまとめないテスト() {
+		Where where = ImmutableWhere.empty().optimize(true)
+			.eq("a", param("x"))
+			.orEq("a", 2)
+			.orEq("a", 3);
+		where.build((query, params) -> {
+			assertEquals("a = ? OR a IN (?, ?)", query.trim());
+			assertEquals(3, params.size());
+		});
+	}
+
+	@Test
+	public void 生成用のWHEREのテスト() {
+		BasicWhere basic = new BasicWhere().optimize(true);
+		basic.eq("a", 1).orEq("a", 2);
+		Where rendered = basic.forRender();
+		assertNotSame(basic, rendered);
+		assertEquals(1, rendered.getHolderList().size());
+		assertSame(rendered, rendered.forRender());
+		assertEquals(2, basic.getHolderList().size());
+
+		// 不変なWHEREは最適化した条件ホルダリストを保持する
+		ImmutableWhere immutable = ImmutableWhere.of(basic);
+		assertSame(immutable, immutable.forRender());
+		assertSame(immutable.renderHolderList(), immutable.renderHolderList());
+		immutable.build((query, params) -> assertEquals("a IN (?, ?)", query.trim()));
+	}
+
+	@Test
+	public void 最適化しない場合のテスト() {
+		new BasicWhere()
+			.eq("a", 1)
+			.orEq("a", 2)
+			.build((query, params) -> {
+				assertEquals("a = ? OR a = ?", query.trim());
+			});
+	}
+}
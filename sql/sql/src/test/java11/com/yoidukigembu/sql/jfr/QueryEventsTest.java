@@ -0,0 +1,74 @@
+package com.yoidukigembu.sql.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import com.yoidukigembu.sql.entity.DummyEntity;
+import com.yoidukigembu.sql.jdbc.TestDataSource;
+import com.yoidukigembu.sql.select.Select;
+import com.yoidukigembu.sql.where.BasicWhere;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import junit.framework.TestCase;
+
+@RunWith(JUnit4.class)
+public class QueryEventsTest extends TestCase {
+
+	@Test
+	public void JFRにイベントを記録するテスト() throws SQLException, IOException {
+		assertTrue(QueryEvents.isAvailable());
+		DataSource dataSource = TestDataSource.create("jfr", 10);
+
+		Path file = Files.createTempFile("query", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("com.yoidukigembu.sql.QueryBuild");
+			recording.enable("com.yoidukigembu.sql.QueryExecution");
+			recording.start();
+
+			Select<DummyEntity> query = Select.from(DummyEntity.class)
+				.columns("id")
+				.where(new BasicWhere().le("id", 3L));
+			query.list(dataSource);
+			new BasicWhere().eq("name", "a").build((where, params) -> {});
+
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			List<RecordedEvent> builds = events.stream()
+					.filter(e -> e.getEventType().getName().equals("com.yoidukigembu.sql.QueryBuild"))
+					.collect(Collectors.toList());
+			List<RecordedEvent> executions = events.stream()
+					.filter(e -> e.getEventType().getName().equals("com.yoidukigembu.sql.QueryExecution"))
+					.collect(Collectors.toList());
+
+			assertEquals(2, builds.size());
+			RecordedEvent select = builds.stream()
+					.filter(e -> e.getString("kind").equals("SELECT"))
+					.findFirst().get();
+			String sql = "SELECT id FROM schema.dummy WHERE id <= ? ";
+			assertEquals(query.shape().getFingerprint(), select.getLong("fingerprint"));
+			assertEquals(sql.length(), select.getInt("sqlLength"));
+			assertEquals(1, select.getInt("paramCount"));
+			assertTrue(builds.stream().anyMatch(e -> e.getString("kind").equals("WHERE")));
+
+			assertEquals(1, executions.size());
+			assertEquals(select.getLong("fingerprint"), executions.get(0).getLong("fingerprint"));
+			assertEquals(3L, executions.get(0).getLong("rows"));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}